@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark for validating a large file given as a path, which is read
+ * through the mapped memory, against the same file given as a plain input
+ * stream.
+ *
+ * @author leadpony
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileInputBenchmark {
+
+    private static final String SCHEMA = "{\"type\":\"array\",\"items\":{\"type\":\"object\"}}";
+    private static final int MEBIBYTE = 1 << 20;
+
+    /**
+     * The size of the file in mebibytes.
+     */
+    @Param({ "4", "64" })
+    public int size;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private Path path;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.service = JsonValidationService.newInstance();
+        this.schema = service.readSchema(new StringReader(SCHEMA));
+        this.path = Files.createTempFile("justify-benchmark", ".json");
+        writeInstance(path, (long) size * MEBIBYTE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public ValidationResult validateStream() {
+        try (InputStream in = Files.newInputStream(path)) {
+            return service.validate(in, schema);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validatePath() {
+        return service.validate(path, schema);
+    }
+
+    /**
+     * Writes an array of the metaschemas repeated until the specified size.
+     *
+     * @param path the path of the file to write.
+     * @param size the minimum size of the file in bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void writeInstance(Path path, long size) throws IOException {
+        String item = Resources.readMetaschema("draft_07");
+        long itemSize = item.getBytes(StandardCharsets.UTF_8).length;
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write('[');
+            writer.write(item);
+            for (long written = itemSize; written < size; written += itemSize + 1) {
+                writer.write(',');
+                writer.write(item);
+            }
+            writer.write(']');
+        }
+    }
+}
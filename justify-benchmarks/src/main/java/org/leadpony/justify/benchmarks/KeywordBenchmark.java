@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ProblemHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A benchmark for the keywords which are costly to evaluate.
+ *
+ * <p>
+ * Each case validates a generated instance of {@link #SIZE} elements against
+ * a schema dominated by the keyword.
+ * </p>
+ *
+ * @author leadpony
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordBenchmark {
+
+    static final int SIZE = 1000;
+
+    /**
+     * Cases of the benchmark.
+     *
+     * @author leadpony
+     */
+    public enum KeywordCase {
+        ENUM() {
+            @Override
+            JsonValue createSchema(JsonBuilderFactory f) {
+                JsonArrayBuilder values = f.createArrayBuilder();
+                for (int i = 0; i < SIZE; i++) {
+                    values.add(code(i));
+                }
+                return f.createObjectBuilder()
+                        .add("type", "array")
+                        .add("items", f.createObjectBuilder().add("enum", values))
+                        .build();
+            }
+
+            @Override
+            JsonValue createInstance(JsonBuilderFactory f) {
+                JsonArrayBuilder array = f.createArrayBuilder();
+                for (int i = 0; i < SIZE; i++) {
+                    array.add(code((i * 7) % SIZE));
+                }
+                return array.build();
+            }
+        },
+
+        FORMAT() {
+            @Override
+            JsonValue createSchema(JsonBuilderFactory f) {
+                return f.createObjectBuilder()
+                        .add("type", "array")
+                        .add("items", f.createObjectBuilder()
+                                .add("type", "object")
+                                .add("properties", f.createObjectBuilder()
+                                        .add("email", format(f, "email"))
+                                        .add("created", format(f, "date-time"))
+                                        .add("homepage", format(f, "uri"))
+                                        .add("address", format(f, "ipv4"))))
+                        .build();
+            }
+
+            @Override
+            JsonValue createInstance(JsonBuilderFactory f) {
+                JsonArrayBuilder array = f.createArrayBuilder();
+                for (int i = 0; i < SIZE; i++) {
+                    array.add(f.createObjectBuilder()
+                            .add("email", "user" + i + "@example.org")
+                            .add("created", "2020-11-03T12:34:56.789Z")
+                            .add("homepage", "https://example.org/users/" + i)
+                            .add("address", "192.168." + (i / 256) + "." + (i % 256)));
+                }
+                return array.build();
+            }
+
+            private JsonObjectBuilder format(JsonBuilderFactory f, String attribute) {
+                return f.createObjectBuilder().add("format", attribute);
+            }
+        },
+
+        ONE_OF() {
+            private static final int VARIANTS = 20;
+
+            @Override
+            JsonValue createSchema(JsonBuilderFactory f) {
+                JsonArrayBuilder variants = f.createArrayBuilder();
+                for (int i = 0; i < VARIANTS; i++) {
+                    variants.add(f.createObjectBuilder()
+                            .add("type", "object")
+                            .add("properties", f.createObjectBuilder()
+                                    .add("kind", f.createObjectBuilder().add("const", "kind" + i))
+                                    .add("value", f.createObjectBuilder().add("type", "integer")))
+                            .add("required", f.createArrayBuilder().add("kind").add("value")));
+                }
+                return f.createObjectBuilder()
+                        .add("type", "array")
+                        .add("items", f.createObjectBuilder().add("oneOf", variants))
+                        .build();
+            }
+
+            @Override
+            JsonValue createInstance(JsonBuilderFactory f) {
+                JsonArrayBuilder array = f.createArrayBuilder();
+                for (int i = 0; i < SIZE; i++) {
+                    array.add(f.createObjectBuilder()
+                            .add("kind", "kind" + (i % VARIANTS))
+                            .add("value", i));
+                }
+                return array.build();
+            }
+        },
+
+        PATTERN_PROPERTIES() {
+            private static final int PATTERNS = 50;
+
+            @Override
+            JsonValue createSchema(JsonBuilderFactory f) {
+                JsonObjectBuilder patterns = f.createObjectBuilder();
+                for (int i = 0; i < PATTERNS; i++) {
+                    patterns.add("^p" + i + "_[0-9]+$", f.createObjectBuilder().add("type", "integer"));
+                }
+                return f.createObjectBuilder()
+                        .add("type", "object")
+                        .add("patternProperties", patterns)
+                        .add("additionalProperties", false)
+                        .build();
+            }
+
+            @Override
+            JsonValue createInstance(JsonBuilderFactory f) {
+                JsonObjectBuilder object = f.createObjectBuilder();
+                for (int i = 0; i < SIZE; i++) {
+                    object.add("p" + (i % PATTERNS) + "_" + i, i);
+                }
+                return object.build();
+            }
+        },
+
+        UNIQUE_ITEMS() {
+            @Override
+            JsonValue createSchema(JsonBuilderFactory f) {
+                return f.createObjectBuilder()
+                        .add("type", "array")
+                        .add("uniqueItems", true)
+                        .build();
+            }
+
+            @Override
+            JsonValue createInstance(JsonBuilderFactory f) {
+                JsonArrayBuilder array = f.createArrayBuilder();
+                for (int i = 0; i < SIZE; i++) {
+                    array.add(f.createObjectBuilder()
+                            .add("id", i)
+                            .add("name", "item" + i)
+                            .add("tags", f.createArrayBuilder().add("a").add(i % 10)));
+                }
+                return array.build();
+            }
+        };
+
+        abstract JsonValue createSchema(JsonBuilderFactory f);
+
+        abstract JsonValue createInstance(JsonBuilderFactory f);
+
+        private static String code(int i) {
+            return String.format("CODE-%04d", i);
+        }
+    }
+
+    @Param
+    public KeywordCase keyword;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String source;
+    private int problemCount;
+    private final ProblemHandler handler = problems -> problemCount += problems.size();
+
+    @Setup
+    public void setUp() {
+        this.service = JsonValidationService.newInstance();
+        JsonBuilderFactory builderFactory = service.getJsonProvider().createBuilderFactory(null);
+        String schemaSource = keyword.createSchema(builderFactory).toString();
+        this.schema = service.readSchema(new StringReader(schemaSource));
+        this.source = keyword.createInstance(builderFactory).toString();
+    }
+
+    @Benchmark
+    public int validate(Blackhole blackhole) {
+        problemCount = 0;
+        try (JsonParser parser = service.createParser(new StringReader(source), schema, handler)) {
+            while (parser.hasNext()) {
+                blackhole.consume(parser.next());
+            }
+        }
+        return problemCount;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A utility class for loading resources used by the benchmarks.
+ *
+ * @author leadpony
+ */
+final class Resources {
+
+    private static final String METASCHEMA_PATH = "/org/leadpony/justify/internal/schema/%s/schema.json";
+
+    private Resources() {
+    }
+
+    /**
+     * Reads the metaschema of the specified draft as a string.
+     *
+     * @param draft the name of the draft, such as "draft_07".
+     * @return the content of the metaschema.
+     */
+    static String readMetaschema(String draft) {
+        return readString(String.format(METASCHEMA_PATH, draft));
+    }
+
+    static String readString(String name) {
+        try (InputStream in = Resources.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Resource not found: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = in.read(buffer)) > 0) {
+                out.write(buffer, 0, length);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
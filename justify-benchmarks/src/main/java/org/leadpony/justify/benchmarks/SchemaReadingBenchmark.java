@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark for reading the official metaschemas as JSON schemas.
+ *
+ * @author leadpony
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaReadingBenchmark {
+
+    @Param({ "draft_04", "draft_06", "draft_07", "draft_2019_09" })
+    public String metaschema;
+
+    @Param({ "false", "true" })
+    public boolean schemaValidation;
+
+    private JsonSchemaReaderFactory readerFactory;
+    private String source;
+
+    @Setup
+    public void setUp() {
+        JsonValidationService service = JsonValidationService.newInstance();
+        this.readerFactory = service.createSchemaReaderFactoryBuilder()
+                .withSchemaValidation(schemaValidation)
+                .build();
+        this.source = Resources.readMetaschema(metaschema);
+    }
+
+    @Benchmark
+    public JsonSchema readSchema() {
+        try (JsonSchemaReader reader = readerFactory.createSchemaReader(new StringReader(source))) {
+            return reader.read();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.SpecVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A benchmark over the Draft-07 corpus of JSON-Schema-Test-Suite.
+ *
+ * <p>
+ * The location of the test suite can be changed with the parameter
+ * {@code suite}. The files which require remote schemas are not used.
+ * </p>
+ *
+ * @author leadpony
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestSuiteBenchmark {
+
+    @Param({ "../JSON-Schema-Test-Suite/tests/draft7" })
+    public String suite;
+
+    private JsonValidationService service;
+    private JsonSchemaReaderFactory readerFactory;
+    private final List<String> schemaSources = new ArrayList<>();
+    private final List<JsonSchema> schemas = new ArrayList<>();
+    private final List<List<String>> instanceSources = new ArrayList<>();
+    private int problemCount;
+    private final ProblemHandler handler = problems -> problemCount += problems.size();
+
+    @Setup
+    public void setUp() throws IOException {
+        this.service = JsonValidationService.newInstance();
+        this.readerFactory = service.createSchemaReaderFactoryBuilder()
+                .withDefaultSpecVersion(SpecVersion.DRAFT_07)
+                .build();
+
+        Path dir = Paths.get(suite);
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalStateException("Test suite not found: " + dir.toAbsolutePath());
+        }
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream
+                    .filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .filter(path -> !path.getFileName().toString().startsWith("refRemote"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            for (JsonValue group : readArray(file)) {
+                JsonObject object = group.asJsonObject();
+                String schemaSource = object.get("schema").toString();
+                List<String> instances = new ArrayList<>();
+                for (JsonValue test : object.getJsonArray("tests")) {
+                    instances.add(test.asJsonObject().get("data").toString());
+                }
+                schemaSources.add(schemaSource);
+                schemas.add(readSchema(schemaSource));
+                instanceSources.add(instances);
+            }
+        }
+    }
+
+    @Benchmark
+    public void readSchemas(Blackhole blackhole) {
+        for (String source : schemaSources) {
+            blackhole.consume(readSchema(source));
+        }
+    }
+
+    @Benchmark
+    public int validateInstances(Blackhole blackhole) {
+        problemCount = 0;
+        for (int i = 0; i < schemas.size(); i++) {
+            JsonSchema schema = schemas.get(i);
+            for (String source : instanceSources.get(i)) {
+                try (JsonParser parser = service.createParser(new StringReader(source), schema, handler)) {
+                    while (parser.hasNext()) {
+                        blackhole.consume(parser.next());
+                    }
+                }
+            }
+        }
+        return problemCount;
+    }
+
+    private JsonSchema readSchema(String source) {
+        try (JsonSchemaReader reader = readerFactory.createSchemaReader(new StringReader(source))) {
+            return reader.read();
+        }
+    }
+
+    private JsonArray readArray(Path path) {
+        try (Reader source = Files.newBufferedReader(path);
+                JsonReader reader = service.getJsonProvider().createReader(source)) {
+            return reader.readArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ProblemHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A benchmark for validating the official metaschemas against the Draft-07
+ * metaschema.
+ *
+ * <p>
+ * The parsing without validation is also measured as the baseline.
+ * </p>
+ *
+ * @author leadpony
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({ "draft_04", "draft_06", "draft_07" })
+    public String instance;
+
+    @Param({ "false", "true" })
+    public boolean warmedUp;
+
+    private JsonValidationService service;
+    private JsonProvider jsonProvider;
+    private JsonSchema schema;
+    private String source;
+    private int problemCount;
+    private final ProblemHandler handler = problems -> problemCount += problems.size();
+
+    @Setup
+    public void setUp() {
+        this.service = JsonValidationService.newInstance();
+        this.jsonProvider = service.getJsonProvider();
+        JsonSchema schema = service.readSchema(new StringReader(Resources.readMetaschema("draft_07")));
+        this.schema = warmedUp ? service.warmUp(schema) : schema;
+        this.source = Resources.readMetaschema(instance);
+    }
+
+    @Benchmark
+    public void parseWithoutValidation(Blackhole blackhole) {
+        try (JsonParser parser = jsonProvider.createParser(new StringReader(source))) {
+            while (parser.hasNext()) {
+                blackhole.consume(parser.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public int validateWithParser(Blackhole blackhole) {
+        problemCount = 0;
+        try (JsonParser parser = service.createParser(new StringReader(source), schema, handler)) {
+            while (parser.hasNext()) {
+                blackhole.consume(parser.next());
+            }
+        }
+        return problemCount;
+    }
+
+    @Benchmark
+    public JsonValue validateWithReader() {
+        problemCount = 0;
+        try (JsonReader reader = service.createReader(new StringReader(source), schema, handler)) {
+            return reader.readValue();
+        }
+    }
+}
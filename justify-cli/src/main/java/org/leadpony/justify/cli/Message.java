@@ -39,10 +39,12 @@ enum Message {
     SCHEMA_INVALID,
     INSTANCE_VALID,
     INSTANCE_INVALID,
+    LINE_INVALID,
     CATALOG_INVALID,
 
     SCHEMA_MALFORMED,
     INSTANCE_MALFORMED,
+    LINE_MALFORMED,
     CATALOG_MALFORMED,
 
     PATH_OR_URL,
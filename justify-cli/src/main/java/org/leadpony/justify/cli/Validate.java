@@ -42,6 +42,7 @@ import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.LineProblemHandler;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.cli.Console.Color;
@@ -84,8 +85,13 @@ class Validate extends AbstractCommand {
         List<Location> instances = (List<Location>) getOptionValues(ValidateOption.INSTANCE);
         JsonSchema schema = readSchemaAt(location);
         if (schema != null) {
+            final boolean ndjson = containsOption(ValidateOption.NDJSON);
             for (Location instance : instances) {
-                validateInstanceAt(instance, schema);
+                if (ndjson) {
+                    validateLinesAt(instance, schema);
+                } else {
+                    validateInstanceAt(instance, schema);
+                }
             }
         } else if (!instances.isEmpty()) {
             throw new CommandException(SCHEMA_FAILED);
@@ -163,6 +169,34 @@ class Validate extends AbstractCommand {
         }
     }
 
+    /**
+     * Validates each line of a JSON instance in newline-delimited JSON.
+     *
+     * @param location the location of the JSON instance to be validated.
+     * @param schema   the JSON schema against which the instance to be validated.
+     */
+    private void validateLinesAt(Location location, JsonSchema schema) {
+        console.print(VALIDATE_INSTANCE, location);
+
+        LineHandler handler = new LineHandler();
+        try (InputStream in = openInstance(location)) {
+            service.validateLines(in, schema, handler);
+        } catch (IOException e) {
+            throw new CommandException(ACCESS_FAILED, location);
+        } catch (JsonException e) {
+            throw new CommandException(e);
+        }
+
+        if (handler.malformed) {
+            setStatus(Status.INVALID);
+        } else if (handler.problemCount == 0) {
+            console.withColor(Color.SUCCESS).print(INSTANCE_VALID, location);
+        } else {
+            console.withColor(Color.DANGER).print(INSTANCE_INVALID, location, handler.problemCount);
+            setStatus(Status.INVALID);
+        }
+    }
+
     private void populateCatalog() {
         Location catalog = (Location) getOptionValue(ValidateOption.CATALOG);
         if (catalog != null) {
@@ -349,6 +383,37 @@ class Validate extends AbstractCommand {
         return EnumSet.of(ValidateOption.SCHEMA);
     }
 
+    /**
+     * A handler of the lines in newline-delimited JSON.
+     *
+     * @author leadpony
+     */
+    private class LineHandler implements LineProblemHandler {
+
+        private long problemCount;
+        private boolean malformed;
+
+        @Override
+        public void handleLine(long lineNumber, List<Problem> problems) {
+            if (!problems.isEmpty()) {
+                long count = Problems.countLeast(problems);
+                problemPrinter.handleProblems(problems);
+                console.withColor(Color.DANGER).print(LINE_INVALID, String.valueOf(lineNumber), count);
+                problemCount += count;
+            }
+        }
+
+        @Override
+        public void handleError(long lineNumber, JsonException exception) {
+            if (exception instanceof JsonParsingException) {
+                console.withColor(Color.DANGER).print(LINE_MALFORMED, String.valueOf(lineNumber), exception);
+                malformed = true;
+            } else {
+                throw exception;
+            }
+        }
+    }
+
     /**
      * A schema catalog.
      *
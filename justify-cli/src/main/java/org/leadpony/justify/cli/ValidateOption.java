@@ -30,7 +30,8 @@ enum ValidateOption implements Option {
     INSTANCE("-i"),
     REFERENCE("-r"),
     CATALOG("-catalog"),
-    STRICT("-strict");
+    STRICT("-strict"),
+    NDJSON("-ndjson");
 
     private final String[] names;
 
@@ -92,7 +92,15 @@ public class ValidateTest {
                 Fixture.of(Status.INVALID, "-s", "company.schema.json", "-catalog", "catalog.json", "-i",
                         "company-invalid.json"),
                 Fixture.of(Status.INVALID, "-s", "company.schema.json", "-catalog", "catalog.json", "-i",
-                        "company-invalid.json", "company.json"));
+                        "company-invalid.json", "company.json"),
+
+                // Validates newline-delimited JSON.
+                Fixture.of(Status.VALID, "-ndjson", "-s", "person.schema.json", "-i", "persons.ndjson"),
+                Fixture.of(Status.INVALID, "-ndjson", "-s", "person.schema.json", "-i", "persons-invalid.ndjson"),
+                Fixture.of(Status.INVALID, "-ndjson", "-s", "person.schema.json", "-i", "persons-malformed.ndjson"),
+                Fixture.of(Status.FAILED, "-ndjson", "-s", "person.schema.json", "-i", "nonexistent.ndjson"),
+                Fixture.of(Status.INVALID, "-ndjson", "-s", "person.schema.json", "-i", "persons-invalid.ndjson",
+                        "persons.ndjson"));
     }
 
     private static int index = 1;
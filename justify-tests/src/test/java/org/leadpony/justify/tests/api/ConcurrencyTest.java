@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.tests.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.tests.helper.ValidationServiceType;
+
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+/**
+ * Stress tests for using a single {@link JsonValidationService} from many
+ * threads.
+ *
+ * @author leadpony
+ */
+public class ConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    private static final String SCHEMA = "{"
+            + "\"type\":\"object\","
+            + "\"properties\":{"
+            + "\"mail\":{\"format\":\"email\"},"
+            + "\"data\":{\"contentEncoding\":\"base64\",\"contentMediaType\":\"application/json\"}"
+            + "}"
+            + "}";
+
+    private static final String VALID_INSTANCE = "{\"mail\":\"john@example.org\",\"data\":\"e30=\"}";
+    private static final String INVALID_INSTANCE = "{\"mail\":\"john\"}";
+
+    @RepeatedTest(5)
+    public void buildingReaderFactoriesConcurrentlyShouldSucceed() throws Exception {
+        // A fresh service with empty caches for each repetition.
+        JsonValidationService service = JsonValidationService.newInstance(
+                ValidationServiceType.DEFAULT.getJsonProvider());
+
+        List<Integer> results = runConcurrently(index -> {
+            JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                    .withCustomFormatAttributes(index % 2 == 0)
+                    .withStrictFormats(index % 3 == 0)
+                    .withDefaultSpecVersion(SpecVersion.values()[index % SpecVersion.values().length])
+                    .build();
+            JsonSchema schema;
+            try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(SCHEMA))) {
+                schema = reader.read();
+            }
+            return validate(service, schema, VALID_INSTANCE) + validate(service, schema, INVALID_INSTANCE);
+        });
+
+        assertThat(results).hasSize(THREADS).containsOnly(1);
+    }
+
+    @RepeatedTest(5)
+    public void validatingWithSharedSchemaConcurrentlyShouldSucceed() throws Exception {
+        JsonValidationService service = JsonValidationService.newInstance(
+                ValidationServiceType.DEFAULT.getJsonProvider());
+        JsonSchema schema = service.readSchema(new StringReader(SCHEMA));
+
+        List<Integer> results = runConcurrently(index -> {
+            String instance = (index % 2 == 0) ? VALID_INSTANCE : INVALID_INSTANCE;
+            return validate(service, schema, instance);
+        });
+
+        for (int i = 0; i < THREADS; i++) {
+            assertThat(results.get(i)).isEqualTo(i % 2);
+        }
+    }
+
+    /**
+     * A task run by each thread.
+     *
+     * @author leadpony
+     */
+    @FunctionalInterface
+    private interface Task {
+        int run(int index) throws Exception;
+    }
+
+    private static List<Integer> runConcurrently(Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final int index = i;
+                Callable<Integer> callable = () -> {
+                    start.await();
+                    return task.run(index);
+                };
+                futures.add(executor.submit(callable));
+            }
+            start.countDown();
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int validate(JsonValidationService service, JsonSchema schema, String instance) {
+        List<Problem> problems = new ArrayList<>();
+        try (JsonReader reader = service.createReader(
+                new StringReader(instance), schema, problems::addAll)) {
+            JsonValue value = reader.readValue();
+            assertThat(value).isNotNull();
+        }
+        return problems.isEmpty() ? 0 : 1;
+    }
+}
@@ -19,10 +19,16 @@ package org.leadpony.justify.tests.api;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.StringReader;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
+import jakarta.json.JsonException;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParsingException;
 
@@ -35,6 +41,8 @@ import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.keyword.RefKeyword;
 import org.leadpony.justify.tests.helper.JsonAssertions;
 import org.leadpony.justify.tests.helper.JsonSource;
 import org.leadpony.justify.tests.helper.Loggable;
@@ -165,6 +173,104 @@ public class JsonSchemaReaderTest implements Loggable {
         assertThat(thrown).isNull();
     }
 
+    private static final String SCHEMA_WITH_LATE_ID = "{"
+            + "\"properties\":{\"foo\":{\"$ref\":\"item.json\"}},"
+            + "\"definitions\":{\"item\":{\"$id\":\"item.json\",\"type\":\"integer\"}},"
+            + "\"$id\":\"http://example.org/root.json\""
+            + "}";
+
+    @Test
+    public void readShouldResolveReferencesAgainstLateIdWhenStreaming() {
+        JsonSchema schema = readStreamingSchema(SCHEMA_WITH_LATE_ID);
+
+        assertThat(schema.id()).isEqualTo(URI.create("http://example.org/root.json"));
+        assertThat(schema.toJson()).isEqualTo(readSchema(SCHEMA_WITH_LATE_ID).toJson());
+        assertThat(validate(schema, "{\"foo\":42}")).isTrue();
+        assertThat(validate(schema, "{\"foo\":\"bar\"}")).isFalse();
+    }
+
+    @Test
+    public void readShouldReportUnknownKeywordOnceWhenStreaming() {
+        String source = "{\"foo\":1,\"type\":\"string\",\"$id\":\"http://example.org/root.json\"}";
+        JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withStrictKeywords(true)
+                .withSchemaStreaming(true)
+                .build();
+        JsonSchemaReader reader = factory.createSchemaReader(new StringReader(source));
+        Throwable thrown = catchThrowable(() -> reader.read());
+        assertThat(thrown).isNotNull().isInstanceOf(JsonValidatingException.class);
+        JsonValidatingException e = (JsonValidatingException) thrown;
+        assertThat(e.getProblems()).hasSize(1);
+    }
+
+    @Test
+    public void toJsonShouldReturnOriginalSchemaWhenStreaming() {
+        String source = "{\"type\":\"object\",\"properties\":{\"a\":{\"enum\":[1,\"b\",null]},"
+                + "\"b\":{\"items\":[true,{\"const\":{\"x\":[1,2]}}],\"default\":\"\\\"q\\\"\"}},"
+                + "\"anyOf\":[{\"required\":[\"a\"]},false]}";
+        JsonSchema schema = readStreamingSchema(source);
+
+        assertThat(schema.toJson()).isEqualTo(readSchema(source).toJson());
+        assertThat(schema.toString()).isEqualTo(readSchema(source).toString());
+    }
+
+    @Test
+    public void readShouldResolveReferenceTargetsBeforeReturning() {
+        JsonSchema schema = readSchema(SCHEMA_WITH_LATE_ID);
+
+        JsonSchema referring = schema.findSchema("/properties/foo").get();
+        RefKeyword ref = (RefKeyword) referring.getKeywordsAsMap().get("$ref");
+
+        assertThat(ref.getTargetSchema()).isSameAs(schema.findSchema("/definitions/item").get());
+    }
+
+    private static final String SCHEMA_WITH_EXTERNAL_REF = "{"
+            + "\"properties\":{\"foo\":{\"$ref\":\"http://example.org/item.json\"}},"
+            + "\"additionalProperties\":{\"$ref\":\"#/properties/foo\"}"
+            + "}";
+
+    @Test
+    public void readBinarySchemaShouldRestoreLinkedReferences() {
+        JsonSchema item = readSchema("{\"type\":\"integer\",\"minimum\":0}");
+        JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withSchemaResolver(id -> id.equals(URI.create("http://example.org/item.json")) ? item : null)
+                .build();
+        JsonSchema original;
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(SCHEMA_WITH_EXTERNAL_REF))) {
+            original = reader.read();
+        }
+
+        JsonSchema schema = SERVICE.readBinarySchema(new ByteArrayInputStream(writeBinarySchema(original)));
+
+        assertThat(schema.toJson()).isEqualTo(original.toJson());
+        assertThat(validate(schema, "{\"foo\":1,\"bar\":2}")).isTrue();
+        assertThat(validate(schema, "{\"foo\":-1}")).isFalse();
+        assertThat(validate(schema, "{\"bar\":\"baz\"}")).isFalse();
+    }
+
+    @Test
+    public void readBinarySchemaShouldThrowIfCorrupted() {
+        byte[] bytes = writeBinarySchema(readSchema(SCHEMA_WITH_LATE_ID));
+        bytes[bytes.length / 2] ^= 1;
+
+        Throwable thrown = catchThrowable(() -> SERVICE.readBinarySchema(new ByteArrayInputStream(bytes)));
+
+        assertThat(thrown).isInstanceOf(JsonException.class);
+        LOG.info(thrown.getMessage());
+    }
+
+    @Test
+    public void readBinarySchemaShouldThrowIfFormatIsIncompatible() {
+        byte[] bytes = writeBinarySchema(readSchema(SCHEMA_WITH_LATE_ID));
+        // The version of the format follows the magic number.
+        bytes[5]++;
+
+        Throwable thrown = catchThrowable(() -> SERVICE.readBinarySchema(new ByteArrayInputStream(bytes)));
+
+        assertThat(thrown).isInstanceOf(JsonException.class);
+        LOG.info(thrown.getMessage());
+    }
+
     /**
      * @author leadpony
      */
@@ -214,6 +320,29 @@ public class JsonSchemaReaderTest implements Loggable {
         return readSchema(value.toString());
     }
 
+    private static JsonSchema readStreamingSchema(String string) {
+        JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withSchemaStreaming(true)
+                .build();
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(string))) {
+            return reader.read();
+        }
+    }
+
+    private static byte[] writeBinarySchema(JsonSchema schema) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SERVICE.writeBinarySchema(schema, out);
+        return out.toByteArray();
+    }
+
+    private static boolean validate(JsonSchema schema, String instance) {
+        List<Problem> problems = new ArrayList<>();
+        try (JsonReader reader = SERVICE.createReader(new StringReader(instance), schema, problems::addAll)) {
+            reader.readValue();
+        }
+        return problems.isEmpty();
+    }
+
     private static JsonSchema readSchema(String string) {
         JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactoryBuilder()
                 .withSpecVersionDetection(false)
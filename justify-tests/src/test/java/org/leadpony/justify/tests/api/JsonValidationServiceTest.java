@@ -21,27 +21,39 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.LineProblemHandler;
+import org.leadpony.justify.api.NonBlockingValidator;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.ValidationResult;
 import org.leadpony.justify.tests.helper.JsonExample;
 import org.leadpony.justify.tests.helper.SchemaExample;
 import org.leadpony.justify.tests.helper.ValidationServiceType;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import jakarta.json.JsonException;
 import jakarta.json.JsonReader;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
 
 /**
  * A test class for testing the {@link JsonValidationService} implementation.
@@ -274,6 +286,40 @@ public class JsonValidationServiceTest {
             assertThat(problems.isEmpty()).isEqualTo(example.isValid());
         }
 
+        /* Tests for warmUp() */
+
+        @ParameterizedTest()
+        @EnumSource(SchemaExample.class)
+        public void warmUpShouldPreserveSchema(SchemaExample example) throws IOException {
+            JsonSchema schema = sut.readSchema(getPathOf(example));
+            JsonSchema warmedUp = sut.warmUp(schema);
+
+            assertThat(warmedUp).isSameAs(schema);
+            assertThat(warmedUp.toJson()).isEqualTo(example.getAsJson());
+        }
+
+        @ParameterizedTest()
+        @EnumSource(JsonExample.class)
+        public void warmedUpSchemaShouldValidateInstance(JsonExample example) {
+            JsonSchema schema = sut.warmUp(sut.readSchema(getSchemaStreamFrom(example)));
+
+            for (int i = 0; i < 2; i++) {
+                List<Problem> problems = new ArrayList<>();
+                InputStream source = getStreamFrom(example);
+                try (JsonParser parser = sut.createParser(source, schema, problems::addAll)) {
+                    parseAll(parser);
+                }
+                assertThat(problems.isEmpty()).isEqualTo(example.isValid());
+            }
+        }
+
+        @Test
+        public void warmUpShouldThrowNullPointerExceptionIfSchemaIsNull() {
+            Throwable thrown = catchThrowable(() -> sut.warmUp(null));
+
+            assertThat(thrown).isInstanceOf(NullPointerException.class);
+        }
+
         /* */
 
         @Test
@@ -330,6 +376,75 @@ public class JsonValidationServiceTest {
                     .hasMessageContaining("nonexistent.json");
         }
 
+        /* Tests for validate() */
+
+        @ParameterizedTest()
+        @EnumSource(JsonExample.class)
+        public void validateShouldValidateInputStream(JsonExample example) throws IOException {
+            JsonSchema schema = sut.readSchema(getSchemaStreamFrom(example));
+
+            ValidationResult result;
+            try (InputStream source = getStreamFrom(example)) {
+                result = sut.validate(source, schema);
+            }
+
+            assertThat(result.isValid()).isEqualTo(example.isValid());
+            assertThat(result.getProblems().isEmpty()).isEqualTo(example.isValid());
+        }
+
+        @ParameterizedTest()
+        @EnumSource(JsonExample.class)
+        public void validateShouldValidateReader(JsonExample example) throws IOException {
+            JsonSchema schema = sut.readSchema(getSchemaStreamFrom(example));
+
+            ValidationResult result;
+            try (Reader source = Files.newBufferedReader(getPathOf(example))) {
+                result = sut.validate(source, schema);
+            }
+
+            assertThat(result.isValid()).isEqualTo(example.isValid());
+        }
+
+        @ParameterizedTest()
+        @EnumSource(JsonExample.class)
+        public void validateShouldValidatePath(JsonExample example) {
+            JsonSchema schema = sut.readSchema(getSchemaStreamFrom(example));
+
+            ValidationResult result = sut.validate(getPathOf(example), schema);
+
+            assertThat(result.isValid()).isEqualTo(example.isValid());
+        }
+
+        @ParameterizedTest()
+        @EnumSource(JsonExample.class)
+        public void validateShouldFindSameProblemsAsParser(JsonExample example) {
+            List<Problem> expected = new ArrayList<>();
+            JsonSchema schema = sut.readSchema(getSchemaStreamFrom(example));
+            try (JsonParser parser = sut.createParser(getPathOf(example), schema, expected::addAll)) {
+                parseAll(parser);
+            }
+
+            ValidationResult result = sut.validate(getPathOf(example), schema);
+
+            assertThat(result.getProblems())
+                    .extracting(Problem::getPointer, Problem::getMessage)
+                    .containsExactlyElementsOf(expected.stream()
+                            .map(p -> tuple(p.getPointer(), p.getMessage()))
+                            .collect(Collectors.toList()));
+        }
+
+        @Test
+        public void validateShouldThrowJsonExceptionIfPathDoesNotExist() {
+            Throwable thrown = catchThrowable(() -> {
+                sut.validate(Paths.get("nonexistent.json"), JsonSchema.TRUE);
+            });
+
+            assertThat(thrown)
+                    .isInstanceOf(JsonException.class)
+                    .hasCauseInstanceOf(IOException.class)
+                    .hasMessageContaining("nonexistent.json");
+        }
+
         @Test
         public void getJsonProviderShouldReturnValidJsonProvider() {
             assertThat(sut.getJsonProvider()).isNotNull();
@@ -359,6 +474,196 @@ public class JsonValidationServiceTest {
             super(ValidationServiceType.DEFAULT);
         }
 
+        /* Tests for validateLines() */
+
+        private static final String LINE_SCHEMA = "{\"type\":\"object\",\"required\":[\"id\"]}";
+
+        @Test
+        public void validateLinesShouldReportResultsInOrder() {
+            JsonSchema schema = sut.readSchema(new StringReader(LINE_SCHEMA));
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 3000; i++) {
+                builder.append((i % 3 == 0) ? "{}" : "{\"id\":" + i + "}").append('\n');
+            }
+            InputStream in = toStream(builder.toString());
+
+            List<Long> lineNumbers = new ArrayList<>();
+            List<Long> invalidLines = new ArrayList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                sut.validateLines(in, schema, executor, (lineNumber, problems) -> {
+                    lineNumbers.add(lineNumber);
+                    if (!problems.isEmpty()) {
+                        invalidLines.add(lineNumber);
+                    }
+                });
+            } finally {
+                executor.shutdown();
+            }
+
+            assertThat(lineNumbers).hasSize(3000).isSorted();
+            assertThat(invalidLines).hasSize(1000).allMatch(lineNumber -> lineNumber % 3 == 1);
+        }
+
+        @Test
+        public void validateLinesShouldSkipBlankLines() {
+            JsonSchema schema = sut.readSchema(new StringReader(LINE_SCHEMA));
+            InputStream in = toStream("{\"id\":1}\r\n\r\n  \n{}\n");
+
+            List<Long> lineNumbers = new ArrayList<>();
+            sut.validateLines(in, schema, (lineNumber, problems) -> {
+                lineNumbers.add(lineNumber);
+            });
+
+            assertThat(lineNumbers).containsExactly(1L, 4L);
+        }
+
+        @Test
+        public void validateLinesShouldReportMalformedLine() {
+            JsonSchema schema = sut.readSchema(new StringReader(LINE_SCHEMA));
+            InputStream in = toStream("{\"id\":1}\n{\"id\":\n{\"id\":3}\n");
+
+            List<Long> lineNumbers = new ArrayList<>();
+            List<Long> errorLines = new ArrayList<>();
+            sut.validateLines(in, schema, new LineProblemHandler() {
+                @Override
+                public void handleLine(long lineNumber, List<Problem> problems) {
+                    lineNumbers.add(lineNumber);
+                }
+
+                @Override
+                public void handleError(long lineNumber, JsonException exception) {
+                    errorLines.add(lineNumber);
+                }
+            });
+
+            assertThat(lineNumbers).containsExactly(1L, 3L);
+            assertThat(errorLines).containsExactly(2L);
+        }
+
+        @Test
+        public void validateLinesShouldThrowJsonExceptionIfLineIsMalformed() {
+            JsonSchema schema = sut.readSchema(new StringReader(LINE_SCHEMA));
+            InputStream in = toStream("{\"id\":1}\n[\n");
+
+            Throwable thrown = catchThrowable(() -> {
+                sut.validateLines(in, schema, (lineNumber, problems) -> {
+                });
+            });
+
+            assertThat(thrown).isInstanceOf(JsonException.class);
+        }
+
+        @Test
+        public void validateLinesShouldThrowJsonExceptionIfPathDoesNotExist() {
+            Throwable thrown = catchThrowable(() -> {
+                Path path = Paths.get("nonexistent.ndjson");
+                sut.validateLines(path, JsonSchema.TRUE, (lineNumber, problems) -> {
+                });
+            });
+
+            assertThat(thrown)
+                    .isInstanceOf(JsonException.class)
+                    .hasCauseInstanceOf(IOException.class)
+                    .hasMessageContaining("nonexistent.ndjson");
+        }
+
+        /* Tests for createNonBlockingValidator() */
+
+        @ParameterizedTest()
+        @EnumSource(JsonExample.class)
+        public void nonBlockingValidatorShouldFindSameProblemsAsValidate(JsonExample example) throws IOException {
+            JsonSchema schema = sut.readSchema(getSchemaStreamFrom(example));
+            ValidationResult expected = sut.validate(getPathOf(example), schema);
+
+            byte[] bytes = Files.readAllBytes(getPathOf(example));
+            NonBlockingValidator validator = sut.createNonBlockingValidator(schema);
+            for (int i = 0; i < bytes.length; i += 3) {
+                validator.feed(ByteBuffer.wrap(bytes, i, Math.min(3, bytes.length - i)));
+            }
+            ValidationResult actual = validator.complete();
+
+            assertThat(actual.isValid()).isEqualTo(example.isValid());
+            assertSameProblems(actual, expected);
+        }
+
+        @Test
+        public void nonBlockingValidatorShouldAcceptChunksSplitAtAnyByte() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"required\":[\"id\"],\"properties\":{"
+                    + "\"name\":{\"maxLength\":3},"
+                    + "\"size\":{\"maximum\":100}}}"));
+            String instance = "{ \"name\": \"\u65e5\u672c\\u8a9e\\\"\u00e9\",\n"
+                    + "  \"size\": -1.5e3, \"list\": [true, false, null, 0, {}],\n"
+                    + "  \"\\ud83d\\ude00\": 12345678901234567890 }";
+            ValidationResult expected = sut.validate(new StringReader(instance), schema);
+            byte[] bytes = instance.getBytes(StandardCharsets.UTF_8);
+
+            for (int i = 0; i <= bytes.length; i++) {
+                NonBlockingValidator validator = sut.createNonBlockingValidator(schema);
+                validator.feed(ByteBuffer.wrap(bytes, 0, i));
+                validator.feed(ByteBuffer.wrap(bytes, i, bytes.length - i));
+                ValidationResult actual = validator.complete();
+
+                assertThat(actual.isValid()).isFalse();
+                assertSameProblems(actual, expected);
+            }
+        }
+
+        @Test
+        public void nonBlockingValidatorShouldThrowJsonParsingExceptionIfMalformed() {
+            NonBlockingValidator validator = sut.createNonBlockingValidator(JsonSchema.TRUE);
+
+            Throwable thrown = catchThrowable(() -> {
+                validator.feed(toBuffer("{\"id\":]"));
+            });
+
+            assertThat(thrown).isInstanceOf(JsonParsingException.class);
+        }
+
+        @Test
+        public void nonBlockingValidatorShouldThrowJsonParsingExceptionIfEndedPrematurely() {
+            NonBlockingValidator validator = sut.createNonBlockingValidator(JsonSchema.TRUE);
+            validator.feed(toBuffer("{\"id\":1"));
+
+            Throwable thrown = catchThrowable(() -> {
+                validator.complete();
+            });
+
+            assertThat(thrown).isInstanceOf(JsonParsingException.class);
+        }
+
+        @Test
+        public void nonBlockingValidatorShouldThrowIllegalStateExceptionIfFedAfterCompletion() {
+            NonBlockingValidator validator = sut.createNonBlockingValidator(JsonSchema.TRUE);
+            validator.feed(toBuffer("[]"));
+            ValidationResult result = validator.complete();
+
+            Throwable thrown = catchThrowable(() -> {
+                validator.feed(toBuffer("[]"));
+            });
+
+            assertThat(result.isValid()).isTrue();
+            assertThat(validator.complete()).isSameAs(result);
+            assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        }
+
+        private static void assertSameProblems(ValidationResult actual, ValidationResult expected) {
+            assertThat(actual.getProblems())
+                    .extracting(Problem::getPointer, Problem::getMessage)
+                    .containsExactlyElementsOf(expected.getProblems().stream()
+                            .map(p -> tuple(p.getPointer(), p.getMessage()))
+                            .collect(Collectors.toList()));
+        }
+
+        private static ByteBuffer toBuffer(String value) {
+            return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static InputStream toStream(String value) {
+            return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+        }
+
         @Override
         protected Path getPathOf(SchemaExample example) {
             return example.getJsonPath();
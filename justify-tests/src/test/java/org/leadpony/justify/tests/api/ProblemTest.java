@@ -151,6 +151,35 @@ public class ProblemTest implements Loggable {
         assertThat(actual).isFalse();
     }
 
+    private static final String TAGGED_UNION = "{ \"%s\": ["
+            + "{ \"properties\": { \"kind\": { \"const\": \"a\" }, \"value\": { \"type\": \"string\" } } },"
+            + "{ \"properties\": { \"kind\": { \"const\": \"b\" }, \"value\": { \"type\": \"integer\" } } },"
+            + "{ \"properties\": { \"kind\": { \"enum\": [\"c\", \"d\"] }, \"value\": { \"type\": \"null\" } } }"
+            + "] }";
+
+    @Test
+    public void getBranchShouldReturnOnlyBranchSelectedByDiscriminatorOfOneOf() {
+        Problem problem = createProblem(String.format(TAGGED_UNION, "oneOf"), "{\"kind\":\"b\",\"value\":\"x\"}");
+
+        assertThat(problem.countBranches()).isEqualTo(1);
+        assertThat(problem.getBranch(0).get(0).getKeyword()).isEqualTo("type");
+    }
+
+    @Test
+    public void getBranchShouldReturnOnlyBranchSelectedByDiscriminatorOfAnyOf() {
+        Problem problem = createProblem(String.format(TAGGED_UNION, "anyOf"), "{\"value\":\"x\",\"kind\":\"d\"}");
+
+        assertThat(problem.countBranches()).isEqualTo(1);
+        assertThat(problem.getBranch(0).get(0).getKeyword()).isEqualTo("type");
+    }
+
+    @Test
+    public void getBranchShouldReturnAllBranchesWithoutDiscriminator() {
+        Problem problem = createProblem(String.format(TAGGED_UNION, "oneOf"), "{\"value\":true}");
+
+        assertThat(problem.countBranches()).isEqualTo(3);
+    }
+
     /**
      * @author leadpony
      */
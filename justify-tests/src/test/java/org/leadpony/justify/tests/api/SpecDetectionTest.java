@@ -21,7 +21,10 @@ import static org.assertj.core.api.ThrowableAssert.catchThrowable;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Disabled;
@@ -32,6 +35,7 @@ import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.tests.helper.Loggable;
 import org.leadpony.justify.tests.helper.ValidationServiceType;
@@ -220,8 +224,38 @@ public class SpecDetectionTest implements Loggable {
         printProblems(e.getProblems());
     }
 
+    public static Stream<Arguments> invalidSchemas() {
+        return Stream.of(
+                Arguments.of("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":42}"),
+                Arguments.of("{\"type\":42,\"$schema\":\"http://json-schema.org/draft-07/schema#\"}"),
+                Arguments.of("{\"properties\":{\"foo\":{\"minLength\":-1}},\"type\":[1],"
+                        + "\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"maxLength\":true}"),
+                Arguments.of("{\"items\":[{\"type\":42}],\"minimum\":\"1\"}"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidSchemas")
+    public void detectionShouldReportSameProblemsAsWithoutDetection(String schema) {
+        List<String> expected = readProblems(createFactory(SpecVersion.DRAFT_07, false), schema);
+        List<String> actual = readProblems(createFactory(SpecVersion.DRAFT_07, true), schema);
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
     /* helpers */
 
+    private static List<String> readProblems(JsonSchemaReaderFactory factory, String schema) {
+        JsonSchemaReader reader = factory.createSchemaReader(new StringReader(schema));
+        Throwable thrown = catchThrowable(reader::read);
+        reader.close();
+
+        assertThat(thrown).isInstanceOf(JsonValidatingException.class);
+        return ((JsonValidatingException) thrown).getProblems().stream()
+                .map(Problem::toString)
+                .collect(Collectors.toList());
+    }
+
     private static JsonSchemaReaderFactory createFactory(SpecVersion defaultVersion, boolean detection) {
         return SERVICE.createSchemaReaderFactoryBuilder()
                 .withDefaultSpecVersion(defaultVersion)
@@ -29,6 +29,7 @@ import jakarta.json.stream.JsonParserFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
@@ -135,6 +136,77 @@ public class ValidationConfigTest {
         assertThat(handlerFactory.problems).hasSize(1);
     }
 
+    @Test
+    public void withFailFastShouldAssignProperty() {
+        sut.withFailFast(true);
+
+        assertThat(sut.getProperty(ValidationConfig.FAIL_FAST)).contains(Boolean.TRUE);
+    }
+
+    @Test
+    public void withFailFastShouldReportFirstProblemOnly() {
+        String schema = "{\"properties\":{"
+                + "\"a\":{\"type\":\"string\"},"
+                + "\"b\":{\"type\":\"string\",\"minLength\":3},"
+                + "\"c\":{\"items\":{\"type\":\"integer\"}}"
+                + "},\"required\":[\"d\"]}";
+        String instance = "{\"a\":1,\"b\":2,\"c\":[true,false]}";
+
+        List<Problem> allProblems = new ArrayList<>();
+        sut.withSchema(SERVICE.readSchema(new StringReader(schema)));
+        sut.withProblemHandler(allProblems::addAll);
+        parseAll(SERVICE.createParserFactory(sut.getAsMap()), instance);
+
+        List<Problem> problems = new ArrayList<>();
+        sut.withProblemHandler(problems::addAll);
+        sut.withFailFast(true);
+        parseAll(SERVICE.createParserFactory(sut.getAsMap()), instance);
+
+        assertThat(allProblems).hasSizeGreaterThan(1);
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getPointer()).isEqualTo("/a");
+    }
+
+    @Test
+    public void withFailFastShouldDispatchProblemImmediately() {
+        sut.withSchema(SERVICE.readSchema(new StringReader("{\"items\":{\"type\":\"integer\"}}")));
+        sut.withProblemHandler(ProblemHandler.throwing());
+        sut.withFailFast(true);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("[1,\"two\",3,4,5]"));
+        int events = 0;
+        try {
+            while (parser.hasNext()) {
+                parser.next();
+                events++;
+            }
+        } catch (JsonValidatingException e) {
+            assertThat(e.getProblems()).hasSize(1);
+        }
+
+        assertThat(events).isEqualTo(2);
+    }
+
+    @Test
+    public void withFailFastShouldNotAffectValidInstance() {
+        List<Problem> problems = new ArrayList<>();
+        sut.withSchema(SERVICE.readSchema(new StringReader("{\"items\":{\"type\":\"integer\"}}")));
+        sut.withProblemHandler(problems::addAll);
+        sut.withFailFast(true);
+
+        parseAll(SERVICE.createParserFactory(sut.getAsMap()), "[1,2,3]");
+
+        assertThat(problems).isEmpty();
+    }
+
+    private static void parseAll(JsonParserFactory factory, String instance) {
+        JsonParser parser = factory.createParser(new StringReader(instance));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+    }
+
     /**
      * A mock class of {@link ProblemHandlerFactory}.
      *
@@ -17,6 +17,8 @@ package org.leadpony.justify.tests.extra.json;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -25,6 +27,8 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -43,17 +47,22 @@ import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.provider.Arguments;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonSchemaResolver;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.NonBlockingValidator;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.api.ValidationConfig;
+import org.leadpony.justify.api.ValidationResult;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.tests.helper.Loggable;
 import org.leadpony.justify.tests.helper.ValidationServiceType;
@@ -134,6 +143,21 @@ public abstract class AbstractOfficialTest implements Loggable {
         }
     }
 
+    /**
+     * The ways of validation other than the default one. Each of them must give
+     * the same result as the default.
+     *
+     * @author leadpony
+     */
+    public enum Mode {
+        FAIL_FAST,
+        VALIDATE_ONLY,
+        NON_BLOCKING,
+        OPTIMIZED,
+        STREAMING,
+        BINARY
+    }
+
     static final JsonBuilderFactory JSON_BUILDER_FACTORY = Json.createBuilderFactory(null);
 
     static final Path TEST_SUITE_HOME = Paths.get("..", "JSON-Schema-Test-Suite");
@@ -152,6 +176,9 @@ public abstract class AbstractOfficialTest implements Loggable {
     private static SpecVersion specVersion;
     private static Path basePath;
     private static JsonSchemaReaderFactory schemaReaderFactory;
+    private static JsonSchemaReaderFactory optimizingReaderFactory;
+    private static JsonSchemaReaderFactory streamingReaderFactory;
+    private static JsonSchemaReaderFactory binaryReaderFactory;
 
     private static JsonValue lastValue;
     private static JsonSchema lastSchema;
@@ -167,12 +194,37 @@ public abstract class AbstractOfficialTest implements Loggable {
                 .withSchemaResolver(new LocalSchemaResolver())
                 .withSchemaValidation(true)
                 .build();
+        optimizingReaderFactory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withDefaultSpecVersion(specVersion)
+                .withSchemaResolver(new LocalSchemaResolver())
+                .withSchemaValidation(true)
+                .withSchemaOptimization(true)
+                .build();
+        streamingReaderFactory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withDefaultSpecVersion(specVersion)
+                .withSchemaResolver(new LocalSchemaResolver())
+                .withSchemaValidation(true)
+                .withSchemaStreaming(true)
+                .build();
+        binaryReaderFactory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withDefaultSpecVersion(specVersion)
+                .build();
     }
 
     public static Stream<TestCase> generateTestCases(String... files) {
         return Stream.of(files).flatMap(AbstractOfficialTest::readTestCases);
     }
 
+    /**
+     * Combines each of the test cases with every mode.
+     *
+     * @param testCases the test cases to combine.
+     * @return the stream of the pairs of a test case and a mode.
+     */
+    public static Stream<Arguments> inAllModes(Stream<TestCase> testCases) {
+        return testCases.flatMap(test -> Stream.of(Mode.values()).map(mode -> Arguments.of(test, mode)));
+    }
+
     /**
      * Tests with a test case.
      *
@@ -217,6 +269,173 @@ public abstract class AbstractOfficialTest implements Loggable {
         printProblems(test, problems);
     }
 
+    /**
+     * Tests with a test case in the specified mode.
+     *
+     * @param test the test case.
+     * @param mode the mode of the validation.
+     */
+    public void test(TestCase test, Mode mode) {
+        switch (mode) {
+        case FAIL_FAST:
+            testFailFast(test);
+            break;
+        case VALIDATE_ONLY:
+            testValidateOnly(test);
+            break;
+        case NON_BLOCKING:
+            testNonBlocking(test);
+            break;
+        case OPTIMIZED:
+            testOptimized(test);
+            break;
+        case STREAMING:
+            testStreaming(test);
+            break;
+        case BINARY:
+        default:
+            testBinary(test);
+            break;
+        }
+    }
+
+    private void testValidateOnly(TestCase test) {
+        JsonSchema schema = getSchema(test.getSchema());
+        JsonValue data = test.getData();
+
+        List<Problem> expected = new ArrayList<>();
+        JsonParser parser = createValidator(data, schema, expected::addAll);
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        parser.close();
+
+        ValidationResult result = SERVICE.validate(new StringReader(data.toString()), schema);
+
+        assertThat(result.isValid()).isEqualTo(test.getResult());
+        assertThat(result.getProblems()).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            Problem actual = result.getProblems().get(i);
+            assertThat(actual.getPointer()).isEqualTo(expected.get(i).getPointer());
+            assertThat(actual.getMessage()).isEqualTo(expected.get(i).getMessage());
+        }
+        checkProblems(result.getProblems());
+    }
+
+    /**
+     * Tests with a test case by feeding the instance byte by byte.
+     *
+     * @param test
+     */
+    private void testNonBlocking(TestCase test) {
+        JsonSchema schema = getSchema(test.getSchema());
+        JsonValue data = test.getData();
+
+        ValidationResult expected = SERVICE.validate(new StringReader(data.toString()), schema);
+
+        NonBlockingValidator validator = SERVICE.createNonBlockingValidator(schema);
+        byte[] bytes = data.toString().getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            validator.feed(ByteBuffer.wrap(new byte[] {b}));
+        }
+        ValidationResult result = validator.complete();
+
+        assertThat(result.isValid()).isEqualTo(test.getResult());
+        assertThat(result.getProblems()).hasSameSizeAs(expected.getProblems());
+        for (int i = 0; i < result.getProblems().size(); i++) {
+            Problem actual = result.getProblems().get(i);
+            assertThat(actual.getPointer()).isEqualTo(expected.getProblems().get(i).getPointer());
+            assertThat(actual.getMessage()).isEqualTo(expected.getProblems().get(i).getMessage());
+        }
+    }
+
+    /**
+     * Tests with a test case in fail-fast mode.
+     *
+     * @param test
+     */
+    private void testFailFast(TestCase test) {
+        JsonSchema schema = getSchema(test.getSchema());
+        JsonValue data = test.getData();
+
+        List<Problem> problems = new ArrayList<>();
+
+        ValidationConfig config = SERVICE.createValidationConfig()
+                .withSchema(schema)
+                .withProblemHandler(problems::addAll)
+                .withFailFast(true);
+        JsonParserFactory factory = SERVICE.createParserFactory(config.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader(data.toString()));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        parser.close();
+
+        assertThat(problems.isEmpty()).isEqualTo(test.getResult());
+        assertThat(problems.size()).isLessThanOrEqualTo(1);
+        checkProblems(problems);
+    }
+
+    /**
+     * Tests with a test case using the optimized schema.
+     *
+     * @param test
+     */
+    private void testOptimized(TestCase test) {
+        JsonSchema schema = readSchema(test, optimizingReaderFactory);
+        testWithSchema(test, schema);
+    }
+
+    /**
+     * Tests with a test case using the schema read from the parser events.
+     *
+     * @param test
+     */
+    private void testStreaming(TestCase test) {
+        JsonSchema schema = readSchema(test, streamingReaderFactory);
+        assertThat(schema.toJson()).isEqualTo(test.getSchema());
+        testWithSchema(test, schema);
+    }
+
+    /**
+     * Tests with a test case using the schema restored from the binary format.
+     *
+     * @param test
+     */
+    private void testBinary(TestCase test) {
+        JsonSchema original = readSchema(test, schemaReaderFactory);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        schemaReaderFactory.writeBinarySchema(original, out);
+        JsonSchema schema = binaryReaderFactory.readBinarySchema(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(schema.toJson()).isEqualTo(test.getSchema());
+        testWithSchema(test, schema);
+    }
+
+    private static JsonSchema readSchema(TestCase test, JsonSchemaReaderFactory factory) {
+        StringReader reader = new StringReader(test.getSchema().toString());
+        try (JsonSchemaReader schemaReader = factory.createSchemaReader(reader)) {
+            return schemaReader.read();
+        }
+    }
+
+    private void testWithSchema(TestCase test, JsonSchema schema) {
+        JsonValue data = test.getData();
+
+        List<Problem> problems = new ArrayList<>();
+
+        JsonParser parser = createValidator(data, schema, problems::addAll);
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        parser.close();
+
+        assertThat(problems.isEmpty()).isEqualTo(test.getResult());
+        checkProblems(problems);
+
+        ValidationResult result = SERVICE.validate(new StringReader(data.toString()), schema);
+        assertThat(result.isValid()).isEqualTo(test.getResult());
+    }
+
     private JsonSchema getSchema(JsonValue value) {
         if (value == lastValue) {
             return lastSchema;
@@ -18,6 +18,7 @@ package org.leadpony.justify.tests.extra.json;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.Spec;
@@ -72,6 +73,10 @@ public class Draft06OfficialTest extends AbstractOfficialTest {
         return generateTestCases(MANDATORY);
     }
 
+    public static Stream<Arguments> mandatoryInAllModes() {
+        return inAllModes(mandatory());
+    }
+
     private static final String[] OPTIONAL = {
             // Draft-06 does not have the "regex" format.
             "optional/bignum.json",
@@ -100,6 +105,12 @@ public class Draft06OfficialTest extends AbstractOfficialTest {
         test(test);
     }
 
+    @ParameterizedTest
+    @MethodSource("mandatoryInAllModes")
+    public void testMandatoryInMode(TestCase test, Mode mode) {
+        test(test, mode);
+    }
+
     @ParameterizedTest
     @MethodSource("optional")
     public void testOptional(TestCase test) {
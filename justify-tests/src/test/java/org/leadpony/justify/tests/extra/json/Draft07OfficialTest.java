@@ -18,6 +18,7 @@ package org.leadpony.justify.tests.extra.json;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.Spec;
@@ -73,6 +74,10 @@ public class Draft07OfficialTest extends AbstractOfficialTest {
         return generateTestCases(MANDATORY);
     }
 
+    public static Stream<Arguments> mandatoryInAllModes() {
+        return inAllModes(mandatory());
+    }
+
     private static final String[] OPTIONAL = {
             "optional/bignum.json",
             "optional/content.json",
@@ -109,6 +114,12 @@ public class Draft07OfficialTest extends AbstractOfficialTest {
         test(test);
     }
 
+    @ParameterizedTest
+    @MethodSource("mandatoryInAllModes")
+    public void testMandatoryInMode(TestCase test, Mode mode) {
+        test(test, mode);
+    }
+
     @ParameterizedTest
     @MethodSource("optional")
     public void testOptional(TestCase test) {
@@ -18,6 +18,7 @@ package org.leadpony.justify.tests.extra.json;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.Spec;
@@ -30,17 +31,35 @@ public class Draft07UnofficialTest extends AbstractOfficialTest {
 
     private static final String[] MANDATORY = {
             "/org/leadpony/justify/tests/api/instance/additionalProperties.json",
+            "/org/leadpony/justify/tests/api/instance/discriminator.json",
+            "/org/leadpony/justify/tests/api/instance/enum.json",
             "/org/leadpony/justify/tests/api/instance/if-then-else.json",
+            "/org/leadpony/justify/tests/api/instance/maximum.json",
+            "/org/leadpony/justify/tests/api/instance/multipleOf.json",
+            "/org/leadpony/justify/tests/api/instance/optimization.json",
+            "/org/leadpony/justify/tests/api/instance/patternProperties.json",
             "/org/leadpony/justify/tests/api/instance/propertyNames.json",
+            "/org/leadpony/justify/tests/api/instance/unconstrained.json",
+            "/org/leadpony/justify/tests/api/instance/uniqueItems.json",
     };
 
     public static Stream<TestCase> mandatory() {
         return generateTestCases(MANDATORY);
     }
 
+    public static Stream<Arguments> mandatoryInAllModes() {
+        return inAllModes(mandatory());
+    }
+
     @ParameterizedTest
     @MethodSource("mandatory")
     public void testMandatory(TestCase test) {
         test(test);
     }
+
+    @ParameterizedTest
+    @MethodSource("mandatoryInAllModes")
+    public void testMandatoryInMode(TestCase test, Mode mode) {
+        test(test, mode);
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.tests.extra.json;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.internal.annotation.Spec;
+
+/**
+ * @author leadpony
+ */
+@Spec(SpecVersion.DRAFT_2019_09)
+public class Draft201909UnofficialTest extends AbstractOfficialTest {
+
+    private static final String[] MANDATORY = {
+            "/org/leadpony/justify/tests/api/instance/recursiveRef.json",
+    };
+
+    public static Stream<TestCase> mandatory() {
+        return generateTestCases(MANDATORY);
+    }
+
+    public static Stream<Arguments> mandatoryInAllModes() {
+        return inAllModes(mandatory());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mandatory")
+    public void testMandatory(TestCase test) {
+        test(test);
+    }
+
+    @ParameterizedTest
+    @MethodSource("mandatoryInAllModes")
+    public void testMandatoryInMode(TestCase test, Mode mode) {
+        test(test, mode);
+    }
+}
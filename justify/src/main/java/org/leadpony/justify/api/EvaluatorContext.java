@@ -15,6 +15,7 @@
  */
 package org.leadpony.justify.api;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import jakarta.json.JsonBuilderFactory;
@@ -40,6 +41,81 @@ public interface EvaluatorContext {
      */
     JsonParser getParser();
 
+    /**
+     * Returns the string at the current event of the parser, which is either
+     * {@link JsonParser.Event#KEY_NAME} or {@link JsonParser.Event#VALUE_STRING}
+     * or {@link JsonParser.Event#VALUE_NUMBER}.
+     *
+     * <p>
+     * The value may be decoded only once for each event and shared by all
+     * evaluators.
+     * </p>
+     *
+     * @return the string at the current event.
+     * @see JsonParser#getString()
+     * @since 4.0
+     */
+    default String getStringValue() {
+        return getParser().getString();
+    }
+
+    /**
+     * Returns the number of code points in the string returned by
+     * {@link #getStringValue()}.
+     *
+     * @return the length of the string at the current event.
+     * @since 4.0
+     */
+    default int getStringLength() {
+        String value = getStringValue();
+        return value.codePointCount(0, value.length());
+    }
+
+    /**
+     * Returns the number at the current event of the parser, which must be
+     * {@link JsonParser.Event#VALUE_NUMBER}.
+     *
+     * <p>
+     * The value may be decoded only once for each event and shared by all
+     * evaluators.
+     * </p>
+     *
+     * @return the number at the current event.
+     * @see JsonParser#getBigDecimal()
+     * @since 4.0
+     */
+    default BigDecimal getNumberValue() {
+        return getParser().getBigDecimal();
+    }
+
+    /**
+     * Checks if the number at the current event is an integer which can be
+     * retrieved by {@link #getLongValue()} without any loss.
+     *
+     * <p>
+     * The default implementation always returns {@code false}.
+     * </p>
+     *
+     * @return {@code true} if the number is an integer in the range of
+     *         {@code long}, {@code false} if it is not known to be.
+     * @since 4.0
+     */
+    default boolean hasLongValue() {
+        return false;
+    }
+
+    /**
+     * Returns the number at the current event as {@code long}. This method
+     * should be called only when {@link #hasLongValue()} returns {@code true}.
+     *
+     * @return the number at the current event.
+     * @see JsonParser#getLong()
+     * @since 4.0
+     */
+    default long getLongValue() {
+        return getParser().getLong();
+    }
+
     /**
      * Returns the current location in the instance as a JSON pointer.
      *
@@ -70,6 +146,20 @@ public interface EvaluatorContext {
      */
     boolean acceptsDefaultValues();
 
+    /**
+     * Checks if the current validation stops at the first problem or not. If
+     * this method returns {@code true}, evaluators may return
+     * {@link Evaluator.Result#FALSE} as soon as the result is known, without
+     * evaluating the remaining keywords or the rest of the instance.
+     *
+     * @return {@code true} if the validation stops at the first problem,
+     *         {@code false} if all problems are to be found.
+     * @since 4.0
+     */
+    default boolean failsFast() {
+        return false;
+    }
+
     /**
      * Inserts default values at the end of the object.
      *
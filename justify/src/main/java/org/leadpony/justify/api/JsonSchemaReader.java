@@ -93,6 +93,22 @@ public interface JsonSchemaReader extends Closeable {
      */
     String METASCHEMA = "org.leadpony.justify.api.JsonSchemaReader.METASCHEMA";
 
+    /**
+     * The property used to specify whether the schema reader optimizes the schema
+     * for validation or not.
+     *
+     * @since 4.0
+     */
+    String SCHEMA_OPTIMIZATION = "org.leadpony.justify.api.JsonSchemaReader.SCHEMA_OPTIMIZATION";
+
+    /**
+     * The property used to specify whether the schema reader builds the schema
+     * directly from the parser events or not.
+     *
+     * @since 4.0
+     */
+    String SCHEMA_STREAMING = "org.leadpony.justify.api.JsonSchemaReader.SCHEMA_STREAMING";
+
     /**
      * Returns a JSON schema that is represented in the input source. This method
      * needs to be called only once for a reader instance.
@@ -16,6 +16,7 @@
 package org.leadpony.justify.api;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
@@ -109,4 +110,57 @@ public interface JsonSchemaReaderFactory {
      * @see JsonSchemaReader
      */
     JsonSchemaReader createSchemaReader(JsonParser parser);
+
+    /**
+     * Writes a schema in a compact binary format, which can be read again by
+     * {@link #readBinarySchema(InputStream)} much faster than the original JSON.
+     *
+     * <p>
+     * All schemas reachable from the specified schema, including the targets of
+     * the references, are written together. The schema must be read by this
+     * factory or by another factory configured in the same way.
+     * </p>
+     *
+     * @param schema the schema to write.
+     * @param out    the byte stream to which the schema is to be written. The
+     *               stream is not closed by this method.
+     * @throws JsonException        if an I/O error occurs while writing.
+     * @throws NullPointerException if any of the specified parameters is
+     *                              {@code null}.
+     * @throws UnsupportedOperationException if this factory does not support
+     *                              the binary format. The default
+     *                              implementation always throws this
+     *                              exception.
+     * @since 4.0
+     */
+    default void writeBinarySchema(JsonSchema schema, OutputStream out) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Reads a schema written by {@link #writeBinarySchema(JsonSchema, OutputStream)}.
+     *
+     * <p>
+     * The schema is restored without parsing JSON nor validating it against the
+     * metaschema, and the references in it are already resolved.
+     * </p>
+     *
+     * @param in the byte stream from which the schema is to be read. The stream
+     *           is not closed by this method.
+     * @return the schema read.
+     * @throws JsonException        if an I/O error occurs while reading, or if
+     *                              the input is corrupted or was written by an
+     *                              incompatible version or configuration. The
+     *                              schema should be read from the original JSON
+     *                              in the latter case.
+     * @throws NullPointerException if the specified {@code in} is {@code null}.
+     * @throws UnsupportedOperationException if this factory does not support
+     *                              the binary format. The default
+     *                              implementation always throws this
+     *                              exception.
+     * @since 4.0
+     */
+    default JsonSchema readBinarySchema(InputStream in) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -143,4 +143,44 @@ public interface JsonSchemaReaderFactoryBuilder {
      *                              {@code null}.
      */
     JsonSchemaReaderFactoryBuilder withMetaschema(JsonSchema metaschema);
+
+    /**
+     * Specifies whether the schema reader optimizes the schema for validation or
+     * not. The optimization rewrites how the schema is evaluated, for example by
+     * flattening "allOf" into the parent schema, while the results of validation
+     * are kept unchanged. By default, this option is disabled.
+     *
+     * @param enabled {@code true} to enable the optimization, {@code false} to
+     *                disable it.
+     * @return this builder.
+     * @throws UnsupportedOperationException if this builder does not support
+     *                                       the optimization. The default
+     *                                       implementation always throws this
+     *                                       exception.
+     * @since 4.0
+     */
+    default JsonSchemaReaderFactoryBuilder withSchemaOptimization(boolean enabled) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Specifies whether the schema reader builds the schema directly from the
+     * parser events or not. When enabled, the schema is never read into memory as
+     * a whole {@link jakarta.json.JsonValue}, and only the values of the keywords
+     * other than subschemas are kept. The JSON representation of the schemas is
+     * reconstructed from their keywords on demand. By default, this option is
+     * disabled.
+     *
+     * @param enabled {@code true} to enable the streaming, {@code false} to
+     *                disable it.
+     * @return this builder.
+     * @throws UnsupportedOperationException if this builder does not support
+     *                                       the streaming. The default
+     *                                       implementation always throws this
+     *                                       exception.
+     * @since 4.0
+     */
+    default JsonSchemaReaderFactoryBuilder withSchemaStreaming(boolean enabled) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -22,6 +22,9 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import jakarta.json.JsonException;
@@ -215,6 +218,32 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     JsonSchemaBuilderFactory createSchemaBuilderFactory();
 
+    /**
+     * Warms up the caches of the specified JSON schema. The schema and all of
+     * its subschemas, including the targets of the references, are visited
+     * once, and the caches otherwise filled lazily at the first validation,
+     * such as the discriminators of {@code anyOf} and {@code oneOf}, are
+     * filled in advance.
+     *
+     * <p>
+     * This method neither changes the schema nor the results of validations.
+     * Each validation still creates its own evaluators for the instance.
+     * </p>
+     *
+     * <p>
+     * The default implementation returns the schema without warming it up.
+     * </p>
+     *
+     * @param schema the JSON schema to warm up.
+     * @return the same JSON schema as given.
+     * @throws NullPointerException if the specified {@code schema} is
+     *                              {@code null}.
+     * @since 4.0
+     */
+    default JsonSchema warmUp(JsonSchema schema) {
+        return Objects.requireNonNull(schema, "schema must not be null.");
+    }
+
     /**
      * Creates a configuration for {@code JsonParser} or {@code JsonReader} with
      * validation functionality. The map generated from the configuration can be
@@ -467,6 +496,181 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     JsonReader createReader(JsonParser parser, JsonSchema schema, ProblemHandler handler);
 
+    /**
+     * Validates the JSON instance read from the specified input stream. The
+     * character encoding of the stream is determined as specified in RFC 7159.
+     *
+     * <p>
+     * Unlike the parsers created by this service, this method does not hand
+     * the parser events to the caller. The contents of arrays and objects which
+     * are not constrained by the schema at all, for example the values of the
+     * properties allowed by {@code "additionalProperties": true}, are skipped
+     * without being evaluated.
+     * </p>
+     *
+     * @param in     the input stream from which the instance is read. It will
+     *               not be closed by this method.
+     * @param schema the JSON schema to apply to the instance.
+     * @return the result of the validation, never be {@code null}.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws jakarta.json.stream.JsonParsingException if the instance is not
+     *                              well-formed JSON.
+     * @throws NullPointerException if any of specified parameters is
+     *                              {@code null}.
+     * @throws UnsupportedOperationException if this service does not support
+     *                              this method. The default implementation
+     *                              always throws this exception.
+     * @since 4.0
+     */
+    default ValidationResult validate(InputStream in, JsonSchema schema) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Validates the JSON instance read from the specified reader.
+     *
+     * @param reader the reader from which the instance is read. It will not be
+     *               closed by this method.
+     * @param schema the JSON schema to apply to the instance.
+     * @return the result of the validation, never be {@code null}.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws jakarta.json.stream.JsonParsingException if the instance is not
+     *                              well-formed JSON.
+     * @throws NullPointerException if any of specified parameters is
+     *                              {@code null}.
+     * @throws UnsupportedOperationException if this service does not support
+     *                              this method. The default implementation
+     *                              always throws this exception.
+     * @see #validate(InputStream, JsonSchema)
+     * @since 4.0
+     */
+    default ValidationResult validate(Reader reader, JsonSchema schema) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Validates the JSON instance read from the specified path. The character
+     * encoding of the file is determined as specified in RFC 7159.
+     *
+     * @param path   the path of the file from which the instance is read.
+     * @param schema the JSON schema to apply to the instance.
+     * @return the result of the validation, never be {@code null}.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws jakarta.json.stream.JsonParsingException if the instance is not
+     *                              well-formed JSON.
+     * @throws NullPointerException if any of specified parameters is
+     *                              {@code null}.
+     * @throws UnsupportedOperationException if this service does not support
+     *                              this method. The default implementation
+     *                              always throws this exception.
+     * @see #validate(InputStream, JsonSchema)
+     * @since 4.0
+     */
+    default ValidationResult validate(Path path, JsonSchema schema) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a validator which is fed with the JSON instance chunk by chunk.
+     * Unlike the other methods of this service, the validator never blocks
+     * while waiting for the rest of the instance.
+     *
+     * @param schema the JSON schema to apply to the instance.
+     * @return newly created instance of {@link NonBlockingValidator}.
+     * @throws NullPointerException if the specified {@code schema} is
+     *                              {@code null}.
+     * @throws UnsupportedOperationException if this service does not support
+     *                              this method. The default implementation
+     *                              always throws this exception.
+     * @since 4.0
+     */
+    default NonBlockingValidator createNonBlockingValidator(JsonSchema schema) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Validates each line of newline-delimited JSON (NDJSON) read from the
+     * specified input stream, using the common fork-join pool.
+     *
+     * @param in      the input stream encoded in UTF-8. It will not be closed
+     *                by this method.
+     * @param schema  the JSON schema to apply to each line.
+     * @param handler the object which handles the results of the lines.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws NullPointerException if any of specified parameters is
+     *                              {@code null}.
+     * @see #validateLines(InputStream, JsonSchema, Executor, LineProblemHandler)
+     * @since 4.0
+     */
+    default void validateLines(InputStream in, JsonSchema schema, LineProblemHandler handler) {
+        validateLines(in, schema, ForkJoinPool.commonPool(), handler);
+    }
+
+    /**
+     * Validates each line of newline-delimited JSON (NDJSON) read from the
+     * specified input stream.
+     *
+     * <p>
+     * The lines are read by the calling thread and validated concurrently by
+     * the specified executor. The handler receives the results in the order of
+     * the lines, always from the calling thread. Blank lines are skipped.
+     * </p>
+     *
+     * @param in       the input stream encoded in UTF-8. It will not be closed
+     *                 by this method.
+     * @param schema   the JSON schema to apply to each line.
+     * @param executor the executor which runs the validation of the lines.
+     * @param handler  the object which handles the results of the lines.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws NullPointerException if any of specified parameters is
+     *                              {@code null}.
+     * @throws UnsupportedOperationException if this service does not support
+     *                              this method. The default implementation
+     *                              always throws this exception.
+     * @since 4.0
+     */
+    default void validateLines(InputStream in, JsonSchema schema, Executor executor, LineProblemHandler handler) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Validates each line of newline-delimited JSON (NDJSON) read from the
+     * specified path, using the common fork-join pool.
+     *
+     * @param path    the path of the file encoded in UTF-8.
+     * @param schema  the JSON schema to apply to each line.
+     * @param handler the object which handles the results of the lines.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws NullPointerException if any of specified parameters is
+     *                              {@code null}.
+     * @see #validateLines(InputStream, JsonSchema, Executor, LineProblemHandler)
+     * @since 4.0
+     */
+    default void validateLines(Path path, JsonSchema schema, LineProblemHandler handler) {
+        validateLines(path, schema, ForkJoinPool.commonPool(), handler);
+    }
+
+    /**
+     * Validates each line of newline-delimited JSON (NDJSON) read from the
+     * specified path.
+     *
+     * @param path     the path of the file encoded in UTF-8.
+     * @param schema   the JSON schema to apply to each line.
+     * @param executor the executor which runs the validation of the lines.
+     * @param handler  the object which handles the results of the lines.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws NullPointerException if any of specified parameters is
+     *                              {@code null}.
+     * @throws UnsupportedOperationException if this service does not support
+     *                              this method. The default implementation
+     *                              always throws this exception.
+     * @see #validateLines(InputStream, JsonSchema, Executor, LineProblemHandler)
+     * @since 4.0
+     */
+    default void validateLines(Path path, JsonSchema schema, Executor executor, LineProblemHandler handler) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Creates a JSON provider for validating JSON documents while parsing and
      * reading. This method is intended to be used with Java API for JSON Binding
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.api;
+
+import java.util.List;
+
+import jakarta.json.JsonException;
+
+/**
+ * A handler interface for handling the results of validating each line of
+ * newline-delimited JSON (NDJSON), also known as JSON Lines.
+ *
+ * <p>
+ * The methods of this handler are called in the order of the lines, from the
+ * thread which started the validation.
+ * </p>
+ *
+ * @author leadpony
+ * @since 4.0
+ * @see JsonValidationService#validateLines(java.io.InputStream, JsonSchema,
+ *      java.util.concurrent.Executor, LineProblemHandler)
+ */
+@FunctionalInterface
+public interface LineProblemHandler {
+
+    /**
+     * Handles the problems found in a line.
+     *
+     * @param lineNumber the line number starting from 1.
+     * @param problems   the problems found in the line, empty if the line is
+     *                   valid. Cannot be {@code null}.
+     */
+    void handleLine(long lineNumber, List<Problem> problems);
+
+    /**
+     * Handles the error occurred while parsing a line. By default this method
+     * throws the given exception, which stops the validation of the remaining
+     * lines.
+     *
+     * @param lineNumber the line number starting from 1.
+     * @param exception  the exception thrown by the parser, cannot be
+     *                   {@code null}.
+     */
+    default void handleError(long lineNumber, JsonException exception) {
+        throw exception;
+    }
+}
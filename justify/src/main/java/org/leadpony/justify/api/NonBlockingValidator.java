@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A validator which is fed with the JSON instance chunk by chunk, without
+ * blocking the calling thread while waiting for the input. This type is
+ * intended to be used in asynchronous pipelines, for example, as a subscriber
+ * of the chunks received from a non-blocking channel.
+ *
+ * <p>
+ * The instance must be encoded in UTF-8. A leading byte order mark is ignored,
+ * and the instance encoded in UTF-16 or UTF-32 is rejected with
+ * {@link jakarta.json.stream.JsonParsingException}. The chunks must be fed
+ * sequentially, and the instances of this type are not safe for use by multiple
+ * threads at the same time.
+ * </p>
+ *
+ * @author leadpony
+ * @since 4.0
+ * @see JsonValidationService#createNonBlockingValidator(JsonSchema)
+ */
+public interface NonBlockingValidator {
+
+    /**
+     * Feeds this validator with the next chunk of the instance. All remaining
+     * bytes in the chunk are consumed by this method and the chunk can be
+     * reused by the caller after this method returns.
+     *
+     * @param chunk the chunk of the instance encoded in UTF-8.
+     * @throws jakarta.json.stream.JsonParsingException if the instance is not
+     *                               well-formed JSON.
+     * @throws IllegalStateException if {@link #complete()} was already called.
+     * @throws NullPointerException  if the specified {@code chunk} is
+     *                               {@code null}.
+     */
+    void feed(ByteBuffer chunk);
+
+    /**
+     * Notifies this validator of the end of the instance and returns the result
+     * of the validation. Calling this method more than once returns the same
+     * result.
+     *
+     * @return the result of the validation, never be {@code null}.
+     * @throws jakarta.json.stream.JsonParsingException if the instance ended
+     *                               prematurely.
+     */
+    ValidationResult complete();
+}
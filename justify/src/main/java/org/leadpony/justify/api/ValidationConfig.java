@@ -15,6 +15,7 @@
  */
 package org.leadpony.justify.api;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -40,6 +41,14 @@ public interface ValidationConfig {
      */
     String DEFAULT_VALUES = "org.leadpony.justify.api.ValidationConfig.DEFAULT_VALUES";
 
+    /**
+     * The property used to specify whether the validation will stop at the first
+     * problem or not.
+     *
+     * @since 4.0
+     */
+    String FAIL_FAST = "org.leadpony.justify.api.ValidationConfig.FAIL_FAST";
+
     /**
      * The property used to specify the factory of problem handlers.
      */
@@ -129,4 +138,20 @@ public interface ValidationConfig {
      * @return this builder.
      */
     ValidationConfig withDefaultValues(boolean usingDefaultValues);
+
+    /**
+     * Specifies whether the validation will stop at the first problem or not.
+     * When enabled, the evaluators stop as soon as the instance is known to be
+     * invalid, and only the first problem found is passed to the problem
+     * handler, at the event where it was found. The rest of the document is
+     * parsed without any validation. By default, all problems are reported.
+     *
+     * @param failFast {@code true} to stop at the first problem, {@code false} to
+     *                 report all problems.
+     * @return this builder.
+     * @since 4.0
+     */
+    default ValidationConfig withFailFast(boolean failFast) {
+        return withProperties(Collections.singletonMap(FAIL_FAST, failFast));
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.api;
+
+import java.util.List;
+
+/**
+ * The result of validating a JSON instance against a JSON schema.
+ *
+ * @author leadpony
+ * @since 4.0
+ * @see JsonValidationService#validate(java.io.InputStream, JsonSchema)
+ */
+public interface ValidationResult {
+
+    /**
+     * Checks if the instance was valid or not.
+     *
+     * @return {@code true} if no problem was found, {@code false} otherwise.
+     */
+    default boolean isValid() {
+        return getProblems().isEmpty();
+    }
+
+    /**
+     * Returns all problems found in the instance.
+     *
+     * @return the unmodifiable list of the problems, which is empty if the
+     *         instance was valid. It is never {@code null}.
+     */
+    List<Problem> getProblems();
+}
@@ -41,4 +41,24 @@ public interface KeywordType {
      * @throws InvalidKeywordException if the input JSON value is invalid.
      */
     Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser);
+
+    /**
+     * Returns where the subschemas are placed in the value of the keyword.
+     *
+     * <p>
+     * The value of a keyword with subschemas declared here is parsed by the
+     * schema reader without building the subschemas as JSON values in memory.
+     * The value of any other keyword, including the keywords unknown to the
+     * reader, is read into memory as a whole, because it is needed to
+     * reproduce the JSON representation of the schema and may be the target of
+     * a JSON pointer in "$ref".
+     * </p>
+     *
+     * @return the layout of the subschemas, cannot be {@code null}. The default
+     *         implementation returns {@link SubschemaLayout#NONE}.
+     * @since 4.0
+     */
+    default SubschemaLayout getSubschemaLayout() {
+        return SubschemaLayout.NONE;
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.api.keyword;
+
+/**
+ * Where the subschemas are placed in the value of a keyword.
+ *
+ * <p>
+ * The schema reader parses the subschemas placed as declared by
+ * {@link KeywordType#getSubschemaLayout()} directly from the input, without
+ * building the whole value of the keyword in memory first.
+ * </p>
+ *
+ * @author leadpony
+ * @since 4.0
+ */
+public enum SubschemaLayout {
+    /**
+     * The keyword has no subschemas, or they are unknown.
+     */
+    NONE(false, false, false),
+    /**
+     * The value of the keyword is a subschema.
+     */
+    SCHEMA(true, false, false),
+    /**
+     * The value of the keyword is an array of subschemas.
+     */
+    SCHEMA_ARRAY(false, true, false),
+    /**
+     * The value of the keyword is an object whose properties are subschemas.
+     */
+    SCHEMA_OBJECT(false, false, true),
+    /**
+     * The value of the keyword is either a subschema or an array of subschemas.
+     */
+    SCHEMA_OR_SCHEMA_ARRAY(true, true, false);
+
+    private final boolean schema;
+    private final boolean arrayOfSchemas;
+    private final boolean objectOfSchemas;
+
+    SubschemaLayout(boolean schema, boolean arrayOfSchemas, boolean objectOfSchemas) {
+        this.schema = schema;
+        this.arrayOfSchemas = arrayOfSchemas;
+        this.objectOfSchemas = objectOfSchemas;
+    }
+
+    /**
+     * Checks if the value of the keyword can be a subschema.
+     *
+     * @return {@code true} if the value can be a subschema.
+     */
+    public boolean canBeSchema() {
+        return schema;
+    }
+
+    /**
+     * Checks if the value of the keyword can be an array of subschemas.
+     *
+     * @return {@code true} if the value can be an array of subschemas.
+     */
+    public boolean canBeArrayOfSchemas() {
+        return arrayOfSchemas;
+    }
+
+    /**
+     * Checks if the value of the keyword can be an object whose properties are
+     * subschemas.
+     *
+     * @return {@code true} if the value can be an object of subschemas.
+     */
+    public boolean canBeObjectOfSchemas() {
+        return objectOfSchemas;
+    }
+}
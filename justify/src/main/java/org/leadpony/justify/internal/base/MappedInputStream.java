@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@link InputStream} type which reads a file through the memory mapped by
+ * {@link FileChannel#map}, instead of copying the content into the buffers of
+ * the stream. The file is mapped window by window so that files larger than
+ * 2 GiB can be read.
+ *
+ * @author leadpony
+ */
+public final class MappedInputStream extends InputStream {
+
+    /*
+     * The smallest file to be mapped. Mapping costs more than reading for small
+     * files.
+     */
+    static final long MIN_MAPPED_SIZE = 1L << 20;
+    static final int WINDOW_SIZE = 1 << 26;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private long position;
+    private ByteBuffer window = EMPTY;
+
+    /**
+     * Opens an input stream reading the specified file. The file is mapped
+     * into memory only if it is a regular file which is large enough.
+     * Otherwise the plain stream is returned.
+     *
+     * @param path the path of the file to read.
+     * @return newly opened input stream.
+     * @throws IOException if an I/O error occurs while opening the file.
+     */
+    public static InputStream open(Path path) throws IOException {
+        if (Files.isRegularFile(path) && Files.size(path) >= MIN_MAPPED_SIZE) {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                return new MappedInputStream(channel, channel.size(), WINDOW_SIZE);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+        return Files.newInputStream(path);
+    }
+
+    /**
+     * Constructs this stream.
+     *
+     * @param channel    the channel of the file to read.
+     * @param size       the size of the file.
+     * @param windowSize the maximum size of a window mapped at a time.
+     */
+    MappedInputStream(FileChannel channel, long size, int windowSize) {
+        this.channel = channel;
+        this.size = size;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return window.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        } else if (!fill()) {
+            return -1;
+        }
+        int length = Math.min(len, window.remaining());
+        window.get(b, off, length);
+        return length;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        int remaining = window.remaining();
+        if (n <= remaining) {
+            window.position(window.position() + (int) n);
+            return n;
+        }
+        long skipped = Math.min(n - remaining, size - position);
+        position += skipped;
+        window = EMPTY;
+        return remaining + skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, window.remaining() + size - position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = EMPTY;
+        position = size;
+        channel.close();
+    }
+
+    /**
+     * Maps the next window of the file if the current one was consumed.
+     *
+     * @return {@code true} if any bytes remain, {@code false} at the end of the
+     *         file.
+     * @throws IOException if an I/O error occurs while mapping.
+     */
+    private boolean fill() throws IOException {
+        if (window.hasRemaining()) {
+            return true;
+        } else if (position >= size) {
+            return false;
+        }
+        long length = Math.min(windowSize, size - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        position += length;
+        return true;
+    }
+}
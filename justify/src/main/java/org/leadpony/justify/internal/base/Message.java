@@ -132,11 +132,16 @@ public enum Message implements BaseMessage {
     SCHEMA_PROBLEM_CONTENTMEDIATYPE_INVALID,
     SCHEMA_PROBLEM_VERSION_UNEXPECTED,
     SCHEMA_PROBLEM_VERSION_UNSUPPORTED,
+    SCHEMA_PROBLEM_BINARY_INCOMPATIBLE,
+    SCHEMA_PROBLEM_BINARY_CORRUPTED,
 
     /* Problem messages for JSON parser */
 
     PARSER_ILLEGAL_STATE,
     PARSER_UNEXPECTED_EOI,
+    PARSER_UNEXPECTED_CHAR,
+    PARSER_MALFORMED_INPUT,
+    PARSER_UNSUPPORTED_ENCODING,
 
     /* Problem messages for JSON reader */
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable table which assigns a bit index to each of property names.
+ *
+ * <p>
+ * The presence of the names in an object is tracked by a {@link Presence}
+ * created per object, which holds bits instead of copies of the names.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class NameIndex {
+
+    private final String[] names;
+    private final Map<String, Integer> indices;
+
+    /**
+     * Creates a table of the given names.
+     *
+     * @param names the names to be indexed, in the order of the indices.
+     * @return newly created table.
+     */
+    public static NameIndex of(Collection<String> names) {
+        return new NameIndex(names);
+    }
+
+    private NameIndex(Collection<String> names) {
+        this.names = names.toArray(new String[0]);
+        this.indices = new HashMap<>();
+        for (int i = 0; i < this.names.length; i++) {
+            this.indices.put(this.names[i], i);
+        }
+    }
+
+    /**
+     * Returns the number of the names.
+     *
+     * @return the number of the names.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the index of the given name.
+     *
+     * @param name the name to find.
+     * @return the index of the name, or -1 if not found.
+     */
+    public int indexOf(String name) {
+        Integer index = indices.get(name);
+        return (index != null) ? index : -1;
+    }
+
+    /**
+     * Creates a new tracker of the presence of the names.
+     *
+     * @return newly created tracker, in which no name is present.
+     */
+    public Presence newPresence() {
+        return new Presence();
+    }
+
+    /**
+     * A mutable tracker of the names found in an object.
+     *
+     * @author leadpony
+     */
+    public final class Presence {
+
+        private long bits;
+        private final long[] extraBits;
+        private int missing;
+
+        private Presence() {
+            this.extraBits = (names.length > 64) ? new long[(names.length - 1) / 64] : null;
+            this.missing = names.length;
+        }
+
+        /**
+         * Marks the given name as present.
+         *
+         * @param name the name found, may not be indexed.
+         * @return {@code true} if the name is indexed.
+         */
+        public boolean add(String name) {
+            int index = indexOf(name);
+            if (index < 0) {
+                return false;
+            }
+            long mask = 1L << index;
+            if (index < 64) {
+                if ((bits & mask) == 0) {
+                    bits |= mask;
+                    missing--;
+                }
+            } else {
+                int word = (index >>> 6) - 1;
+                if ((extraBits[word] & mask) == 0) {
+                    extraBits[word] |= mask;
+                    missing--;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Checks if all of the names are present.
+         *
+         * @return {@code true} if no name is missing.
+         */
+        public boolean isComplete() {
+            return missing == 0;
+        }
+
+        /**
+         * Returns the names not found yet, in the order of the indices.
+         *
+         * @return the list of the missing names.
+         */
+        public List<String> getMissingNames() {
+            List<String> result = new ArrayList<>(missing);
+            for (int i = 0; i < names.length; i++) {
+                if (!isPresent(i)) {
+                    result.add(names[i]);
+                }
+            }
+            return result;
+        }
+
+        private boolean isPresent(int index) {
+            long mask = 1L << index;
+            if (index < 64) {
+                return (bits & mask) != 0;
+            } else {
+                return (extraBits[(index >>> 6) - 1] & mask) != 0;
+            }
+        }
+    }
+}
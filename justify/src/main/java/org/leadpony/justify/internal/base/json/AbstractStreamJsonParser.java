@@ -49,11 +49,7 @@ abstract class AbstractStreamJsonParser extends AbstractJsonParser {
 
     @Override
     public final Event next() {
-        Event event = fetchNextEvent();
-        event = process(event);
-        setCurrentEvent(event);
-        postprocess();
-        return event;
+        return handleEvent(fetchNextEvent());
     }
 
     @Override
@@ -137,6 +133,19 @@ abstract class AbstractStreamJsonParser extends AbstractJsonParser {
 
     protected abstract Event fetchNextEvent();
 
+    /**
+     * Handles the event fetched from the underlying source.
+     *
+     * @param event the event fetched.
+     * @return the event to be returned to the caller.
+     */
+    protected final Event handleEvent(Event event) {
+        event = process(event);
+        setCurrentEvent(event);
+        postprocess();
+        return event;
+    }
+
     /**
      * Processes the currrent parser event.
      *
@@ -15,6 +15,8 @@
  */
 package org.leadpony.justify.internal.base.json;
 
+import java.util.Arrays;
+
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 
@@ -25,10 +27,25 @@ import jakarta.json.stream.JsonParser;
  */
 public class DefaultPointerAwareJsonParser extends JsonParserDecorator implements PointerAwareJsonParser {
 
-    private static final PointerBuilder INITIAL_BUILDER = new InitialPointerBuilder();
-    private static final PointerBuilder ROOT_BUILDER = new RootPointerBuilder();
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int OBJECT_SCOPE = -2;
+
+    private boolean started;
+    private boolean atKeyName;
+    /*
+     * The number of the collections currently open.
+     */
+    private int depth;
+    /*
+     * For each open collection, the index of the current item for arrays, or
+     * OBJECT_SCOPE for objects.
+     */
+    private int[] indices = new int[INITIAL_CAPACITY];
+    /*
+     * For each open object, the last key name found.
+     */
+    private String[] keys = new String[INITIAL_CAPACITY];
 
-    private PointerBuilder pointerBuilder;
     private String cachedPointer;
 
     /**
@@ -39,23 +56,49 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
      */
     public DefaultPointerAwareJsonParser(JsonParser parser, JsonProvider jsonProvider) {
         super(parser, jsonProvider);
-        this.pointerBuilder = INITIAL_BUILDER;
         setCurrentParser(parser);
     }
 
     @Override
     public String getPointer() {
-        if (cachedPointer != null) {
+        if (cachedPointer != null || !started) {
             return cachedPointer;
         }
-        cachedPointer = pointerBuilder.toPointer();
+        cachedPointer = buildPointer();
         return cachedPointer;
     }
 
     @Override
     protected Event process(Event event) {
-        pointerBuilder = pointerBuilder.withEvent(event, getCurrentParser());
-        cachedPointer = null;
+        if (started) {
+            if (depth == 0) {
+                throw new IllegalStateException();
+            }
+        } else {
+            started = true;
+        }
+        switch (event) {
+        case START_ARRAY:
+            nextItem();
+            push(-1);
+            break;
+        case START_OBJECT:
+            nextItem();
+            push(OBJECT_SCOPE);
+            break;
+        case END_ARRAY:
+        case END_OBJECT:
+            pop();
+            break;
+        case KEY_NAME:
+            keys[depth - 1] = getCurrentParser().getString();
+            break;
+        default:
+            nextItem();
+            break;
+        }
+        this.atKeyName = event == Event.KEY_NAME;
+        this.cachedPointer = null;
         return event;
     }
 
@@ -65,180 +108,66 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
         if (event == Event.END_ARRAY || event == Event.END_OBJECT) {
             return true;
         }
-        return pointerBuilder.isScoped();
+        return depth > 0;
     }
 
-    /**
-     * A builder of a JSON pointer.
-     *
-     * @author leadpony
-     */
-    private interface PointerBuilder {
-
-        default boolean isScoped() {
-            return false;
-        }
-
-        PointerBuilder withEvent(Event event, JsonParser parser);
-
-        default String toPointer() {
-            StringBuilder builder = new StringBuilder();
-            build(builder);
-            return builder.toString();
-        }
-
-        default void build(StringBuilder builder) {
+    private void nextItem() {
+        if (depth > 0 && indices[depth - 1] != OBJECT_SCOPE) {
+            indices[depth - 1]++;
         }
     }
 
-    /**
-     * A pointer builder at starting point.
-     *
-     * @author leadpony
-     */
-    private static class InitialPointerBuilder implements PointerBuilder {
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
-            switch (event) {
-            case START_ARRAY:
-                return new ArrayPointerBuilder(ROOT_BUILDER);
-            case START_OBJECT:
-                return new ObjectPointerBuilder(ROOT_BUILDER);
-            case END_ARRAY:
-            case END_OBJECT:
-                throw new IllegalStateException();
-            default:
-                return ROOT_BUILDER;
-            }
-        }
-
-        @Override
-        public String toPointer() {
-            return null;
+    private void push(int index) {
+        if (depth == indices.length) {
+            int capacity = depth * 2;
+            indices = Arrays.copyOf(indices, capacity);
+            keys = Arrays.copyOf(keys, capacity);
         }
+        indices[depth] = index;
+        keys[depth] = null;
+        depth++;
     }
 
-    /**
-     * A pointer builder for root values.
-     *
-     * @author leadpony
-     */
-    private static class RootPointerBuilder implements PointerBuilder {
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
+    private void pop() {
+        if (depth == 0) {
             throw new IllegalStateException();
         }
+        keys[--depth] = null;
     }
 
-    /**
-     * A pointer builder for JSON arrays.
-     *
-     * @author leadpony
-     */
-    private static class ArrayPointerBuilder implements PointerBuilder {
-
-        private final PointerBuilder parent;
-        private int index = -1;
-
-        ArrayPointerBuilder(PointerBuilder parent) {
-            this.parent = parent;
-        }
-
-        @Override
-        public boolean isScoped() {
-            return true;
-        }
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
-            switch (event) {
-            case START_ARRAY:
-                this.index++;
-                return new ArrayPointerBuilder(this);
-            case START_OBJECT:
-                this.index++;
-                return new ObjectPointerBuilder(this);
-            case END_ARRAY:
-                return this.parent;
-            case END_OBJECT:
-                throw new IllegalStateException();
-            default:
-                this.index++;
-                return this;
-            }
-        }
-
-        @Override
-        public void build(StringBuilder builder) {
-            parent.build(builder);
-            if (index >= 0) {
-                builder.append("/").append(index);
+    private String buildPointer() {
+        StringBuilder builder = new StringBuilder();
+        final int last = depth - 1;
+        for (int i = 0; i <= last; i++) {
+            int index = indices[i];
+            if (index == OBJECT_SCOPE) {
+                String keyName = keys[i];
+                if (keyName != null && !(i == last && atKeyName)) {
+                    appendKeyName(builder, keyName);
+                }
+            } else if (index >= 0) {
+                builder.append('/').append(index);
             }
         }
+        return builder.toString();
     }
 
-    /**
-     * A pointer builder for JSON objects.
-     *
-     * @author leadpony
-     */
-    private static class ObjectPointerBuilder implements PointerBuilder {
-
-        private final PointerBuilder parent;
-        private String keyName;
-        private Event lastEvent;
-
-        ObjectPointerBuilder(PointerBuilder parent) {
-            this.parent = parent;
-        }
-
-        @Override
-        public boolean isScoped() {
-            return true;
-        }
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
-            this.lastEvent = event;
-            switch (event) {
-            case START_ARRAY:
-                return new ArrayPointerBuilder(this);
-            case START_OBJECT:
-                return new ObjectPointerBuilder(this);
-            case END_ARRAY:
-                throw new IllegalStateException();
-            case END_OBJECT:
-                return this.parent;
-            case KEY_NAME:
-                this.keyName = parser.getString();
-            default:
-                return this;
+    private static void appendKeyName(StringBuilder builder, String keyName) {
+        builder.append('/');
+        int lastIndex = 0;
+        final int length = keyName.length();
+        for (int i = 0; i < length; i++) {
+            char c = keyName.charAt(i);
+            if (c == '~') {
+                builder.append(keyName, lastIndex, i).append("~0");
+                lastIndex = i + 1;
+            } else if (c == '/') {
+                builder.append(keyName, lastIndex, i).append("~1");
+                lastIndex = i + 1;
             }
         }
-
-        @Override
-        public void build(StringBuilder builder) {
-            parent.build(builder);
-            if (keyName != null && lastEvent != Event.KEY_NAME) {
-                builder.append('/');
-                int lastIndex = 0;
-                final int length = keyName.length();
-                for (int i = 0; i < length; i++) {
-                    char c = keyName.charAt(i);
-                    if (c == '~') {
-                        builder.append(keyName, lastIndex, i).append("~0");
-                        lastIndex = i + 1;
-                    } else if (c == '/') {
-                        builder.append(keyName, lastIndex, i).append("~1");
-                        lastIndex = i + 1;
-                    }
-                }
-                if (lastIndex < length) {
-                    builder.append(keyName, lastIndex, length);
-                }
-            }
+        if (lastIndex < length) {
+            builder.append(keyName, lastIndex, length);
         }
     }
 }
@@ -61,6 +61,27 @@ public abstract class JsonParserDecorator extends AbstractStreamJsonParser {
         this.parser = parser;
     }
 
+    /**
+     * Skips the contents of the array or object which has just started, using
+     * the underlying JSON parser, and then handles the end event of it. The
+     * events inside of the container are never processed by this parser.
+     *
+     * @return the end event of the container.
+     * @throws IllegalStateException if the current event is not the start of
+     *                               any container.
+     */
+    protected final Event skipContents() {
+        Event event = getCurrentEvent();
+        if (event == Event.START_OBJECT) {
+            parser.skipObject();
+            return handleEvent(Event.END_OBJECT);
+        } else if (event == Event.START_ARRAY) {
+            parser.skipArray();
+            return handleEvent(Event.END_ARRAY);
+        }
+        throw newIllegalStateException("skipContents");
+    }
+
     /* JsonParser */
 
     @Override
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+/**
+ * @author leadpony
+ */
+public final class JsonStrings {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Appends a string as a quoted JSON string.
+     *
+     * @param builder the builder to which the string will be appended.
+     * @param value   the string to append.
+     * @return the builder.
+     */
+    public static StringBuilder appendQuoted(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+            case '\\':
+                builder.append('\\').append(c);
+                break;
+            case '\b':
+                builder.append("\\b");
+                break;
+            case '\f':
+                builder.append("\\f");
+                break;
+            case '\n':
+                builder.append("\\n");
+                break;
+            case '\r':
+                builder.append("\\r");
+                break;
+            case '\t':
+                builder.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    builder.append("\\u00")
+                        .append(HEX_DIGITS[c >> 4])
+                        .append(HEX_DIGITS[c & 0xf]);
+                } else {
+                    builder.append(c);
+                }
+                break;
+            }
+        }
+        return builder.append('"');
+    }
+
+    private JsonStrings() {
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.EvaluatorContext;
+
+/**
+ * An immutable index of JSON values partitioned by their types, which allows
+ * to test whether a JSON value is contained or not in constant time.
+ *
+ * <p>
+ * Numbers are compared by their numerical values, that is, {@code 1} and
+ * {@code 1.0} are considered to be equal, which is consistent with the JSON
+ * values built by {@link JsonInstanceBuilder}.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class JsonValueIndex {
+
+    private static final int TRUE_HASH = 1231;
+    private static final int FALSE_HASH = 1237;
+    private static final int NULL_HASH = 0;
+
+    private final Set<String> strings = new HashSet<>();
+    private final Set<BigDecimal> numbers = new HashSet<>();
+    private final Map<Integer, List<JsonValue>> containers = new HashMap<>();
+    private boolean hasTrue;
+    private boolean hasFalse;
+    private boolean hasNull;
+
+    /**
+     * Creates an index of the specified values.
+     *
+     * @param values the values to be indexed.
+     * @return newly created index.
+     */
+    public static JsonValueIndex of(Collection<JsonValue> values) {
+        JsonValueIndex index = new JsonValueIndex();
+        for (JsonValue value : values) {
+            index.add(value);
+        }
+        return index;
+    }
+
+    private JsonValueIndex() {
+    }
+
+    /**
+     * Checks if the scalar value at the current event of the parser is contained
+     * in this index. This method does not build any JSON value.
+     *
+     * @param event   the event of the scalar value.
+     * @param context the context which provides the decoded value.
+     * @return {@code true} if the value is contained, {@code false} otherwise.
+     */
+    public boolean containsScalar(Event event, EvaluatorContext context) {
+        switch (event) {
+        case VALUE_STRING:
+        case KEY_NAME:
+            return !strings.isEmpty() && strings.contains(context.getStringValue());
+        case VALUE_NUMBER:
+            return !numbers.isEmpty() && numbers.contains(normalize(context.getNumberValue()));
+        case VALUE_TRUE:
+            return hasTrue;
+        case VALUE_FALSE:
+            return hasFalse;
+        case VALUE_NULL:
+            return hasNull;
+        default:
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks if the specified value is contained in this index.
+     *
+     * @param value the value to test, which was built by
+     *              {@link JsonInstanceBuilder}.
+     * @return {@code true} if the value is contained, {@code false} otherwise.
+     */
+    public boolean contains(JsonValue value) {
+        switch (value.getValueType()) {
+        case ARRAY:
+        case OBJECT:
+            List<JsonValue> candidates = containers.get(hash(value));
+            if (candidates != null) {
+                for (JsonValue candidate : candidates) {
+                    if (value.equals(candidate)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        case STRING:
+            return strings.contains(((JsonString) value).getString());
+        case NUMBER:
+            return numbers.contains(normalize(((JsonNumber) value).bigDecimalValue()));
+        case TRUE:
+            return hasTrue;
+        case FALSE:
+            return hasFalse;
+        case NULL:
+            return hasNull;
+        default:
+            return false;
+        }
+    }
+
+    private void add(JsonValue value) {
+        switch (value.getValueType()) {
+        case ARRAY:
+        case OBJECT:
+            containers.computeIfAbsent(hash(value), k -> new ArrayList<>()).add(value);
+            break;
+        case STRING:
+            strings.add(((JsonString) value).getString());
+            break;
+        case NUMBER:
+            numbers.add(normalize(((JsonNumber) value).bigDecimalValue()));
+            break;
+        case TRUE:
+            hasTrue = true;
+            break;
+        case FALSE:
+            hasFalse = true;
+            break;
+        case NULL:
+            hasNull = true;
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Computes the structural hash of the value. The order of the properties in
+     * objects and the scale of numbers do not affect the result.
+     *
+     * @param value the value to compute the hash.
+     * @return the hash of the value.
+     */
+    private static int hash(JsonValue value) {
+        switch (value.getValueType()) {
+        case ARRAY:
+            int arrayHash = 1;
+            for (JsonValue item : (JsonArray) value) {
+                arrayHash = 31 * arrayHash + hash(item);
+            }
+            return arrayHash;
+        case OBJECT:
+            int objectHash = 0;
+            for (Map.Entry<String, JsonValue> entry : ((JsonObject) value).entrySet()) {
+                objectHash += entry.getKey().hashCode() ^ hash(entry.getValue());
+            }
+            return objectHash;
+        case STRING:
+            return ((JsonString) value).getString().hashCode();
+        case NUMBER:
+            return normalize(((JsonNumber) value).bigDecimalValue()).hashCode();
+        case TRUE:
+            return TRUE_HASH;
+        case FALSE:
+            return FALSE_HASH;
+        default:
+            return NULL_HASH;
+        }
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return value.stripTrailingZeros();
+    }
+}
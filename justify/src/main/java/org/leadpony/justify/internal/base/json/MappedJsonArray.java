@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * An unmodifiable JSON array whose items are mapped on demand from the items of
+ * the underlying list.
+ *
+ * @author leadpony
+ *
+ * @param <E> the type of the items in the underlying list.
+ */
+public final class MappedJsonArray<E> extends AbstractList<JsonValue> implements JsonArray {
+
+    private final List<E> list;
+    private final Function<? super E, ? extends JsonValue> mapper;
+
+    /**
+     * Constructs this array.
+     *
+     * @param list   the underlying list.
+     * @param mapper the function which maps each item to a JSON value.
+     */
+    public MappedJsonArray(List<E> list, Function<? super E, ? extends JsonValue> mapper) {
+        this.list = list;
+        this.mapper = mapper;
+    }
+
+    /* As a List */
+
+    @Override
+    public JsonValue get(int index) {
+        return mapper.apply(list.get(index));
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /* As a JsonArray */
+
+    @Override
+    public JsonObject getJsonObject(int index) {
+        return (JsonObject) get(index);
+    }
+
+    @Override
+    public JsonArray getJsonArray(int index) {
+        return (JsonArray) get(index);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(int index) {
+        return (JsonNumber) get(index);
+    }
+
+    @Override
+    public JsonString getJsonString(int index) {
+        return (JsonString) get(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+        List<T> values = new ArrayList<>(size());
+        for (JsonValue value : this) {
+            values.add((T) value);
+        }
+        return values;
+    }
+
+    @Override
+    public String getString(int index) {
+        return getJsonString(index).getString();
+    }
+
+    @Override
+    public String getString(int index, String defaultValue) {
+        JsonValue value = getOrNull(index);
+        if (value instanceof JsonString) {
+            return ((JsonString) value).getString();
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public int getInt(int index) {
+        return getJsonNumber(index).intValue();
+    }
+
+    @Override
+    public int getInt(int index, int defaultValue) {
+        JsonValue value = getOrNull(index);
+        if (value instanceof JsonNumber) {
+            return ((JsonNumber) value).intValue();
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        JsonValue value = get(index);
+        if (value == JsonValue.TRUE) {
+            return true;
+        } else if (value == JsonValue.FALSE) {
+            return false;
+        }
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(int index, boolean defaultValue) {
+        JsonValue value = getOrNull(index);
+        if (value == JsonValue.TRUE) {
+            return true;
+        } else if (value == JsonValue.FALSE) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return get(index).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    /* As an Object */
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (E item : list) {
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            builder.append(mapper.apply(item));
+        }
+        return builder.append(']').toString();
+    }
+
+    private JsonValue getOrNull(int index) {
+        return (index >= 0 && index < size()) ? get(index) : null;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * An unmodifiable JSON object whose values are mapped on demand from the
+ * values of the underlying map.
+ *
+ * @author leadpony
+ *
+ * @param <V> the type of the values in the underlying map.
+ */
+public final class MappedJsonObject<V> extends AbstractMap<String, JsonValue> implements JsonObject {
+
+    private final Map<String, V> map;
+    private final Function<? super V, ? extends JsonValue> mapper;
+    private Set<Map.Entry<String, JsonValue>> entrySet;
+
+    /**
+     * Constructs this object.
+     *
+     * @param map    the underlying map.
+     * @param mapper the function which maps each value to a JSON value.
+     */
+    public MappedJsonObject(Map<String, V> map, Function<? super V, ? extends JsonValue> mapper) {
+        this.map = map;
+        this.mapper = mapper;
+    }
+
+    /* As a Map */
+
+    @Override
+    public Set<Map.Entry<String, JsonValue>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public JsonValue get(Object key) {
+        V value = map.get(key);
+        return (value != null) ? mapper.apply(value) : null;
+    }
+
+    /* As a JsonObject */
+
+    @Override
+    public JsonArray getJsonArray(String name) {
+        return (JsonArray) get(name);
+    }
+
+    @Override
+    public JsonObject getJsonObject(String name) {
+        return (JsonObject) get(name);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(String name) {
+        return (JsonNumber) get(name);
+    }
+
+    @Override
+    public JsonString getJsonString(String name) {
+        return (JsonString) get(name);
+    }
+
+    @Override
+    public String getString(String name) {
+        return getJsonString(name).getString();
+    }
+
+    @Override
+    public String getString(String name, String defaultValue) {
+        JsonValue value = get(name);
+        if (value instanceof JsonString) {
+            return ((JsonString) value).getString();
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public int getInt(String name) {
+        return getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public int getInt(String name, int defaultValue) {
+        JsonValue value = get(name);
+        if (value instanceof JsonNumber) {
+            return ((JsonNumber) value).intValue();
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        JsonValue value = get(name);
+        if (value == null) {
+            throw new NullPointerException();
+        } else if (value == JsonValue.TRUE) {
+            return true;
+        } else if (value == JsonValue.FALSE) {
+            return false;
+        }
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(String name, boolean defaultValue) {
+        JsonValue value = get(name);
+        if (value == JsonValue.TRUE) {
+            return true;
+        } else if (value == JsonValue.FALSE) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(String name) {
+        return get(name).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    /* As an Object */
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (Map.Entry<String, V> entry : map.entrySet()) {
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            JsonStrings.appendQuoted(builder, entry.getKey());
+            builder.append(':').append(mapper.apply(entry.getValue()));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * The set of the entries in this object.
+     *
+     * @author leadpony
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<String, JsonValue>> {
+
+        @Override
+        public Iterator<Map.Entry<String, JsonValue>> iterator() {
+            Iterator<Map.Entry<String, V>> it = map.entrySet().iterator();
+            return new Iterator<Map.Entry<String, JsonValue>>() {
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Map.Entry<String, JsonValue> next() {
+                    Map.Entry<String, V> entry = it.next();
+                    return new SimpleImmutableEntry<>(entry.getKey(), mapper.apply(entry.getValue()));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+    }
+}
@@ -0,0 +1,818 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParsingException;
+
+import org.leadpony.justify.internal.base.Message;
+
+/**
+ * A JSON parser which is fed with chunks of bytes encoded in UTF-8 instead of
+ * reading them from a blocking source.
+ *
+ * <p>
+ * The chunk fed is retained and scanned lazily while the events are pulled
+ * with {@link #hasNext()} and {@link #next()}, so at most two events are queued
+ * at any time. {@link #hasNext()} returns {@code false} when the chunk is
+ * consumed and more input is needed. The memory retained between chunks is
+ * proportional to the nesting depth of the JSON document and the length of the
+ * token being scanned.
+ * </p>
+ *
+ * <p>
+ * The input must be encoded in UTF-8. A leading byte order mark is skipped.
+ * The input which starts like UTF-16 or UTF-32 is rejected with a
+ * {@link JsonParsingException} instead of being reported as unexpected
+ * characters.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class NonBlockingJsonParser extends AbstractJsonParser {
+
+    private static final int CHAR_BUFFER_SIZE = 1024;
+    private static final int MAX_BYTES_PER_CHAR = 4;
+    private static final int LEADING_BYTES = 2;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final String TRUE_LITERAL = "true";
+    private static final String FALSE_LITERAL = "false";
+    private static final String NULL_LITERAL = "null";
+
+    private static final Event[] VALUE_EVENTS = {
+            Event.START_OBJECT,
+            Event.START_ARRAY,
+            Event.VALUE_STRING,
+            Event.VALUE_NUMBER,
+            Event.VALUE_TRUE,
+            Event.VALUE_FALSE,
+            Event.VALUE_NULL
+    };
+
+    private final JsonProvider jsonProvider;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer pendingBytes = ByteBuffer.allocate(MAX_BYTES_PER_CHAR);
+    private final CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+
+    /*
+     * The chunk fed last, which is decoded as the events are pulled.
+     */
+    private ByteBuffer input;
+    private boolean malformed;
+    private int leadingBytes;
+
+    private final ArrayDeque<Token> tokens = new ArrayDeque<>(2);
+    private Token currentToken;
+    private BigDecimal currentNumber;
+
+    /*
+     * The scopes of the containers, true for objects and false for arrays.
+     */
+    private boolean[] scopes = new boolean[16];
+    private int depth;
+
+    private Expectation expectation = Expectation.VALUE;
+    private Scanner scanner = Scanner.STRUCTURE;
+    private boolean ended;
+
+    /*
+     * The states of the token being scanned.
+     */
+    private final StringBuilder text = new StringBuilder();
+    private boolean keyName;
+    private int escape;
+    private int codePoint;
+    private NumberState numberState;
+    private String literal;
+    private Event literalEvent;
+
+    private long lineNumber = 1;
+    private long columnNumber = 1;
+    private long streamOffset;
+
+    /**
+     * Constructs this parser.
+     *
+     * @param jsonProvider the JSON provider used to create values.
+     */
+    public NonBlockingJsonParser(JsonProvider jsonProvider) {
+        this.jsonProvider = jsonProvider;
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        this.chars.flip();
+    }
+
+    /**
+     * Feeds this parser with the next chunk of the input. The chunk is retained
+     * by this parser and its bytes are consumed while the events are pulled,
+     * until {@link #hasNext()} returns {@code false}. The caller must not modify
+     * the chunk until then.
+     *
+     * @param chunk the chunk of bytes encoded in UTF-8.
+     * @throws JsonParsingException  if the input is not encoded in UTF-8.
+     * @throws IllegalStateException if the end of the input was already
+     *                               notified, or the previous chunk is not
+     *                               consumed yet.
+     */
+    public void feed(ByteBuffer chunk) {
+        if (ended || input != null || chars.hasRemaining()) {
+            throw newIllegalStateException("feed");
+        }
+        checkEncoding(chunk);
+        this.input = chunk;
+    }
+
+    /**
+     * Notifies this parser of the end of the input. The rest of the last
+     * chunk, if any, is scanned at once and its events are queued.
+     *
+     * @throws JsonParsingException if the input ended prematurely.
+     */
+    public void end() {
+        if (ended) {
+            return;
+        }
+        do {
+            while (chars.hasRemaining()) {
+                scan(chars.get());
+            }
+        } while (decodeInput());
+        ended = true;
+        pendingBytes.flip();
+        chars.clear();
+        decode(pendingBytes, true);
+        chars.flip();
+        pendingBytes.clear();
+        while (chars.hasRemaining()) {
+            scan(chars.get());
+        }
+        if (malformed) {
+            throw newMalformedInputException();
+        }
+        if (scanner == Scanner.NUMBER) {
+            endNumber();
+        }
+        if (scanner != Scanner.STRUCTURE || expectation != Expectation.END) {
+            throw newParsingException(getExpectedEvents());
+        }
+    }
+
+    /* As a JsonParser */
+
+    @Override
+    public boolean hasNext() {
+        while (tokens.isEmpty()) {
+            if (chars.hasRemaining()) {
+                scan(chars.get());
+            } else if (!decodeInput()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Token token = tokens.poll();
+        this.currentToken = token;
+        this.currentNumber = null;
+        setCurrentEvent(token.event);
+        return token.event;
+    }
+
+    @Override
+    public String getString() {
+        Event event = getCurrentEvent();
+        if (event == Event.KEY_NAME
+                || event == Event.VALUE_STRING
+                || event == Event.VALUE_NUMBER) {
+            return currentToken.value;
+        }
+        throw newIllegalStateException("getString");
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        return getNumber("isIntegralNumber").scale() == 0;
+    }
+
+    @Override
+    public int getInt() {
+        return getNumber("getInt").intValue();
+    }
+
+    @Override
+    public long getLong() {
+        return getNumber("getLong").longValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        return getNumber("getBigDecimal");
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        if (currentToken != null) {
+            return currentToken.location;
+        }
+        return currentLocation();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        Event event = getCurrentEvent();
+        if (event == null) {
+            throw newIllegalStateException("getValue");
+        }
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            return jsonProvider.createValue(getString());
+        case VALUE_NUMBER:
+            return jsonProvider.createValue(getBigDecimal());
+        case VALUE_TRUE:
+            return JsonValue.TRUE;
+        case VALUE_FALSE:
+            return JsonValue.FALSE;
+        case VALUE_NULL:
+            return JsonValue.NULL;
+        default:
+            // The contents of the containers may not have been fed yet.
+            throw newIllegalStateException("getValue");
+        }
+    }
+
+    @Override
+    public void close() {
+        tokens.clear();
+        input = null;
+        chars.position(chars.limit());
+        ended = true;
+    }
+
+    /* As a AbstractJsonParser */
+
+    @Override
+    protected JsonLocation getLastCharLocation() {
+        return SimpleJsonLocation.before(currentLocation());
+    }
+
+    @Override
+    protected boolean isInCollection() {
+        return depth > 0;
+    }
+
+    private BigDecimal getNumber(String method) {
+        if (getCurrentEvent() != Event.VALUE_NUMBER) {
+            throw newIllegalStateException(method);
+        }
+        if (currentNumber == null) {
+            currentNumber = new BigDecimal(currentToken.value);
+        }
+        return currentNumber;
+    }
+
+    private JsonLocation currentLocation() {
+        return new SimpleJsonLocation(lineNumber, columnNumber, streamOffset);
+    }
+
+    /**
+     * Decodes the next characters from the chunk retained.
+     *
+     * @return {@code true} if any characters were decoded, {@code false} if
+     *         the chunk is consumed.
+     */
+    private boolean decodeInput() {
+        if (malformed) {
+            // All characters before the malformed input were scanned.
+            throw newMalformedInputException();
+        }
+        if (input == null) {
+            return false;
+        }
+        chars.clear();
+        // Completes the character split between the previous chunk and this.
+        while (!malformed && pendingBytes.position() > 0 && input.hasRemaining()) {
+            pendingBytes.put(input.get());
+            pendingBytes.flip();
+            decode(pendingBytes, false);
+            pendingBytes.compact();
+        }
+        if (malformed) {
+            input = null;
+        } else if (decode(input, false).isUnderflow()) {
+            // Retains the bytes of the character split at the end of the chunk.
+            pendingBytes.put(input);
+            input = null;
+        }
+        chars.flip();
+        return chars.hasRemaining() || malformed;
+    }
+
+    private CoderResult decode(ByteBuffer bytes, boolean endOfInput) {
+        CoderResult result = decoder.decode(bytes, chars, endOfInput);
+        if (result.isError()) {
+            malformed = true;
+        }
+        return result;
+    }
+
+    /**
+     * Rejects the input which is not encoded in UTF-8, by the zeros or the
+     * byte order mark of UTF-16 and UTF-32 found in the leading bytes.
+     *
+     * @param chunk the chunk to check.
+     */
+    private void checkEncoding(ByteBuffer chunk) {
+        for (int i = chunk.position(); leadingBytes < LEADING_BYTES && i < chunk.limit(); i++) {
+            byte b = chunk.get(i);
+            if (b == 0 || (leadingBytes == 0 && (b == (byte) 0xfe || b == (byte) 0xff))) {
+                throw new JsonParsingException(
+                        Message.PARSER_UNSUPPORTED_ENCODING.format(new HashMap<>()),
+                        currentLocation());
+            }
+            ++leadingBytes;
+        }
+    }
+
+    private void scan(char c) {
+        if (c == BYTE_ORDER_MARK && streamOffset == 0) {
+            return;
+        }
+        if (scanner == Scanner.NUMBER) {
+            if (scanNumber(c)) {
+                advance(c);
+                return;
+            }
+            // The number ends just before this character.
+            endNumber();
+        }
+        advance(c);
+        switch (scanner) {
+        case STRING:
+            scanString(c);
+            break;
+        case LITERAL:
+            scanLiteral(c);
+            break;
+        case STRUCTURE:
+        default:
+            scanStructure(c);
+            break;
+        }
+    }
+
+    private void advance(char c) {
+        ++streamOffset;
+        if (c == '\n') {
+            ++lineNumber;
+            columnNumber = 1;
+        } else {
+            ++columnNumber;
+        }
+    }
+
+    private void scanStructure(char c) {
+        if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+            return;
+        }
+        switch (expectation) {
+        case FIRST_ITEM:
+            if (c == ']') {
+                endContainer();
+                return;
+            }
+            startValue(c);
+            break;
+        case VALUE:
+            startValue(c);
+            break;
+        case FIRST_KEY:
+            if (c == '}') {
+                endContainer();
+                return;
+            }
+            startKey(c);
+            break;
+        case KEY:
+            startKey(c);
+            break;
+        case COLON:
+            if (c != ':') {
+                throw newUnexpectedCharException(c);
+            }
+            expectation = Expectation.VALUE;
+            break;
+        case COMMA:
+            if (c == ',') {
+                expectation = isInObject() ? Expectation.KEY : Expectation.VALUE;
+            } else if (c == (isInObject() ? '}' : ']')) {
+                endContainer();
+            } else {
+                throw newUnexpectedCharException(c);
+            }
+            break;
+        case END:
+        default:
+            throw newUnexpectedCharException(c);
+        }
+    }
+
+    private void startValue(char c) {
+        switch (c) {
+        case '{':
+            startContainer(true);
+            addToken(Event.START_OBJECT, null);
+            expectation = Expectation.FIRST_KEY;
+            break;
+        case '[':
+            startContainer(false);
+            addToken(Event.START_ARRAY, null);
+            expectation = Expectation.FIRST_ITEM;
+            break;
+        case '"':
+            startString(false);
+            break;
+        case 't':
+            startLiteral(TRUE_LITERAL, Event.VALUE_TRUE);
+            break;
+        case 'f':
+            startLiteral(FALSE_LITERAL, Event.VALUE_FALSE);
+            break;
+        case 'n':
+            startLiteral(NULL_LITERAL, Event.VALUE_NULL);
+            break;
+        default:
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                startNumber(c);
+            } else {
+                throw newUnexpectedCharException(c);
+            }
+            break;
+        }
+    }
+
+    private void startKey(char c) {
+        if (c != '"') {
+            throw newUnexpectedCharException(c);
+        }
+        startString(true);
+    }
+
+    private void startContainer(boolean object) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = object;
+    }
+
+    private void endContainer() {
+        addToken(isInObject() ? Event.END_OBJECT : Event.END_ARRAY, null);
+        --depth;
+        endValue();
+    }
+
+    private boolean isInObject() {
+        return scopes[depth - 1];
+    }
+
+    private void endValue() {
+        expectation = (depth == 0) ? Expectation.END : Expectation.COMMA;
+    }
+
+    private void startString(boolean keyName) {
+        this.scanner = Scanner.STRING;
+        this.keyName = keyName;
+        this.escape = 0;
+        text.setLength(0);
+    }
+
+    private void scanString(char c) {
+        if (escape == 0) {
+            if (c == '"') {
+                endString();
+            } else if (c == '\\') {
+                escape = -1;
+            } else if (c < 0x20) {
+                throw newUnexpectedCharException(c);
+            } else {
+                text.append(c);
+            }
+        } else if (escape < 0) {
+            scanEscape(c);
+        } else {
+            int digit = Character.digit(c, 16);
+            if (digit < 0) {
+                throw newUnexpectedCharException(c);
+            }
+            codePoint = (codePoint << 4) | digit;
+            if (--escape == 0) {
+                text.append((char) codePoint);
+            }
+        }
+    }
+
+    private void scanEscape(char c) {
+        escape = 0;
+        switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+            text.append(c);
+            break;
+        case 'b':
+            text.append('\b');
+            break;
+        case 'f':
+            text.append('\f');
+            break;
+        case 'n':
+            text.append('\n');
+            break;
+        case 'r':
+            text.append('\r');
+            break;
+        case 't':
+            text.append('\t');
+            break;
+        case 'u':
+            escape = 4;
+            codePoint = 0;
+            break;
+        default:
+            throw newUnexpectedCharException(c);
+        }
+    }
+
+    private void endString() {
+        scanner = Scanner.STRUCTURE;
+        if (keyName) {
+            addToken(Event.KEY_NAME, text.toString());
+            expectation = Expectation.COLON;
+        } else {
+            addToken(Event.VALUE_STRING, text.toString());
+            endValue();
+        }
+    }
+
+    private void startNumber(char c) {
+        scanner = Scanner.NUMBER;
+        text.setLength(0);
+        text.append(c);
+        if (c == '-') {
+            numberState = NumberState.SIGN;
+        } else if (c == '0') {
+            numberState = NumberState.ZERO;
+        } else {
+            numberState = NumberState.INTEGER;
+        }
+    }
+
+    /**
+     * Scans a character as a part of the number.
+     *
+     * @param c the character to scan.
+     * @return {@code true} if the character is a part of the number,
+     *         {@code false} if the character follows the number.
+     */
+    private boolean scanNumber(char c) {
+        NumberState next = numberState.next(c);
+        if (next == null) {
+            if (!numberState.isFinal()) {
+                throw newUnexpectedCharException(c);
+            }
+            return false;
+        }
+        numberState = next;
+        text.append(c);
+        return true;
+    }
+
+    private void endNumber() {
+        if (!numberState.isFinal()) {
+            throw newParsingException(Event.VALUE_NUMBER);
+        }
+        scanner = Scanner.STRUCTURE;
+        addToken(Event.VALUE_NUMBER, text.toString());
+        endValue();
+    }
+
+    private void startLiteral(String literal, Event event) {
+        this.scanner = Scanner.LITERAL;
+        this.literal = literal;
+        this.literalEvent = event;
+        text.setLength(0);
+        text.append(literal.charAt(0));
+    }
+
+    private void scanLiteral(char c) {
+        int index = text.length();
+        if (c != literal.charAt(index)) {
+            throw newUnexpectedCharException(c);
+        }
+        text.append(c);
+        if (index + 1 == literal.length()) {
+            scanner = Scanner.STRUCTURE;
+            addToken(literalEvent, null);
+            endValue();
+        }
+    }
+
+    private void addToken(Event event, String value) {
+        tokens.add(new Token(event, value, currentLocation()));
+    }
+
+    private Event[] getExpectedEvents() {
+        if (scanner == Scanner.STRING) {
+            return new Event[] {keyName ? Event.KEY_NAME : Event.VALUE_STRING};
+        } else if (scanner == Scanner.LITERAL) {
+            return new Event[] {literalEvent};
+        }
+        switch (expectation) {
+        case FIRST_KEY:
+            return new Event[] {Event.KEY_NAME, Event.END_OBJECT};
+        case KEY:
+            return new Event[] {Event.KEY_NAME};
+        case FIRST_ITEM:
+            Event[] events = Arrays.copyOf(VALUE_EVENTS, VALUE_EVENTS.length + 1);
+            events[VALUE_EVENTS.length] = Event.END_ARRAY;
+            return events;
+        case COMMA:
+            return new Event[] {isInObject() ? Event.END_OBJECT : Event.END_ARRAY};
+        default:
+            return VALUE_EVENTS.clone();
+        }
+    }
+
+    private JsonParsingException newMalformedInputException() {
+        return new JsonParsingException(
+                Message.PARSER_MALFORMED_INPUT.format(new HashMap<>()),
+                currentLocation());
+    }
+
+    private JsonParsingException newUnexpectedCharException(char c) {
+        Map<String, Object> args = new HashMap<>();
+        args.put("char", c);
+        String message = Message.PARSER_UNEXPECTED_CHAR.format(args);
+        return new JsonParsingException(message, currentLocation());
+    }
+
+    /**
+     * The syntactic element expected next.
+     *
+     * @author leadpony
+     */
+    private enum Expectation {
+        VALUE,
+        FIRST_ITEM,
+        FIRST_KEY,
+        KEY,
+        COLON,
+        COMMA,
+        END
+    }
+
+    /**
+     * The scanner of the current token.
+     *
+     * @author leadpony
+     */
+    private enum Scanner {
+        STRUCTURE,
+        STRING,
+        NUMBER,
+        LITERAL
+    }
+
+    /**
+     * The states while scanning a number.
+     *
+     * @author leadpony
+     */
+    private enum NumberState {
+        SIGN(false),
+        ZERO(true),
+        INTEGER(true),
+        POINT(false),
+        FRACTION(true),
+        EXPONENT_MARK(false),
+        EXPONENT_SIGN(false),
+        EXPONENT(true);
+
+        private final boolean isFinal;
+
+        NumberState(boolean isFinal) {
+            this.isFinal = isFinal;
+        }
+
+        boolean isFinal() {
+            return isFinal;
+        }
+
+        /**
+         * Returns the state after the specified character.
+         *
+         * @param c the character following the current state.
+         * @return the next state, or {@code null} if the character cannot
+         *         follow.
+         */
+        NumberState next(char c) {
+            boolean digit = c >= '0' && c <= '9';
+            switch (this) {
+            case SIGN:
+                if (digit) {
+                    return (c == '0') ? ZERO : INTEGER;
+                }
+                return null;
+            case INTEGER:
+                if (digit) {
+                    return INTEGER;
+                }
+                return afterInteger(c);
+            case ZERO:
+                return afterInteger(c);
+            case POINT:
+            case FRACTION:
+                if (digit) {
+                    return FRACTION;
+                }
+                return (this == FRACTION) ? afterFraction(c) : null;
+            case EXPONENT_MARK:
+                if (c == '+' || c == '-') {
+                    return EXPONENT_SIGN;
+                }
+                return digit ? EXPONENT : null;
+            case EXPONENT_SIGN:
+            case EXPONENT:
+            default:
+                return digit ? EXPONENT : null;
+            }
+        }
+
+        private static NumberState afterInteger(char c) {
+            if (c == '.') {
+                return POINT;
+            }
+            return afterFraction(c);
+        }
+
+        private static NumberState afterFraction(char c) {
+            if (c == 'e' || c == 'E') {
+                return EXPONENT_MARK;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A token found in the input.
+     *
+     * @author leadpony
+     */
+    private static final class Token {
+
+        final Event event;
+        final String value;
+        final JsonLocation location;
+
+        Token(Event event, String value, JsonLocation location) {
+            this.event = event;
+            this.value = value;
+            this.location = location;
+        }
+    }
+}
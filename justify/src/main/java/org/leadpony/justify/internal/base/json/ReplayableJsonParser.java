@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A JSON parser which records the events fetched from the underlying parser
+ * and replays them later, followed by the rest of the events of the underlying
+ * parser.
+ *
+ * <p>
+ * This parser allows the head of the input to be inspected without reading
+ * the input twice.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class ReplayableJsonParser extends AbstractStreamJsonParser {
+
+    private final JsonParser parser;
+    private List<RecordedEvent> recordedEvents = new ArrayList<>();
+    private boolean recording = true;
+    private int nextIndex;
+    /*
+     * The recorded event being replayed, or {@code null} if the current event
+     * comes from the underlying parser.
+     */
+    private RecordedEvent replayedEvent;
+    private int depth;
+
+    /**
+     * Constructs this parser.
+     *
+     * @param parser       the underlying JSON parser.
+     * @param jsonProvider the JSON provider.
+     */
+    public ReplayableJsonParser(JsonParser parser, JsonProvider jsonProvider) {
+        super(jsonProvider);
+        this.parser = parser;
+    }
+
+    /**
+     * Stops recording and rewinds this parser to the first event recorded.
+     *
+     * @throws IllegalStateException if this parser has already been rewound.
+     */
+    public void replay() {
+        if (!recording) {
+            throw newIllegalStateException("replay");
+        }
+        recording = false;
+        nextIndex = 0;
+        depth = 0;
+        setCurrentEvent(null);
+    }
+
+    /* As a JsonParser */
+
+    @Override
+    public boolean hasNext() {
+        if (hasRecordedEvent()) {
+            return true;
+        }
+        return parser.hasNext();
+    }
+
+    @Override
+    public String getString() {
+        if (replayedEvent != null) {
+            return replayedEvent.getString();
+        }
+        return parser.getString();
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        if (replayedEvent != null) {
+            return getBigDecimal().scale() == 0;
+        }
+        return parser.isIntegralNumber();
+    }
+
+    @Override
+    public int getInt() {
+        if (replayedEvent != null) {
+            return getBigDecimal().intValue();
+        }
+        return parser.getInt();
+    }
+
+    @Override
+    public long getLong() {
+        if (replayedEvent != null) {
+            return getBigDecimal().longValue();
+        }
+        return parser.getLong();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        if (replayedEvent != null) {
+            return new BigDecimal(replayedEvent.getString());
+        }
+        return parser.getBigDecimal();
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        if (replayedEvent != null) {
+            return replayedEvent.getLocation();
+        }
+        return parser.getLocation();
+    }
+
+    @Override
+    public void skipArray() {
+        if (isLive() && getCurrentEvent() == Event.START_ARRAY) {
+            parser.skipArray();
+            --depth;
+            setCurrentEvent(Event.END_ARRAY);
+        } else {
+            super.skipArray();
+        }
+    }
+
+    @Override
+    public void skipObject() {
+        if (isLive() && getCurrentEvent() == Event.START_OBJECT) {
+            parser.skipObject();
+            --depth;
+            setCurrentEvent(Event.END_OBJECT);
+        } else {
+            super.skipObject();
+        }
+    }
+
+    @Override
+    public void close() {
+        parser.close();
+    }
+
+    /* As a AbstractStreamJsonParser */
+
+    @Override
+    public JsonValue getJsonString() {
+        if (replayedEvent != null) {
+            return super.getJsonString();
+        }
+        return parser.getValue();
+    }
+
+    @Override
+    public JsonValue getJsonNumber() {
+        if (replayedEvent != null) {
+            return getJsonProvider().createValue(getBigDecimal());
+        }
+        return parser.getValue();
+    }
+
+    @Override
+    protected Event fetchNextEvent() {
+        Event event;
+        if (recording) {
+            event = parser.next();
+            recordedEvents.add(recordEvent(event));
+        } else if (hasRecordedEvent()) {
+            replayedEvent = recordedEvents.get(nextIndex++);
+            event = replayedEvent.getEvent();
+        } else {
+            // All recorded events were replayed.
+            replayedEvent = null;
+            recordedEvents = null;
+            event = parser.next();
+        }
+        if (event == Event.START_ARRAY || event == Event.START_OBJECT) {
+            ++depth;
+        } else if (event == Event.END_ARRAY || event == Event.END_OBJECT) {
+            --depth;
+        }
+        return event;
+    }
+
+    /* As a AbstractJsonParser */
+
+    @Override
+    protected boolean isInCollection() {
+        return depth > 0;
+    }
+
+    private boolean hasRecordedEvent() {
+        return !recording && recordedEvents != null && nextIndex < recordedEvents.size();
+    }
+
+    private boolean isLive() {
+        return !recording && replayedEvent == null && !hasRecordedEvent();
+    }
+
+    private RecordedEvent recordEvent(Event event) {
+        String string = null;
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+        case VALUE_NUMBER:
+            string = parser.getString();
+            break;
+        default:
+            break;
+        }
+        return new RecordedEvent(event, string, parser.getLocation());
+    }
+
+    /**
+     * An event recorded with its value and location.
+     *
+     * @author leadpony
+     */
+    private static final class RecordedEvent {
+
+        private final Event event;
+        private final String string;
+        private final JsonLocation location;
+
+        RecordedEvent(Event event, String string, JsonLocation location) {
+            this.event = event;
+            this.string = string;
+            this.location = location;
+        }
+
+        Event getEvent() {
+            return event;
+        }
+
+        String getString() {
+            return string;
+        }
+
+        JsonLocation getLocation() {
+            return location;
+        }
+    }
+}
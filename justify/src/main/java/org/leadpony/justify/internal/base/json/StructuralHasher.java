@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * An event-driven hasher which computes a 128-bit structural hash of a JSON
+ * value without building it.
+ *
+ * <p>
+ * Two values equal to each other have the same hash. The order of the
+ * properties in objects and the notation of numbers, such as {@code 1} and
+ * {@code 1.0}, do not affect the hash. The hash is seeded randomly per JVM so
+ * that collisions cannot be crafted in advance.
+ * </p>
+ *
+ * <p>
+ * An instance of this class can be reused for multiple values in sequence.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class StructuralHasher {
+
+    private static final long SEED1;
+    private static final long SEED2;
+
+    private static final long TAG_NULL = 0x1L;
+    private static final long TAG_TRUE = 0x2L;
+    private static final long TAG_FALSE = 0x3L;
+    private static final long TAG_NUMBER = 0x4L;
+    private static final long TAG_STRING = 0x5L;
+    private static final long TAG_ARRAY = 0x6L;
+    private static final long TAG_OBJECT = 0x7L;
+
+    private static final long PRIME1 = 0x100000001b3L;
+    private static final long PRIME2 = 0x9e3779b97f4a7c15L;
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    static {
+        SecureRandom random = new SecureRandom();
+        SEED1 = random.nextLong();
+        SEED2 = random.nextLong();
+    }
+
+    private int depth;
+    private boolean[] objects = new boolean[INITIAL_CAPACITY];
+    private long[] hashes1 = new long[INITIAL_CAPACITY];
+    private long[] hashes2 = new long[INITIAL_CAPACITY];
+    private long[] keys1 = new long[INITIAL_CAPACITY];
+    private long[] keys2 = new long[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+
+    private long value1;
+    private long value2;
+    private long high;
+    private long low;
+
+    /**
+     * Appends a new parser event.
+     *
+     * @param event  the event to append.
+     * @param parser the JSON parser.
+     * @return {@code true} if this hasher should be continued, or {@code false}
+     *         if the hash of the value is completed.
+     */
+    public boolean append(Event event, JsonParser parser) {
+        switch (event) {
+        case START_ARRAY:
+            push(false);
+            return true;
+        case START_OBJECT:
+            push(true);
+            return true;
+        case END_ARRAY:
+        case END_OBJECT:
+            pop();
+            break;
+        case KEY_NAME:
+            if (depth > 0) {
+                hashString(parser.getString());
+                keys1[depth - 1] = value1;
+                keys2[depth - 1] = value2;
+                return true;
+            }
+            hashString(parser.getString());
+            break;
+        case VALUE_STRING:
+            hashString(parser.getString());
+            break;
+        case VALUE_NUMBER:
+            hashNumber(parser);
+            break;
+        case VALUE_TRUE:
+            hashLiteral(TAG_TRUE);
+            break;
+        case VALUE_FALSE:
+            hashLiteral(TAG_FALSE);
+            break;
+        case VALUE_NULL:
+            hashLiteral(TAG_NULL);
+            break;
+        default:
+            throw new IllegalArgumentException();
+        }
+        return addValue();
+    }
+
+    /**
+     * Returns the higher 64 bits of the last completed hash.
+     *
+     * @return the higher 64 bits of the hash.
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns the lower 64 bits of the last completed hash.
+     *
+     * @return the lower 64 bits of the hash.
+     */
+    public long getLow() {
+        return low;
+    }
+
+    private void push(boolean object) {
+        if (depth == objects.length) {
+            int capacity = depth * 2;
+            objects = Arrays.copyOf(objects, capacity);
+            hashes1 = Arrays.copyOf(hashes1, capacity);
+            hashes2 = Arrays.copyOf(hashes2, capacity);
+            keys1 = Arrays.copyOf(keys1, capacity);
+            keys2 = Arrays.copyOf(keys2, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        objects[depth] = object;
+        hashes1[depth] = 0;
+        hashes2[depth] = 0;
+        counts[depth] = 0;
+        depth++;
+    }
+
+    private void pop() {
+        final int top = --depth;
+        final long tag = objects[top] ? TAG_OBJECT : TAG_ARRAY;
+        final long count = counts[top];
+        value1 = mix(SEED1 ^ tag ^ hashes1[top] ^ (count * PRIME1));
+        value2 = mix(SEED2 + tag + hashes2[top] + (count * PRIME2));
+    }
+
+    private boolean addValue() {
+        if (depth == 0) {
+            high = value1;
+            low = value2;
+            return false;
+        }
+        final int top = depth - 1;
+        if (objects[top]) {
+            // Members are summed up so that their order does not matter.
+            hashes1[top] += mix(keys1[top] * PRIME1 ^ value1);
+            hashes2[top] += mix(keys2[top] + value2 * PRIME2);
+        } else {
+            hashes1[top] = Long.rotateLeft((hashes1[top] ^ value1) * PRIME1, 29);
+            hashes2[top] = Long.rotateLeft((hashes2[top] + value2) * PRIME2, 31);
+        }
+        counts[top]++;
+        return true;
+    }
+
+    private void hashLiteral(long tag) {
+        value1 = mix(SEED1 ^ tag);
+        value2 = mix(SEED2 + tag);
+    }
+
+    private void hashString(String string) {
+        long h1 = SEED1 ^ TAG_STRING;
+        long h2 = SEED2 + TAG_STRING;
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            h1 = (h1 ^ c) * PRIME1;
+            h2 = Long.rotateLeft(h2 + c * PRIME2, 31);
+        }
+        value1 = mix(h1 ^ length);
+        value2 = mix(h2 + length * PRIME1);
+    }
+
+    private void hashNumber(JsonParser parser) {
+        BigDecimal decimal = parser.getBigDecimal();
+        if (decimal.scale() == 0 && decimal.precision() <= MAX_LONG_DIGITS) {
+            hashLong(decimal.longValue());
+        } else {
+            hashDecimal(decimal);
+        }
+    }
+
+    private void hashDecimal(BigDecimal decimal) {
+        if (decimal.signum() == 0) {
+            hashLong(0);
+            return;
+        }
+        BigDecimal normalized = decimal.stripTrailingZeros();
+        if (normalized.scale() <= 0 && normalized.precision() - normalized.scale() <= MAX_LONG_DIGITS) {
+            hashLong(normalized.longValueExact());
+            return;
+        }
+        long h1 = SEED1 ^ TAG_NUMBER;
+        long h2 = SEED2 + TAG_NUMBER;
+        for (byte b : normalized.unscaledValue().toByteArray()) {
+            h1 = (h1 ^ b) * PRIME1;
+            h2 = Long.rotateLeft(h2 + b * PRIME2, 31);
+        }
+        value1 = mix(h1 ^ normalized.scale());
+        value2 = mix(h2 + normalized.scale() * PRIME1);
+    }
+
+    private void hashLong(long value) {
+        value1 = mix(SEED1 ^ TAG_NUMBER ^ (value * PRIME1));
+        value2 = mix(SEED2 + TAG_NUMBER + (value * PRIME2));
+    }
+
+    /*
+     * The finalization mix of MurmurHash3.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
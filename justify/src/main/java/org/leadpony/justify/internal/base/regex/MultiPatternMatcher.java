@@ -0,0 +1,424 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A matcher which finds all of the patterns matching an input at once.
+ *
+ * <p>
+ * A literal string required by each pattern is extracted at construction and
+ * all of these literals are searched in a single pass over the input by an
+ * Aho-Corasick automaton. Only the patterns whose literals were found, and the
+ * patterns without any required literal, are confirmed by their regular
+ * expressions. The {@link Matcher} instances used for the confirmation are
+ * reused per thread.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class MultiPatternMatcher {
+
+    private static final String SIMPLE_ESCAPES = "dDwWsSbBAzZGhHvVRXntrfae";
+    private static final String INLINE_FLAGS = "idmsuxU-";
+
+    private final Pattern[] patterns;
+    private final int words;
+    /*
+     * Bits of the patterns which do not have any required literal.
+     */
+    private final long[] unconditional;
+
+    /*
+     * The automaton. The transitions of each node are sorted by the labels.
+     */
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    private final ThreadLocal<State> states;
+
+    /**
+     * Constructs this matcher.
+     *
+     * @param patterns the patterns to match, cannot be {@code null}.
+     */
+    public MultiPatternMatcher(Collection<Pattern> patterns) {
+        this.patterns = patterns.toArray(new Pattern[0]);
+        this.words = (this.patterns.length + 63) / 64;
+        this.unconditional = new long[words];
+
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> found = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        found.add(new ArrayList<>());
+
+        for (int i = 0; i < this.patterns.length; i++) {
+            String literal = extractRequiredLiteral(this.patterns[i]);
+            if (literal == null) {
+                unconditional[i >>> 6] |= 1L << i;
+                continue;
+            }
+            int node = 0;
+            for (int j = 0; j < literal.length(); j++) {
+                Integer next = trie.get(node).get(literal.charAt(j));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    found.add(new ArrayList<>());
+                    trie.get(node).put(literal.charAt(j), next);
+                }
+                node = next;
+            }
+            found.get(node).add(i);
+        }
+
+        final int size = trie.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        this.failures = new int[size];
+        this.outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> children = trie.get(node);
+            labels[node] = new char[children.size()];
+            targets[node] = new int[children.size()];
+            int k = 0;
+            for (Map.Entry<Character, Integer> entry : children.entrySet()) {
+                labels[node][k] = entry.getKey();
+                targets[node][k] = entry.getValue();
+                k++;
+            }
+        }
+        buildFailures(found);
+
+        this.states = ThreadLocal.withInitial(State::new);
+    }
+
+    /**
+     * Returns the number of the patterns.
+     *
+     * @return the number of the patterns.
+     */
+    public int size() {
+        return patterns.length;
+    }
+
+    /**
+     * Finds all of the patterns matching the given input.
+     *
+     * @param input    the input to match.
+     * @param consumer the consumer to receive the indices of the matching
+     *                 patterns, in ascending order.
+     * @return {@code true} if at least one pattern matched the input.
+     */
+    public boolean find(CharSequence input, IntConsumer consumer) {
+        State state = states.get();
+        long[] bits = state.bits;
+        System.arraycopy(unconditional, 0, bits, 0, words);
+        scan(input, bits);
+
+        boolean matched = false;
+        for (int w = 0; w < words; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                long lowest = word & -word;
+                word ^= lowest;
+                int index = (w << 6) + Long.numberOfTrailingZeros(lowest);
+                if (state.matcher(index).reset(input).find()) {
+                    matched = true;
+                } else {
+                    bits[w] &= ~lowest;
+                }
+            }
+        }
+
+        if (matched) {
+            // The consumer may reenter this method.
+            long[] confirmed = (words == 1) ? null : bits.clone();
+            long single = bits[0];
+            for (int w = 0; w < words; w++) {
+                long word = (confirmed == null) ? single : confirmed[w];
+                while (word != 0) {
+                    long lowest = word & -word;
+                    word ^= lowest;
+                    consumer.accept((w << 6) + Long.numberOfTrailingZeros(lowest));
+                }
+            }
+        }
+        return matched;
+    }
+
+    private void scan(CharSequence input, long[] bits) {
+        if (labels[0].length == 0) {
+            return;
+        }
+        int node = 0;
+        final int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            int next = transit(node, c);
+            while (next < 0 && node != 0) {
+                node = failures[node];
+                next = transit(node, c);
+            }
+            node = (next < 0) ? 0 : next;
+            for (int index : outputs[node]) {
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private int transit(int node, char c) {
+        int k = Arrays.binarySearch(labels[node], c);
+        return (k < 0) ? -1 : targets[node][k];
+    }
+
+    private void buildFailures(List<List<Integer>> found) {
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputs[0] = toArray(found.get(0));
+        for (int child : targets[0]) {
+            failures[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.remove();
+            List<Integer> merged = found.get(node);
+            merged.addAll(found.get(failures[node]));
+            outputs[node] = toArray(merged);
+            for (int k = 0; k < labels[node].length; k++) {
+                char c = labels[node][k];
+                int child = targets[node][k];
+                int fallback = failures[node];
+                int next = transit(fallback, c);
+                while (next < 0 && fallback != 0) {
+                    fallback = failures[fallback];
+                    next = transit(fallback, c);
+                }
+                failures[child] = (next < 0) ? 0 : next;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Extracts the longest literal which any string matching the given pattern
+     * must contain.
+     *
+     * @param pattern the pattern.
+     * @return the literal found, or {@code null} if there is no such literal or
+     *         the pattern is too complex to analyze.
+     */
+    static String extractRequiredLiteral(Pattern pattern) {
+        if (pattern.flags() != 0) {
+            return null;
+        }
+        final String regex = pattern.pattern();
+        final int length = regex.length();
+        StringBuilder run = new StringBuilder();
+        String best = "";
+        boolean lastLiteral = false;
+        int i = 0;
+        while (i < length) {
+            char c = regex.charAt(i++);
+            boolean literal = false;
+            switch (c) {
+            case '\\':
+                if (i >= length) {
+                    return null;
+                }
+                c = regex.charAt(i++);
+                if (Character.isLetterOrDigit(c)) {
+                    if (SIMPLE_ESCAPES.indexOf(c) < 0) {
+                        return null;
+                    }
+                } else {
+                    run.append(c);
+                    literal = true;
+                }
+                break;
+            case '[':
+                i = skipClass(regex, i);
+                if (i < 0) {
+                    return null;
+                }
+                break;
+            case '(':
+                if (i < length && regex.charAt(i) == '?'
+                        && i + 1 < length && INLINE_FLAGS.indexOf(regex.charAt(i + 1)) >= 0) {
+                    return null;
+                }
+                i = skipGroup(regex, i);
+                if (i < 0) {
+                    return null;
+                }
+                break;
+            case '|':
+                return null;
+            case '?':
+            case '*':
+            case '{':
+                if (lastLiteral) {
+                    removeLastCodePoint(run);
+                }
+                if (c == '{') {
+                    i = regex.indexOf('}', i);
+                    if (i < 0) {
+                        return null;
+                    }
+                    i++;
+                }
+                break;
+            case '+':
+            case '.':
+            case '^':
+            case '$':
+                break;
+            default:
+                run.append(c);
+                literal = true;
+                break;
+            }
+            if (!literal && run.length() > 0) {
+                if (run.length() > best.length()) {
+                    best = run.toString();
+                }
+                run.setLength(0);
+            }
+            lastLiteral = literal;
+        }
+        if (run.length() > best.length()) {
+            best = run.toString();
+        }
+        return best.isEmpty() ? null : best;
+    }
+
+    private static void removeLastCodePoint(StringBuilder run) {
+        int last = run.length() - 1;
+        if (last > 0 && Character.isSurrogatePair(run.charAt(last - 1), run.charAt(last))) {
+            last--;
+        }
+        run.setLength(last);
+    }
+
+    /**
+     * Skips a character class.
+     *
+     * @param regex the regular expression.
+     * @param start the index next to the opening bracket.
+     * @return the index next to the closing bracket, or -1 if not found.
+     */
+    private static int skipClass(String regex, int start) {
+        final int length = regex.length();
+        int i = start;
+        if (i < length && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < length && regex.charAt(i) == ']') {
+            i++;
+        }
+        int depth = 1;
+        while (i < length) {
+            char c = regex.charAt(i++);
+            if (c == '\\') {
+                if (i < length && regex.charAt(i) == 'Q') {
+                    return -1;
+                }
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                if (--depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips a group.
+     *
+     * @param regex the regular expression.
+     * @param start the index next to the opening parenthesis.
+     * @return the index next to the closing parenthesis, or -1 if not found.
+     */
+    private static int skipGroup(String regex, int start) {
+        final int length = regex.length();
+        int i = start;
+        int depth = 1;
+        while (i < length) {
+            char c = regex.charAt(i++);
+            if (c == '\\') {
+                if (i < length && regex.charAt(i) == 'Q') {
+                    return -1;
+                }
+                i++;
+            } else if (c == '[') {
+                i = skipClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (c == '(') {
+                if (i + 1 < length && regex.charAt(i) == '?'
+                        && INLINE_FLAGS.indexOf(regex.charAt(i + 1)) >= 0) {
+                    return -1;
+                }
+                depth++;
+            } else if (c == ')') {
+                if (--depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The matching state owned by each thread.
+     *
+     * @author leadpony
+     */
+    private final class State {
+
+        final long[] bits = new long[words];
+        private final Matcher[] matchers = new Matcher[patterns.length];
+
+        Matcher matcher(int index) {
+            Matcher matcher = matchers[index];
+            if (matcher == null) {
+                matcher = patterns[index].matcher("");
+                matchers[index] = matcher;
+            }
+            return matcher;
+        }
+    }
+}
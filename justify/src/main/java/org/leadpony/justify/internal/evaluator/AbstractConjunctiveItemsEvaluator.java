@@ -29,7 +29,8 @@ import org.leadpony.justify.api.keyword.Keyword;
  *
  * @author leadpony
  */
-public abstract class AbstractConjunctiveItemsEvaluator extends AbstractLogicalEvaluator implements ChildrenEvaluator {
+public abstract class AbstractConjunctiveItemsEvaluator extends AbstractLogicalEvaluator
+        implements ChildrenEvaluator, SkippableEvaluator {
 
     private Result finalResult = Result.TRUE;
     private Evaluator childEvaluator;
@@ -51,16 +52,28 @@ public abstract class AbstractConjunctiveItemsEvaluator extends AbstractLogicalE
         if (childEvaluator != null) {
             Result result = childEvaluator.evaluate(event, depth - 1);
             if (result != Result.PENDING) {
+                childEvaluator = null;
                 if (result == Result.FALSE) {
                     finalResult = Result.FALSE;
+                    if (getContext().failsFast()) {
+                        return finalResult;
+                    }
                 }
-                childEvaluator = null;
             }
         }
 
         return Result.PENDING;
     }
 
+    @Override
+    public boolean canSkipContents(int depth) {
+        if (depth == 0) {
+            return false;
+        }
+        return childEvaluator == null
+                || Evaluators.canSkipContents(childEvaluator, depth - 1);
+    }
+
     @Override
     public void append(Function<Evaluator, Evaluator> mapper) {
         Evaluator evaluator = mapper.apply(this);
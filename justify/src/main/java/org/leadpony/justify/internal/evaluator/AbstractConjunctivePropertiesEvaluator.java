@@ -33,7 +33,7 @@ import org.leadpony.justify.api.keyword.Keyword;
  * @author leadpony
  */
 public abstract class AbstractConjunctivePropertiesEvaluator extends AbstractLogicalEvaluator
-        implements ChildrenEvaluator {
+        implements ChildrenEvaluator, SkippableEvaluator {
 
     private Result finalResult = Result.TRUE;
     private Evaluator firstChildEvaluator;
@@ -71,11 +71,34 @@ public abstract class AbstractConjunctivePropertiesEvaluator extends AbstractLog
                     firstChildEvaluator = additionalChildEvaluators.remove(0);
                 }
             }
+            if (finalResult == Result.FALSE && getContext().failsFast()) {
+                return finalResult;
+            }
         }
 
         return Result.PENDING;
     }
 
+    @Override
+    public boolean canSkipContents(int depth) {
+        if (depth == 0) {
+            return false;
+        }
+        final int childDepth = depth - 1;
+        if (firstChildEvaluator != null
+                && !Evaluators.canSkipContents(firstChildEvaluator, childDepth)) {
+            return false;
+        }
+        if (additionalChildEvaluators != null) {
+            for (Evaluator child : additionalChildEvaluators) {
+                if (!Evaluators.canSkipContents(child, childDepth)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public void append(Function<Evaluator, Evaluator> mapper) {
         Evaluator evaluator = mapper.apply(this);
@@ -18,10 +18,8 @@ package org.leadpony.justify.internal.evaluator;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.keyword.Keyword;
-import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
-
-import jakarta.json.stream.JsonLocation;
+import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
 
 /**
  * An implementation of {@link Evaluator} which is provided by a keyword.
@@ -52,12 +50,7 @@ public abstract class AbstractKeywordBasedEvaluator extends AbstractEvaluator {
     }
 
     protected ProblemBuilder newProblemBuilder() {
-        EvaluatorContext context = getContext();
-        JsonLocation location = getParser().getLocation();
-        String pointer = context.getPointer();
-        ProblemBuilder builder = new ProblemBuilder(SimpleJsonLocation.before(location), pointer)
-            .withSchema(getSchema())
+        return ProblemBuilderFactory.newProblemBuilder(this)
             .withKeyword(getKeyword().name());
-        return builder;
     }
 }
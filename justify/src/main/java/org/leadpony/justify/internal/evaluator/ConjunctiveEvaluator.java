@@ -25,7 +25,7 @@ import org.leadpony.justify.api.Evaluator;
 /**
  * @author leadpony
  */
-class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator {
+class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator implements SkippableEvaluator {
 
     private static final long serialVersionUID = 1L;
 
@@ -40,21 +40,37 @@ class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator {
     @Override
     public Result evaluate(Event event, int depth) {
         invokeOperandEvaluators(event, depth);
+        if (finalResult == Result.FALSE && getContext().failsFast()) {
+            return finalResult;
+        }
         if (depth == 0 && event == closingEvent) {
             return finalResult;
         }
         return Result.PENDING;
     }
 
+    @Override
+    public boolean canSkipContents(int depth) {
+        for (Evaluator operand : this) {
+            if (!Evaluators.canSkipContents(operand, depth)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Result invokeOperandEvaluators(Event event, int depth) {
         Iterator<Evaluator> it = iterator();
         while (it.hasNext()) {
             Result result = it.next().evaluate(event, depth);
             if (result != Result.PENDING) {
+                it.remove();
                 if (result == Result.FALSE) {
                     finalResult = Result.FALSE;
+                    if (getContext().failsFast()) {
+                        break;
+                    }
                 }
-                it.remove();
             }
         }
         return Result.PENDING;
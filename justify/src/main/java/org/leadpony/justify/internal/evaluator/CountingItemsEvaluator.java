@@ -26,13 +26,15 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.internal.base.json.ParserEvents;
 import org.leadpony.justify.internal.problem.ProblemBranch;
+import org.leadpony.justify.internal.problem.SelectiveProblemDispatcher;
 
 import jakarta.json.stream.JsonParser.Event;
 
 /**
  * @author leadpony
  */
-public abstract class CountingItemsEvaluator extends AbstractKeywordBasedEvaluator implements ProblemDispatcher {
+public abstract class CountingItemsEvaluator extends AbstractKeywordBasedEvaluator
+        implements SelectiveProblemDispatcher {
 
     private final JsonSchema subschema;
     private int validItems;
@@ -75,12 +77,21 @@ public abstract class CountingItemsEvaluator extends AbstractKeywordBasedEvaluat
 
     @Override
     public final void dispatchProblem(Problem problem) {
+        if (!acceptsProblem()) {
+            return;
+        }
         if (this.problems == null) {
             this.problems = new ProblemBranch();
         }
         this.problems.add(problem);
     }
 
+    @Override
+    public boolean acceptsProblem() {
+        // The branches are not reported in fail-fast mode.
+        return !getContext().failsFast();
+    }
+
     protected Evaluator createItemEvaluator(InstanceType type) {
         return this.subschema.createEvaluator(this, type);
     }
@@ -101,7 +112,9 @@ public abstract class CountingItemsEvaluator extends AbstractKeywordBasedEvaluat
         if (this.problemBranches == null) {
             this.problemBranches = new ArrayList<>();
         }
-        this.problemBranches.add(this.problems);
-        this.problems = null;
+        if (this.problems != null) {
+            this.problemBranches.add(this.problems);
+            this.problems = null;
+        }
     }
 }
@@ -24,20 +24,41 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.problem.ProblemBranch;
+import org.leadpony.justify.internal.problem.SelectiveProblemDispatcher;
 
 /**
  * Evaluator which retains the found problems and dispatches them later.
  *
  * @author leadpony
  */
-public class DeferredEvaluator implements Evaluator, ProblemDispatcher {
+public class DeferredEvaluator implements Evaluator, SelectiveProblemDispatcher {
 
     private final Evaluator parent;
+    private final boolean forwarding;
     private Evaluator evaluator;
     private ProblemBranch problemBranch;
 
+    /**
+     * Constructs this evaluator whose problems will be a branch of a composite
+     * problem.
+     *
+     * @param parent the parent evaluator.
+     */
     public DeferredEvaluator(Evaluator parent) {
+        this(parent, false);
+    }
+
+    /**
+     * Constructs this evaluator.
+     *
+     * @param parent     the parent evaluator.
+     * @param forwarding {@code true} if the problems will be forwarded to the
+     *                   parent as they are, {@code false} if they will be a branch
+     *                   of a composite problem.
+     */
+    public DeferredEvaluator(Evaluator parent, boolean forwarding) {
         this.parent = parent;
+        this.forwarding = forwarding;
     }
 
     /**
@@ -73,16 +94,33 @@ public class DeferredEvaluator implements Evaluator, ProblemDispatcher {
     @Override
     public void dispatchProblem(Problem problem) {
         requireNonNull(problem, "problem");
+        if (!acceptsProblem()) {
+            return;
+        }
         if (this.problemBranch == null) {
             this.problemBranch = new ProblemBranch();
         }
         this.problemBranch.add(problem);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * In fail-fast mode, the composite problems are reported without their
+     * branches.
+     * </p>
+     */
+    @Override
+    public boolean acceptsProblem() {
+        return forwarding || !parent.getContext().failsFast();
+    }
+
     /**
      * Returns the problems found by this evaluator.
      *
-     * @return the problems found by this evaluator.
+     * @return the problems found by this evaluator, or {@code null} if no
+     *         problems were kept.
      */
     public ProblemBranch problems() {
         return this.problemBranch;
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.EvaluatorContext;
+
+/**
+ * A property of object instances which tells which of the subschemas of
+ * "anyOf" or "oneOf" can be satisfied. Each of the subschemas accepts only the
+ * string values enumerated for the property.
+ *
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class Discriminator {
+
+    private final String propertyName;
+    private final int branches;
+    private final Map<String, BitSet> branchesByValue = new HashMap<>();
+
+    /**
+     * Constructs this discriminator.
+     *
+     * @param propertyName   the name of the property.
+     * @param valuesByBranch the values accepted by each of the subschemas.
+     */
+    public Discriminator(String propertyName, List<Set<String>> valuesByBranch) {
+        this.propertyName = propertyName;
+        this.branches = valuesByBranch.size();
+        int index = 0;
+        for (Set<String> values : valuesByBranch) {
+            for (String value : values) {
+                branchesByValue.computeIfAbsent(value, k -> new BitSet()).set(index);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Returns the name of the property.
+     *
+     * @return the name of the property.
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Creates a new selector which watches the events of an object.
+     *
+     * @return newly created selector.
+     */
+    Selector newSelector() {
+        return new Selector();
+    }
+
+    /**
+     * Returns the subschemas which may accept the value of the property.
+     *
+     * @param value the value of the property.
+     * @return the indices of the subschemas, or {@code null} if none of the
+     *         subschemas accepts the value.
+     */
+    private BitSet getBranches(String value) {
+        return branchesByValue.get(value);
+    }
+
+    /**
+     * A selector of subschemas for an object instance.
+     *
+     * @author leadpony
+     */
+    final class Selector {
+
+        private boolean found;
+        private boolean expectingValue;
+
+        /**
+         * Finds the subschemas to be evaluated from the events of the object.
+         *
+         * @param event   the event of the object.
+         * @param depth   the depth of the event.
+         * @param context the context of the evaluators.
+         * @return the indices of the subschemas which may be satisfied, or
+         *         {@code null} if the subschemas are not selected yet. This
+         *         selector returns a non-null value at most once.
+         */
+        BitSet select(Event event, int depth, EvaluatorContext context) {
+            if (found || depth != 1) {
+                return null;
+            }
+            if (event == Event.KEY_NAME) {
+                expectingValue = propertyName.equals(context.getStringValue());
+                return null;
+            }
+            if (!expectingValue) {
+                return null;
+            }
+            // Only the first occurrence of the property is taken into account.
+            found = true;
+            if (event == Event.VALUE_STRING) {
+                BitSet selected = getBranches(context.getStringValue());
+                if (selected != null && selected.cardinality() < branches) {
+                    return selected;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -16,7 +16,11 @@
 
 package org.leadpony.justify.internal.evaluator;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
 
 import jakarta.json.stream.JsonParser.Event;
 
@@ -29,14 +33,39 @@ import org.leadpony.justify.api.keyword.Keyword;
 class DisjunctiveEvaluator extends SimpleDisjunctiveEvaluator {
 
     private final Event closingEvent;
+    private final Discriminator.Selector selector;
+    private List<DeferredEvaluator> branches;
 
     DisjunctiveEvaluator(Evaluator parent, Keyword keyword, Event closingEvent) {
+        this(parent, keyword, closingEvent, null);
+    }
+
+    DisjunctiveEvaluator(Evaluator parent, Keyword keyword, Event closingEvent,
+            Discriminator discriminator) {
         super(parent, keyword);
         this.closingEvent = closingEvent;
+        this.selector = (discriminator != null) ? discriminator.newSelector() : null;
+    }
+
+    @Override
+    public void append(Function<Evaluator, Evaluator> mapper) {
+        super.append(mapper);
+        if (selector != null) {
+            if (branches == null) {
+                branches = new ArrayList<>();
+            }
+            branches.add(getLastOperand());
+        }
     }
 
     @Override
     public Result evaluate(Event event, int depth) {
+        if (selector != null && branches != null) {
+            BitSet selected = selector.select(event, depth, getContext());
+            if (selected != null) {
+                pruneBranches(selected);
+            }
+        }
         if (invokeOperandEvaluators(event, depth) == Result.TRUE) {
             return Result.TRUE;
         }
@@ -46,6 +75,20 @@ class DisjunctiveEvaluator extends SimpleDisjunctiveEvaluator {
         return Result.PENDING;
     }
 
+    /**
+     * Stops evaluating the subschemas which can never be satisfied.
+     *
+     * @param selected the indices of the subschemas to be kept.
+     */
+    private void pruneBranches(BitSet selected) {
+        for (int i = 0; i < branches.size(); i++) {
+            if (!selected.get(i)) {
+                removeOperand(branches.get(i));
+            }
+        }
+        this.branches = null;
+    }
+
     protected Result invokeOperandEvaluators(Event event, int depth) {
         Iterator<DeferredEvaluator> it = iterator();
         while (it.hasNext()) {
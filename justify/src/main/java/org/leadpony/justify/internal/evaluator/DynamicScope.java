@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.evaluator;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.JsonSchema;
+
+/**
+ * An evaluator based on a schema, which remembers the outermost schema having
+ * "$recursiveAnchor" of {@code true} in its dynamic scope, that is, among its
+ * own schema and the schemas of its ancestors.
+ *
+ * <p>
+ * The dynamic scope of an evaluator never changes, so it is searched at most
+ * once for each evaluator, and the evaluators below stop their search here.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface DynamicScope extends Evaluator {
+
+    /**
+     * Returns the outermost schema with the anchor found in this scope.
+     *
+     * @return the schema found, {@link JsonSchema#FALSE} if the scope has no
+     *         such schema, or {@code null} if the scope is not searched yet.
+     */
+    JsonSchema getRecursiveAnchor();
+
+    /**
+     * Remembers the outermost schema with the anchor found in this scope.
+     *
+     * @param schema the schema found, or {@link JsonSchema#FALSE} if the scope
+     *               has no such schema. A boolean schema cannot have the anchor.
+     */
+    void setRecursiveAnchor(JsonSchema schema);
+}
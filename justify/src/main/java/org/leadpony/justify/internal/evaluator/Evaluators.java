@@ -33,6 +33,20 @@ public final class Evaluators {
     private Evaluators() {
     }
 
+    /**
+     * Checks if the specified evaluator needs none of the events inside of the
+     * array or object which has just started.
+     *
+     * @param evaluator the evaluator to check.
+     * @param depth     the depth given to the evaluator with the start event.
+     * @return {@code true} if the contents of the container can be skipped.
+     * @see SkippableEvaluator
+     */
+    public static boolean canSkipContents(Evaluator evaluator, int depth) {
+        return evaluator instanceof SkippableEvaluator
+                && ((SkippableEvaluator) evaluator).canSkipContents(depth);
+    }
+
     public static LogicalEvaluator conjunctive(Evaluator parent, InstanceType type) {
         switch (type) {
         case ARRAY:
@@ -46,11 +60,27 @@ public final class Evaluators {
 
     public static LogicalEvaluator disjunctive(Evaluator parent, Keyword keyword,
             InstanceType type) {
+        return disjunctive(parent, keyword, type, null);
+    }
+
+    /**
+     * Creates an evaluator for "anyOf" which may prune the operands by the
+     * discriminator.
+     *
+     * @param parent        the parent evaluator.
+     * @param keyword       the keyword to evaluate.
+     * @param type          the type of the instance.
+     * @param discriminator the discriminator of the operands, may be
+     *                      {@code null}. This is used only for objects.
+     * @return newly created evaluator.
+     */
+    public static LogicalEvaluator disjunctive(Evaluator parent, Keyword keyword,
+            InstanceType type, Discriminator discriminator) {
         switch (type) {
         case ARRAY:
             return new DisjunctiveEvaluator(parent, keyword, Event.END_ARRAY);
         case OBJECT:
-            return new DisjunctiveEvaluator(parent, keyword, Event.END_OBJECT);
+            return new DisjunctiveEvaluator(parent, keyword, Event.END_OBJECT, discriminator);
         default:
             return new SimpleDisjunctiveEvaluator(parent, keyword);
         }
@@ -59,11 +89,30 @@ public final class Evaluators {
     public static Evaluator exclusive(Evaluator parent, Keyword keyword,
             InstanceType type,
             Iterable<JsonSchema> schemas) {
+        return exclusive(parent, keyword, type, schemas, null);
+    }
+
+    /**
+     * Creates an evaluator for "oneOf" which may prune the subschemas by the
+     * discriminator.
+     *
+     * @param parent        the parent evaluator.
+     * @param keyword       the keyword to evaluate.
+     * @param type          the type of the instance.
+     * @param schemas       the subschemas to evaluate.
+     * @param discriminator the discriminator of the subschemas, may be
+     *                      {@code null}. This is used only for objects.
+     * @return newly created evaluator.
+     */
+    public static Evaluator exclusive(Evaluator parent, Keyword keyword,
+            InstanceType type,
+            Iterable<JsonSchema> schemas,
+            Discriminator discriminator) {
         switch (type) {
         case ARRAY:
             return new ExclusiveEvaluator(parent, keyword, Event.END_ARRAY, schemas, type);
         case OBJECT:
-            return new ExclusiveEvaluator(parent, keyword, Event.END_OBJECT, schemas, type);
+            return new ExclusiveEvaluator(parent, keyword, Event.END_OBJECT, schemas, type, discriminator);
         default:
             return new SimpleExclusiveEvaluator(parent, keyword, schemas, type);
         }
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.evaluator;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import jakarta.json.stream.JsonParser.Event;
@@ -40,18 +41,41 @@ class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
     private List<ProblemBranch> negatedProblemBranches;
     private long evaluationsAsTrue;
     private final Event closingEvent;
+    private final Discriminator.Selector selector;
+    private List<DeferredEvaluator> branches;
+    private List<DeferredEvaluator> negatedBranches;
 
     ExclusiveEvaluator(Evaluator parent, Keyword keyword, Event closingEvent,
             Iterable<JsonSchema> schemas,
             InstanceType type) {
+        this(parent, keyword, closingEvent, schemas, type, null);
+    }
+
+    ExclusiveEvaluator(Evaluator parent, Keyword keyword, Event closingEvent,
+            Iterable<JsonSchema> schemas,
+            InstanceType type,
+            Discriminator discriminator) {
         super(parent, keyword);
         this.operands = createEvaluators(schemas, type);
         this.negated = createNegatedEvaluators(schemas, type);
         this.closingEvent = closingEvent;
+        if (discriminator != null) {
+            this.selector = discriminator.newSelector();
+            this.branches = new ArrayList<>(this.operands);
+            this.negatedBranches = new ArrayList<>(this.negated);
+        } else {
+            this.selector = null;
+        }
     }
 
     @Override
     public Result evaluate(Event event, int depth) {
+        if (selector != null && branches != null) {
+            BitSet selected = selector.select(event, depth, getContext());
+            if (selected != null) {
+                pruneBranches(selected);
+            }
+        }
         if (evaluationsAsTrue <= 1) {
             evaluateAll(event, depth);
         }
@@ -69,6 +93,22 @@ class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
         return Result.PENDING;
     }
 
+    /**
+     * Stops evaluating the subschemas which can never be satisfied.
+     *
+     * @param selected the indices of the subschemas to be kept.
+     */
+    private void pruneBranches(BitSet selected) {
+        for (int i = 0; i < branches.size(); i++) {
+            if (!selected.get(i)) {
+                operands.remove(branches.get(i));
+                negated.remove(negatedBranches.get(i));
+            }
+        }
+        this.branches = null;
+        this.negatedBranches = null;
+    }
+
     private void evaluateAll(Event event, int depth) {
         Iterator<DeferredEvaluator> it = operands.iterator();
         while (it.hasNext()) {
@@ -103,14 +143,20 @@ class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
         if (this.problemBranches == null) {
             this.problemBranches = new ArrayList<>();
         }
-        this.problemBranches.add(evaluator.problems());
+        ProblemBranch branch = evaluator.problems();
+        if (branch != null) {
+            this.problemBranches.add(branch);
+        }
     }
 
     private void addBadNegatedEvaluator(DeferredEvaluator evaluator) {
         if (this.negatedProblemBranches == null) {
             this.negatedProblemBranches = new ArrayList<>();
         }
-        this.negatedProblemBranches.add(evaluator.problems());
+        ProblemBranch branch = evaluator.problems();
+        if (branch != null) {
+            this.negatedProblemBranches.add(branch);
+        }
     }
 
     private List<DeferredEvaluator> createEvaluators(Iterable<JsonSchema> schemas, InstanceType type) {
@@ -15,12 +15,11 @@
  */
 package org.leadpony.justify.internal.evaluator;
 
-import jakarta.json.stream.JsonLocation;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.JsonSchema;
-import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
+import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
 
 /**
  * An implementation of {@link Evaluator} which uses {@link EvaluatorContext}.
@@ -48,10 +47,6 @@ public abstract class RedundantElementEvaluator implements Evaluator {
     }
 
     protected ProblemBuilder newProblemBuilder() {
-        EvaluatorContext context = getContext();
-        JsonLocation location = context.getParser().getLocation();
-        String pointer = context.getPointer();
-        return new ProblemBuilder(SimpleJsonLocation.before(location), pointer)
-            .withSchema(getSchema());
+        return ProblemBuilderFactory.newProblemBuilder(this);
     }
 }
@@ -26,7 +26,8 @@ import org.leadpony.justify.api.keyword.Keyword;
  *
  * @author leadpony
  */
-public abstract class ShallowEvaluator extends AbstractKeywordBasedEvaluator {
+public abstract class ShallowEvaluator extends AbstractKeywordBasedEvaluator
+        implements SkippableEvaluator {
 
     protected ShallowEvaluator(Evaluator parent, Keyword keyword) {
         super(parent, keyword);
@@ -40,5 +41,10 @@ public abstract class ShallowEvaluator extends AbstractKeywordBasedEvaluator {
         return evaluateShallow(event, depth);
     }
 
+    @Override
+    public boolean canSkipContents(int depth) {
+        return depth > 0;
+    }
+
     public abstract Result evaluateShallow(Event event, int depth);
 }
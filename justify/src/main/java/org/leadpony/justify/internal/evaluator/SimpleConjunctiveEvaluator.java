@@ -49,6 +49,9 @@ class SimpleConjunctiveEvaluator extends ArrayList<Evaluator> implements Logical
         for (Evaluator operand : this) {
             if (operand.evaluate(event, depth) == Result.FALSE) {
                 finalResult = Result.FALSE;
+                if (getContext().failsFast()) {
+                    break;
+                }
             }
         }
         return finalResult;
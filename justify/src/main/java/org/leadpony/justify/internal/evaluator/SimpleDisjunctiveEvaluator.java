@@ -71,18 +71,38 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
         return operands.iterator();
     }
 
+    /**
+     * Returns the operand appended last.
+     *
+     * @return the last operand.
+     */
+    protected final DeferredEvaluator getLastOperand() {
+        return operands.get(operands.size() - 1);
+    }
+
+    /**
+     * Removes the operand which is no longer evaluated.
+     *
+     * @param operand the operand to remove.
+     */
+    protected final void removeOperand(DeferredEvaluator operand) {
+        operands.remove(operand);
+    }
+
     protected void addBadEvaluator(DeferredEvaluator evaluator) {
         if (this.problemBranches == null) {
             this.problemBranches = new ArrayList<>();
         }
-        problemBranches.add(evaluator.problems());
+        ProblemBranch branch = evaluator.problems();
+        if (branch != null) {
+            problemBranches.add(branch);
+        }
     }
 
     protected Result dispatchProblems() {
         if (problemBranches == null) {
             dispatchDefaultProblem();
         } else {
-            assert !problemBranches.isEmpty();
             dispatchProblemBranches();
         }
         return Result.FALSE;
@@ -25,6 +25,7 @@ import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.internal.problem.ProblemBranch;
+import org.leadpony.justify.internal.problem.SelectiveProblemDispatcher;
 
 import jakarta.json.stream.JsonParser.Event;
 
@@ -32,7 +33,7 @@ import jakarta.json.stream.JsonParser.Event;
  * @author leadpony
  */
 class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator
-    implements ProblemDispatcher {
+    implements SelectiveProblemDispatcher {
 
     private final Iterable<JsonSchema> schemas;
     private final InstanceType type;
@@ -63,12 +64,21 @@ class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator
 
     @Override
     public void dispatchProblem(Problem problem) {
+        if (!acceptsProblem()) {
+            return;
+        }
         if (this.branch == null) {
             this.branch = new ProblemBranch();
         }
         this.branch.add(problem);
     }
 
+    @Override
+    public boolean acceptsProblem() {
+        // The branches are not reported in fail-fast mode.
+        return !getContext().failsFast();
+    }
+
     private int evaluateAll(Event event, int depth) {
         int evaluationsAsTrue = 0;
         List<ProblemBranch> problemBranches = new ArrayList<>();
@@ -78,8 +88,7 @@ class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator
             if (result == Result.TRUE) {
                 ++evaluationsAsTrue;
             } else if (result == Result.FALSE) {
-                problemBranches.add(this.branch);
-                this.branch = null;
+                addProblemBranch(problemBranches);
             } else {
                 assert false;
             }
@@ -98,11 +107,17 @@ class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator
             Evaluator evaluator = schema.createNegatedEvaluator(this, this.type);
             Result result = evaluator.evaluate(event, depth);
             if (result == Result.FALSE) {
-                problemBranches.add(this.branch);
-                this.branch = null;
+                addProblemBranch(problemBranches);
             }
         }
 
         dispatchNegatedProblems(problemBranches);
     }
+
+    private void addProblemBranch(List<ProblemBranch> problemBranches) {
+        if (this.branch != null) {
+            problemBranches.add(this.branch);
+            this.branch = null;
+        }
+    }
 }
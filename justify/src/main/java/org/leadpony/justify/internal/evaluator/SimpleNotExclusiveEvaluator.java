@@ -81,7 +81,7 @@ class SimpleNotExclusiveEvaluator extends AbstractKeywordBasedEvaluator
     private List<DeferredEvaluator> createEvaluators(Iterable<JsonSchema> schemas, InstanceType type) {
         List<DeferredEvaluator> result = new ArrayList<>();
         for (JsonSchema schema : schemas) {
-            DeferredEvaluator deferred = new DeferredEvaluator(this);
+            DeferredEvaluator deferred = new DeferredEvaluator(this, true);
             Evaluator evaluator = schema.createNegatedEvaluator(deferred, type);
             if (evaluator != Evaluator.ALWAYS_TRUE) {
                 deferred.setEvaluator(evaluator);
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.evaluator;
+
+import org.leadpony.justify.api.Evaluator;
+
+/**
+ * An evaluator which can tell whether it needs the contents of a container
+ * or not.
+ *
+ * @author leadpony
+ */
+public interface SkippableEvaluator extends Evaluator {
+
+    /**
+     * Checks if this evaluator needs none of the events inside of the array or
+     * object which has just started. Even if the contents are skipped, the end
+     * event of the container will be given to this evaluator.
+     *
+     * @param depth the depth given to this evaluator with the start event of
+     *              the container.
+     * @return {@code true} if the contents of the container can be skipped,
+     *         {@code false} otherwise.
+     */
+    boolean canSkipContents(int depth);
+}
@@ -19,22 +19,22 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
-import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
 import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
+import org.leadpony.justify.internal.evaluator.DynamicScope;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
-
-import jakarta.json.stream.JsonLocation;
+import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
 
 /**
  * A skeletal implementation of evaluators produced by JSON schemas.
  *
  * @author leadpony
  */
-abstract class AbstractSchemaBasedEvaluator extends AbstractEvaluator {
+abstract class AbstractSchemaBasedEvaluator extends AbstractEvaluator implements DynamicScope {
 
     private final JsonSchema schema;
     private EvaluatorContext context;
     private ProblemDispatcher dispatcher;
+    private JsonSchema recursiveAnchor;
 
     protected AbstractSchemaBasedEvaluator(Evaluator parent, JsonSchema schema) {
         super(parent);
@@ -78,11 +78,17 @@ abstract class AbstractSchemaBasedEvaluator extends AbstractEvaluator {
         return true;
     }
 
+    @Override
+    public final JsonSchema getRecursiveAnchor() {
+        return recursiveAnchor;
+    }
+
+    @Override
+    public final void setRecursiveAnchor(JsonSchema schema) {
+        this.recursiveAnchor = schema;
+    }
+
     protected final ProblemBuilder createProblemBuilder() {
-        EvaluatorContext context = getContext();
-        JsonLocation location = context.getParser().getLocation();
-        String pointer = context.getPointer();
-        return new ProblemBuilder(SimpleJsonLocation.before(location), pointer)
-            .withSchema(getSchema());
+        return ProblemBuilderFactory.newProblemBuilder(this);
     }
 }
@@ -29,9 +29,12 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.keyword.EvaluationKeyword;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.DeferredEvaluator;
+import org.leadpony.justify.internal.evaluator.Evaluators;
+import org.leadpony.justify.internal.evaluator.SkippableEvaluator;
 import org.leadpony.justify.internal.evaluator.UnsupportedTypeEvaluator;
 import org.leadpony.justify.internal.problem.ProblemBranch;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
+import org.leadpony.justify.internal.problem.SelectiveProblemDispatcher;
 
 import jakarta.json.stream.JsonParser.Event;
 
@@ -40,13 +43,25 @@ import jakarta.json.stream.JsonParser.Event;
  */
 public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEvaluator {
 
-    public static Evaluator of(Collection<EvaluationKeyword> keywords,
+    /**
+     * Creates an evaluator of the keywords.
+     *
+     * @param keywords the keywords to evaluate, all of which must support the
+     *                 type of the instance.
+     * @param parent   the parent evaluator.
+     * @param schema   the schema containing the keywords.
+     * @param type     the type of the instance.
+     * @return newly created evaluator, or {@link Evaluator#ALWAYS_TRUE}.
+     */
+    public static Evaluator of(EvaluationKeyword[] keywords,
             Evaluator parent,
             JsonSchema schema,
             InstanceType type) {
 
         ComplexSchemaBasedEvaluator self = createEvaluator(parent, schema, type);
-        self.addChildren(keywords, type);
+        for (EvaluationKeyword keyword : keywords) {
+            self.addSupportedChild(keyword, type);
+        }
         if (self.isEmpty()) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -105,10 +120,14 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
 
     protected void addChild(EvaluationKeyword keyword, InstanceType type) {
         if (keyword.supportsType(type)) {
-            Evaluator child = keyword.createEvaluator(this, type);
-            if (child != Evaluator.ALWAYS_TRUE) {
-                this.children.add(child);
-            }
+            addSupportedChild(keyword, type);
+        }
+    }
+
+    private void addSupportedChild(EvaluationKeyword keyword, InstanceType type) {
+        Evaluator child = keyword.createEvaluator(this, type);
+        if (child != Evaluator.ALWAYS_TRUE) {
+            this.children.add(child);
         }
     }
 
@@ -124,13 +143,17 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
             for (Evaluator child : this.children) {
                 if (child.evaluate(event, depth) == Result.FALSE) {
                     result = Result.FALSE;
+                    if (getContext().failsFast()) {
+                        break;
+                    }
                 }
             }
             return result;
         }
     }
 
-    private static final class CollectionTypeEvaluator extends ComplexSchemaBasedEvaluator {
+    private static final class CollectionTypeEvaluator extends ComplexSchemaBasedEvaluator
+            implements SkippableEvaluator {
 
         private final Event closingEvent;
         private Result result = Result.TRUE;
@@ -148,6 +171,10 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
 
             invokeChildren(event, depth);
 
+            if (result == Result.FALSE && getContext().failsFast()) {
+                return result;
+            }
+
             if (depth == 0 && event == this.closingEvent) {
                 return result;
             }
@@ -155,6 +182,16 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
             return Result.PENDING;
         }
 
+        @Override
+        public boolean canSkipContents(int depth) {
+            for (Evaluator child : this.children) {
+                if (!Evaluators.canSkipContents(child, depth)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         private void invokeChildren(Event event, int depth) {
             Iterator<Evaluator> it = this.children.iterator();
             while (it.hasNext()) {
@@ -164,6 +201,9 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
                     it.remove();
                     if (result == Result.FALSE) {
                         this.result = Result.FALSE;
+                        if (getContext().failsFast()) {
+                            return;
+                        }
                     }
                 }
             }
@@ -179,8 +219,11 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
         }
 
         protected void addProblemBranch(ProblemBranch branch) {
-            assert !branch.isEmpty();
-            this.branches.add(branch);
+            // The branch is null if its problems were discarded.
+            if (branch != null) {
+                assert !branch.isEmpty();
+                this.branches.add(branch);
+            }
         }
 
         protected void dispatchAllProblems() {
@@ -192,8 +235,6 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
                 branches = this.branches;
             }
 
-            assert !branches.isEmpty();
-
             ProblemBuilder builder = createProblemBuilder()
                     .withMessage(Message.INSTANCE_PROBLEM_ANYOF)
                     .withBranches(branches);
@@ -203,7 +244,7 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
     }
 
     private static final class NegatedSimpleTypeEvaluator extends NegatedComplexSchemaBasedEvaluator
-            implements ProblemDispatcher {
+            implements SelectiveProblemDispatcher {
 
         private ProblemBranch branch;
 
@@ -233,12 +274,21 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
 
         @Override
         public void dispatchProblem(Problem problem) {
+            if (!acceptsProblem()) {
+                return;
+            }
             if (branch == null) {
                 branch = new ProblemBranch();
             }
             branch.add(problem);
         }
 
+        @Override
+        public boolean acceptsProblem() {
+            // The branches are not reported in fail-fast mode.
+            return !getContext().failsFast();
+        }
+
         @Override
         protected void addChild(EvaluationKeyword keyword, InstanceType type) {
             Evaluator child;
@@ -19,6 +19,8 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.keyword.EvaluationKeyword;
+import org.leadpony.justify.internal.evaluator.Evaluators;
+import org.leadpony.justify.internal.evaluator.SkippableEvaluator;
 import org.leadpony.justify.internal.evaluator.UnsupportedTypeEvaluator;
 
 import jakarta.json.stream.JsonParser.Event;
@@ -26,7 +28,8 @@ import jakarta.json.stream.JsonParser.Event;
 /**
  * @author leadpony
  */
-public final class SimpleSchemaBasedEvaluator extends AbstractSchemaBasedEvaluator {
+public final class SimpleSchemaBasedEvaluator extends AbstractSchemaBasedEvaluator
+        implements SkippableEvaluator {
 
     public static Evaluator of(EvaluationKeyword keyword, Evaluator parent,
             JsonSchema schema,
@@ -62,4 +65,9 @@ public final class SimpleSchemaBasedEvaluator extends AbstractSchemaBasedEvaluat
     public Result evaluate(Event event, int depth) {
         return child.evaluate(event, depth);
     }
+
+    @Override
+    public boolean canSkipContents(int depth) {
+        return Evaluators.canSkipContents(child, depth);
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.keyword;
+
+import org.leadpony.justify.api.JsonValidationService;
+
+/**
+ * A keyword which caches what it finds at its first evaluation, such as the
+ * discriminator of the subschemas.
+ *
+ * @author leadpony
+ * @see JsonValidationService#warmUp(org.leadpony.justify.api.JsonSchema)
+ */
+public interface CachingKeyword {
+
+    /**
+     * Fills the caches of this keyword in advance, so that the first evaluation
+     * does no more work than the following ones. This method is called only
+     * after all references in the schema are resolved.
+     */
+    void warmUp();
+}
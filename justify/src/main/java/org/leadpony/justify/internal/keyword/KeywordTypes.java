@@ -32,6 +32,7 @@ import org.leadpony.justify.api.keyword.InvalidKeywordException;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.api.keyword.SubschemaLayout;
 
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonString;
@@ -378,6 +379,11 @@ public final class KeywordTypes {
 
     public abstract static class SchemaKeywordType extends MappingKeywordType<JsonSchema> {
 
+        @Override
+        public SubschemaLayout getSubschemaLayout() {
+            return SubschemaLayout.SCHEMA;
+        }
+
         @Override
         public Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser) {
             return map(jsonValue, schemaParser.parseSubschema(jsonValue));
@@ -386,6 +392,11 @@ public final class KeywordTypes {
 
     public abstract static class SchemaListKeywordType extends MappingKeywordType<Collection<JsonSchema>> {
 
+        @Override
+        public SubschemaLayout getSubschemaLayout() {
+            return SubschemaLayout.SCHEMA_ARRAY;
+        }
+
         @Override
         public Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser) {
             if (jsonValue.getValueType() == ValueType.ARRAY) {
@@ -402,6 +413,11 @@ public final class KeywordTypes {
 
     public abstract static class SchemaMapKeywordType extends MappingKeywordType<Map<String, JsonSchema>> {
 
+        @Override
+        public SubschemaLayout getSubschemaLayout() {
+            return SubschemaLayout.SCHEMA_OBJECT;
+        }
+
         @Override
         public Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser) {
             if (jsonValue.getValueType() == ValueType.OBJECT) {
@@ -16,8 +16,12 @@
 
 package org.leadpony.justify.internal.keyword.applicator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser;
@@ -41,9 +45,15 @@ import org.leadpony.justify.internal.keyword.JsonSchemaMap;
  */
 public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyword {
 
+    /*
+     * The maximum number of the key names to be cached.
+     */
+    private static final int MAX_CACHED_KEY_NAMES = 1024;
+
     protected final Map<K, JsonSchema> propertyMap;
     private final JsonSchemaMap schemaMap;
     private final JsonSchema defaultSchema;
+    private final ConcurrentMap<String, JsonSchema[]> subschemaCache = new ConcurrentHashMap<>();
 
     protected AbstractProperties(JsonValue json,
             Map<K, JsonSchema> propertyMap,
@@ -57,12 +67,12 @@ public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyw
 
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType typep) {
-        return new PropertiesEvaluator(parent, this, this.defaultSchema);
+        return new PropertiesEvaluator(parent, this);
     }
 
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
-        return new NegatedPropertiesEvaluator(parent, this, this.defaultSchema);
+        return new NegatedPropertiesEvaluator(parent, this);
     }
 
     @Override
@@ -89,38 +99,56 @@ public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyw
 
     protected abstract boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer);
 
+    /**
+     * Resolves the subschemas to be applied to the property of the given name.
+     * The result is cached per key name, up to a limited number of names, and
+     * is shared by all evaluators of this keyword.
+     *
+     * @param keyName the name of the property.
+     * @return the subschemas resolved, never be empty.
+     */
+    private JsonSchema[] resolveSubschemas(String keyName) {
+        JsonSchema[] subschemas = subschemaCache.get(keyName);
+        if (subschemas == null) {
+            List<JsonSchema> found = new ArrayList<>();
+            if (!findSubschemas(keyName, found::add)) {
+                found.add(defaultSchema);
+            }
+            subschemas = found.toArray(new JsonSchema[0]);
+            if (subschemaCache.size() < MAX_CACHED_KEY_NAMES) {
+                subschemaCache.putIfAbsent(keyName, subschemas);
+            }
+        }
+        return subschemas;
+    }
+
     /**
      * An evaluator of this keyword.
      *
      * @author leadpony
      */
-    private class PropertiesEvaluator extends AbstractConjunctivePropertiesEvaluator implements Consumer<JsonSchema> {
+    private class PropertiesEvaluator extends AbstractConjunctivePropertiesEvaluator {
 
-        private final JsonSchema defaultSchema;
         private String currentKeyName;
         private InstanceType currentType;
 
-        PropertiesEvaluator(Evaluator parent, Keyword keyword, JsonSchema defaultSchema) {
+        PropertiesEvaluator(Evaluator parent, Keyword keyword) {
             super(parent, keyword);
-            this.defaultSchema = defaultSchema;
         }
 
         @Override
         public void updateChildren(Event event, JsonParser parser) {
             if (event == Event.KEY_NAME) {
-                currentKeyName = parser.getString();
+                currentKeyName = getContext().getStringValue();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
-                if (!findSubschemas(currentKeyName, this)) {
-                    accept(defaultSchema);
+                for (JsonSchema subschema : resolveSubschemas(currentKeyName)) {
+                    appendSubschema(subschema);
                 }
             }
         }
 
-        /* Consumer */
-
-        @Override
-        public void accept(JsonSchema subschema) {
+        private void appendSubschema(JsonSchema subschema) {
             if (subschema == JsonSchema.FALSE) {
                 append(parent -> new RedundantPropertyEvaluator(parent, subschema, currentKeyName));
             } else {
@@ -134,35 +162,28 @@ public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyw
      *
      * @author leadpony
      */
-    private class NegatedPropertiesEvaluator extends AbstractDisjunctivePropertiesEvaluator
-            implements Consumer<JsonSchema> {
+    private class NegatedPropertiesEvaluator extends AbstractDisjunctivePropertiesEvaluator {
 
-        private final JsonSchema defaultSchema;
         private String currentKeyName;
         private InstanceType currentType;
 
-        NegatedPropertiesEvaluator(Evaluator parent, Keyword keyword,
-                JsonSchema defaultSchema) {
+        NegatedPropertiesEvaluator(Evaluator parent, Keyword keyword) {
             super(parent, keyword);
-            this.defaultSchema = defaultSchema;
         }
 
         @Override
         public void updateChildren(Event event, JsonParser parser) {
             if (event == Event.KEY_NAME) {
-                currentKeyName = parser.getString();
+                currentKeyName = getContext().getStringValue();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
-                if (!findSubschemas(currentKeyName, this)) {
-                    accept(defaultSchema);
+                for (JsonSchema subschema : resolveSubschemas(currentKeyName)) {
+                    appendSubschema(subschema);
                 }
             }
         }
 
-        /* Consumer */
-
-        @Override
-        public void accept(JsonSchema subschema) {
+        private void appendSubschema(JsonSchema subschema) {
             if (subschema == JsonSchema.TRUE || subschema == JsonSchema.EMPTY) {
                 append(parent -> new RedundantPropertyEvaluator(parent, subschema, currentKeyName));
             } else {
@@ -177,7 +177,7 @@ public final class AdditionalProperties extends UnaryApplicator {
             @Override
             public void updateChildren(Event event, JsonParser parser) {
                 if (event == Event.KEY_NAME) {
-                    keyName = parser.getString();
+                    keyName = getContext().getStringValue();
                 } else if (ParserEvents.isValue(event)) {
                     append(parent -> createRedundantPropertyEvaluator(parent, keyName));
                 }
@@ -192,7 +192,7 @@ public final class AdditionalProperties extends UnaryApplicator {
             @Override
             public void updateChildren(Event event, JsonParser parser) {
                 if (event == Event.KEY_NAME) {
-                    keyName = parser.getString();
+                    keyName = getContext().getStringValue();
                 } else if (ParserEvents.isValue(event)) {
                     append(parent -> createRedundantPropertyEvaluator(parent, keyName));
                 }
@@ -27,8 +27,10 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.evaluator.Discriminator;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
+import org.leadpony.justify.internal.keyword.CachingKeyword;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
 
 /**
@@ -40,7 +42,7 @@ import org.leadpony.justify.internal.keyword.KeywordTypes;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public class AnyOf extends NaryBooleanLogic {
+public class AnyOf extends NaryBooleanLogic implements CachingKeyword {
 
     public static final KeywordType TYPE = KeywordTypes.mappingSchemaList("anyOf", AnyOf::new);
 
@@ -53,9 +55,16 @@ public class AnyOf extends NaryBooleanLogic {
         return TYPE;
     }
 
+    @Override
+    public void warmUp() {
+        getDiscriminator(getDistinctSubschemas());
+    }
+
     @Override
     public LogicalEvaluator createEvaluator(Evaluator parent, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.disjunctive(parent, this, type);
+        Discriminator discriminator = (type == InstanceType.OBJECT)
+                ? getDiscriminator(getDistinctSubschemas()) : null;
+        LogicalEvaluator evaluator = Evaluators.disjunctive(parent, this, type, discriminator);
         for (JsonSchema subschema : getDistinctSubschemas()) {
             evaluator.append(p -> subschema.createEvaluator(p, type));
         }
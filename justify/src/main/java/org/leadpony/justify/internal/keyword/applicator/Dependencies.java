@@ -32,9 +32,11 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.InvalidKeywordException;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.api.keyword.SubschemaLayout;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.NameIndex;
 import org.leadpony.justify.internal.base.json.JsonPointers;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
@@ -59,6 +61,11 @@ public class Dependencies extends AbstractObjectApplicatorKeyword {
             return "dependencies";
         }
 
+        @Override
+        public SubschemaLayout getSubschemaLayout() {
+            return SubschemaLayout.SCHEMA_OBJECT;
+        }
+
         @Override
         public Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser) {
             if (jsonValue.getValueType() != ValueType.OBJECT) {
@@ -270,24 +277,26 @@ public class Dependencies extends AbstractObjectApplicatorKeyword {
     private class PropertyDependent extends Dependent {
 
         private final Set<String> requiredProperties;
+        private final NameIndex requiredIndex;
 
         PropertyDependent(String property, Set<String> requiredProperties) {
             super(property);
             this.requiredProperties = requiredProperties;
+            this.requiredIndex = NameIndex.of(requiredProperties);
         }
 
         @Override
         Evaluator createEvaluator(Evaluator parent) {
             Keyword keyword = Dependencies.this;
             return new DependentRequired.DependentEvaluator(parent, keyword, getProperty(),
-                    requiredProperties);
+                    requiredProperties, requiredIndex);
         }
 
         @Override
         Evaluator createNegatedEvaluator(Evaluator parent) {
             Keyword keyword = Dependencies.this;
             return new DependentRequired.NegatedDependentEvaluator(parent, keyword, getProperty(),
-                    requiredProperties);
+                    requiredProperties, requiredIndex);
         }
     }
 
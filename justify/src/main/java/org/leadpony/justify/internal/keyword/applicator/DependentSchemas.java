@@ -184,7 +184,7 @@ public class DependentSchemas extends AbstractObjectApplicatorKeyword {
         public Result evaluate(Event event, int depth) {
             if (!active) {
                 if (depth == 1 && event == Event.KEY_NAME) {
-                    String keyName = getParser().getString();
+                    String keyName = getContext().getStringValue();
                     if (keyName.equals(getPropertyName())) {
                         active = true;
                     }
@@ -288,7 +288,7 @@ public class DependentSchemas extends AbstractObjectApplicatorKeyword {
         @Override
         public Result evaluate(Event event, int depth) {
             if (depth == 1 && event == Event.KEY_NAME) {
-                if (getParser().getString().equals(getPropertyName())) {
+                if (getContext().getStringValue().equals(getPropertyName())) {
                     return dispatchProblem();
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
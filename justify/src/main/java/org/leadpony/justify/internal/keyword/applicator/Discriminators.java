@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.keyword.applicator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.EvaluationKeyword;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.RefKeyword;
+import org.leadpony.justify.internal.base.json.JsonPointers;
+import org.leadpony.justify.internal.evaluator.Discriminator;
+import org.leadpony.justify.internal.keyword.validation.Const;
+import org.leadpony.justify.internal.keyword.validation.Enum;
+
+/**
+ * A utility class for finding the discriminator of the subschemas of "anyOf"
+ * or "oneOf". The discriminator is a property which is constrained by "const"
+ * or "enum" in every subschema, possibly through references.
+ *
+ * @author leadpony
+ */
+final class Discriminators {
+
+    /*
+     * The maximum number of references to follow.
+     */
+    private static final int MAX_REFERENCE_DEPTH = 8;
+
+    private Discriminators() {
+    }
+
+    /**
+     * Finds the discriminator of the subschemas.
+     *
+     * @param subschemas the subschemas of the keyword.
+     * @return the discriminator found.
+     */
+    static Optional<Discriminator> detect(Iterable<JsonSchema> subschemas) {
+        List<JsonSchema> branches = new ArrayList<>();
+        subschemas.forEach(branches::add);
+        if (branches.size() < 2) {
+            return Optional.empty();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        collectPropertyNames(branches.get(0), 0, names);
+        for (String name : names) {
+            List<Set<String>> valuesByBranch = new ArrayList<>();
+            for (JsonSchema branch : branches) {
+                Set<String> values = findPropertyValues(branch, name, 0);
+                if (values == null) {
+                    break;
+                }
+                valuesByBranch.add(values);
+            }
+            if (valuesByBranch.size() == branches.size()) {
+                return Optional.of(new Discriminator(name, valuesByBranch));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void collectPropertyNames(JsonSchema schema, int depth, Set<String> names) {
+        if (schema == null || depth > MAX_REFERENCE_DEPTH) {
+            return;
+        }
+        Map<String, Keyword> keywords = schema.getKeywordsAsMap();
+        RefKeyword ref = findDirectRef(keywords);
+        if (ref == null || !isExclusive(ref)) {
+            Keyword properties = keywords.get("properties");
+            if (properties instanceof Properties) {
+                names.addAll(properties.getValueAsJson().asJsonObject().keySet());
+            }
+        }
+        if (ref != null) {
+            collectPropertyNames(ref.getTargetSchema(), depth + 1, names);
+        }
+    }
+
+    /**
+     * Finds the string values of the property accepted by the schema.
+     *
+     * @param schema the schema to search.
+     * @param name   the name of the property.
+     * @param depth  the number of references followed.
+     * @return the accepted values, or {@code null} if the values are not
+     *         constrained.
+     */
+    private static Set<String> findPropertyValues(JsonSchema schema, String name, int depth) {
+        if (schema == null || depth > MAX_REFERENCE_DEPTH) {
+            return null;
+        }
+        Map<String, Keyword> keywords = schema.getKeywordsAsMap();
+        RefKeyword ref = findDirectRef(keywords);
+        if (ref != null && isExclusive(ref)) {
+            return findPropertyValues(ref.getTargetSchema(), name, depth + 1);
+        }
+        Keyword properties = keywords.get("properties");
+        if (properties instanceof Properties) {
+            Optional<JsonSchema> subschema = properties.findSchema("/" + JsonPointers.encode(name));
+            if (subschema.isPresent()) {
+                Set<String> values = findAcceptedValues(subschema.get(), depth);
+                if (values != null) {
+                    return values;
+                }
+            }
+        }
+        if (ref != null) {
+            return findPropertyValues(ref.getTargetSchema(), name, depth + 1);
+        }
+        return null;
+    }
+
+    private static Set<String> findAcceptedValues(JsonSchema schema, int depth) {
+        if (schema == null || depth > MAX_REFERENCE_DEPTH) {
+            return null;
+        }
+        Map<String, Keyword> keywords = schema.getKeywordsAsMap();
+        RefKeyword ref = findDirectRef(keywords);
+        if (ref != null && isExclusive(ref)) {
+            return findAcceptedValues(ref.getTargetSchema(), depth + 1);
+        }
+        Keyword keyword = keywords.get("const");
+        if (keyword instanceof Const) {
+            return toStrings(Collections.singleton(keyword.getValueAsJson()));
+        }
+        keyword = keywords.get("enum");
+        if (keyword instanceof Enum) {
+            return toStrings(keyword.getValueAsJson().asJsonArray());
+        }
+        if (ref != null) {
+            return findAcceptedValues(ref.getTargetSchema(), depth + 1);
+        }
+        return null;
+    }
+
+    private static Set<String> toStrings(Collection<JsonValue> values) {
+        Set<String> strings = new LinkedHashSet<>();
+        for (JsonValue value : values) {
+            // The values of other types never match the string instances.
+            if (value.getValueType() == ValueType.STRING) {
+                strings.add(((JsonString) value).getString());
+            }
+        }
+        return strings;
+    }
+
+    private static RefKeyword findDirectRef(Map<String, Keyword> keywords) {
+        for (Keyword keyword : keywords.values()) {
+            if (keyword instanceof RefKeyword && ((RefKeyword) keyword).isDirect()) {
+                return (RefKeyword) keyword;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isExclusive(Keyword keyword) {
+        return keyword instanceof EvaluationKeyword && ((EvaluationKeyword) keyword).isExclusive();
+    }
+}
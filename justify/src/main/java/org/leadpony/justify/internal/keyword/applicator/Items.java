@@ -33,6 +33,7 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.api.keyword.SubschemaLayout;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
@@ -60,6 +61,11 @@ public abstract class Items extends AbstractArrayApplicatorKeyword  {
             return "items";
         }
 
+        @Override
+        public SubschemaLayout getSubschemaLayout() {
+            return SubschemaLayout.SCHEMA_OR_SCHEMA_ARRAY;
+        }
+
         @Override
         public Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser) {
             switch (jsonValue.getValueType()) {
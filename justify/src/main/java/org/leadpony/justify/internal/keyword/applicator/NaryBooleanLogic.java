@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import jakarta.json.JsonValue;
 import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.internal.evaluator.Discriminator;
 import org.leadpony.justify.internal.keyword.JsonSchemaMap;
 
 /**
@@ -37,6 +38,7 @@ abstract class NaryBooleanLogic extends AbstractApplicatorKeyword {
     private final List<JsonSchema> subschemas;
     private final List<JsonSchema> distinctSubschemas;
     private final JsonSchemaMap schemaMap;
+    private Optional<Discriminator> discriminator;
 
     protected NaryBooleanLogic(JsonValue json, Collection<JsonSchema> subschemas) {
         super(json);
@@ -69,4 +71,21 @@ abstract class NaryBooleanLogic extends AbstractApplicatorKeyword {
     protected final Iterable<JsonSchema> getDistinctSubschemas() {
         return distinctSubschemas;
     }
+
+    /**
+     * Returns the discriminator of the subschemas to be evaluated.
+     *
+     * @param subschemas the subschemas to be evaluated, which must be the same
+     *                   for every call.
+     * @return the discriminator found, or {@code null} if not found.
+     */
+    protected final Discriminator getDiscriminator(Iterable<JsonSchema> subschemas) {
+        // The subschemas are examined once all references are resolved.
+        Optional<Discriminator> found = this.discriminator;
+        if (found == null) {
+            found = Discriminators.detect(subschemas);
+            this.discriminator = found;
+        }
+        return found.orElse(null);
+    }
 }
@@ -27,7 +27,9 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.evaluator.Discriminator;
 import org.leadpony.justify.internal.evaluator.Evaluators;
+import org.leadpony.justify.internal.keyword.CachingKeyword;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
 
 /**
@@ -39,7 +41,7 @@ import org.leadpony.justify.internal.keyword.KeywordTypes;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public class OneOf extends NaryBooleanLogic {
+public class OneOf extends NaryBooleanLogic implements CachingKeyword {
 
     public static final KeywordType TYPE = KeywordTypes.mappingSchemaList("oneOf", OneOf::new);
 
@@ -52,9 +54,16 @@ public class OneOf extends NaryBooleanLogic {
         return TYPE;
     }
 
+    @Override
+    public void warmUp() {
+        getDiscriminator(getSubschemas());
+    }
+
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-        return Evaluators.exclusive(parent, this, type, getSubschemas());
+        Discriminator discriminator = (type == InstanceType.OBJECT)
+                ? getDiscriminator(getSubschemas()) : null;
+        return Evaluators.exclusive(parent, this, type, getSubschemas(), discriminator);
     }
 
     @Override
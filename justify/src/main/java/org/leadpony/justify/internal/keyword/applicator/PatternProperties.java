@@ -19,7 +19,6 @@ package org.leadpony.justify.internal.keyword.applicator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -30,9 +29,11 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.InvalidKeywordException;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.api.keyword.SubschemaLayout;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.regex.MultiPatternMatcher;
 
 /**
  * @author leadpony
@@ -50,6 +51,11 @@ public class PatternProperties extends AbstractProperties<Pattern> {
             return "patternProperties";
         }
 
+        @Override
+        public SubschemaLayout getSubschemaLayout() {
+            return SubschemaLayout.SCHEMA_OBJECT;
+        }
+
         @Override
         public Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser) {
             if (jsonValue.getValueType() != ValueType.OBJECT) {
@@ -71,6 +77,8 @@ public class PatternProperties extends AbstractProperties<Pattern> {
     };
 
     private final Properties properties;
+    private final MultiPatternMatcher matcher;
+    private final JsonSchema[] subschemas;
 
     public PatternProperties(JsonValue json, Map<Pattern, JsonSchema> propertyMap) {
         this(json, propertyMap, null, null);
@@ -81,6 +89,8 @@ public class PatternProperties extends AbstractProperties<Pattern> {
             AdditionalProperties additionalProperties) {
         super(json, propertyMap, additionalProperties);
         this.properties = properties;
+        this.matcher = new MultiPatternMatcher(propertyMap.keySet());
+        this.subschemas = propertyMap.values().toArray(new JsonSchema[0]);
     }
 
     @Override
@@ -107,14 +117,6 @@ public class PatternProperties extends AbstractProperties<Pattern> {
 
     @Override
     protected boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer) {
-        boolean found = false;
-        for (Pattern pattern : propertyMap.keySet()) {
-            Matcher m = pattern.matcher(keyName);
-            if (m.find()) {
-                consumer.accept(propertyMap.get(pattern));
-                found = true;
-            }
-        }
-        return found;
+        return matcher.find(keyName, index -> consumer.accept(subschemas[index]));
     }
 }
@@ -150,7 +150,7 @@ public class Properties extends AbstractProperties<String> {
         public Result evaluate(Event event, int depth) {
             Result result = super.evaluate(event, depth);
             if (depth == 1 && event == Event.KEY_NAME) {
-                defaultValues.remove(getContext().getParser().getString());
+                defaultValues.remove(getContext().getStringValue());
             } else if (depth == 0 && event == Event.END_OBJECT) {
                 if (!defaultValues.isEmpty()) {
                     supplyDefaultValues();
@@ -137,7 +137,7 @@ public class ContentEncoding extends AbstractAssertionKeyword {
 
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-        if (test(parent.getContext().getParser().getString())) {
+        if (test(parent.getContext().getStringValue())) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new ContentEncodingEvaluator(parent, this) {
@@ -152,7 +152,7 @@ public class ContentEncoding extends AbstractAssertionKeyword {
 
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
-        if (!test(parent.getContext().getParser().getString())) {
+        if (!test(parent.getContext().getStringValue())) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new ContentEncodingEvaluator(parent, this) {
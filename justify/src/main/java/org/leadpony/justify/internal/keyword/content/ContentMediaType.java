@@ -177,7 +177,7 @@ public class ContentMediaType extends AbstractAssertionKeyword {
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
-        String value = context.getParser().getString();
+        String value = context.getStringValue();
         if (testValue(value, context, true)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -194,7 +194,7 @@ public class ContentMediaType extends AbstractAssertionKeyword {
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
-        String value = context.getParser().getString();
+        String value = context.getStringValue();
         if (!testValue(value, context, false)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -15,6 +15,7 @@
  */
 package org.leadpony.justify.internal.keyword.core;
 
+import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.keyword.InvalidKeywordException;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
@@ -62,4 +63,15 @@ public final class RecursiveAnchor extends AbstractKeyword {
     public KeywordType getType() {
         return TYPE;
     }
+
+    /**
+     * Checks if the specified schema has this keyword with the value of
+     * {@code true}.
+     *
+     * @param schema the schema to check.
+     * @return {@code true} if the schema is a target of "$recursiveRef".
+     */
+    public static boolean isEnabledIn(JsonSchema schema) {
+        return schema.getKeywordsAsMap().get(NAME) == TRUE;
+    }
 }
@@ -24,6 +24,7 @@ import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.evaluator.DynamicScope;
 
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
@@ -61,6 +62,12 @@ public class RecursiveRef extends Ref {
         }
     };
 
+    /*
+     * Stands for no anchor found in the dynamic scope. A boolean schema cannot
+     * have "$recursiveAnchor".
+     */
+    private static final JsonSchema NO_ANCHOR = JsonSchema.FALSE;
+
     protected RecursiveRef(JsonValue jsonValue, JsonSchemaReference reference) {
         super(jsonValue, reference);
     }
@@ -76,29 +83,59 @@ public class RecursiveRef extends Ref {
     }
 
     @Override
-    protected JsonSchema findtTargetSchema(Evaluator parent, JsonSchemaReference reference) {
-        final JsonSchema direct = reference.getTargetSchema();
-        if (testSchemaIsTarget(direct)) {
-            return findTargetSchemaRecursively(parent, direct);
-        } else {
+    protected JsonSchema findTargetSchema(Evaluator parent) {
+        final JsonSchema direct = super.findTargetSchema(parent);
+        if (!RecursiveAnchor.isEnabledIn(direct)) {
             return direct;
         }
+        JsonSchema anchor = findOutermostAnchor(parent);
+        return (anchor != NO_ANCHOR) ? anchor : direct;
     }
 
-    private static JsonSchema findTargetSchemaRecursively(Evaluator parent, JsonSchema defaultSchema) {
-        JsonSchema targetSchema = defaultSchema;
+    /**
+     * Finds the outermost schema with "$recursiveAnchor" of {@code true} in the
+     * dynamic scope of the specified evaluator.
+     *
+     * <p>
+     * The search stops at the first scope which was already searched, and the
+     * result is remembered by every scope passed on the way. On recursive
+     * instances each scope is therefore searched only once.
+     * </p>
+     *
+     * @param parent the parent of the evaluator to create.
+     * @return the schema found, or {@link #NO_ANCHOR} if not found.
+     */
+    private static JsonSchema findOutermostAnchor(Evaluator parent) {
+        JsonSchema known = NO_ANCHOR;
+        JsonSchema found = NO_ANCHOR;
+        Evaluator foundAt = null;
+        Evaluator stop = null;
         for (Evaluator evaluator = parent; evaluator != null; evaluator = evaluator.getParent()) {
-            if (evaluator.isBasedOnSchema()) {
-                JsonSchema schema = evaluator.getSchema();
-                if (testSchemaIsTarget(schema)) {
-                    targetSchema = schema;
+            if (evaluator instanceof DynamicScope) {
+                JsonSchema anchor = ((DynamicScope) evaluator).getRecursiveAnchor();
+                if (anchor != null) {
+                    known = anchor;
+                    stop = evaluator;
+                    break;
                 }
             }
+            if (evaluator.isBasedOnSchema() && RecursiveAnchor.isEnabledIn(evaluator.getSchema())) {
+                found = evaluator.getSchema();
+                foundAt = evaluator;
+            }
         }
-        return targetSchema;
-    }
 
-    private static boolean testSchemaIsTarget(JsonSchema schema) {
-        return schema.getKeywordsAsMap().get(RecursiveAnchor.NAME) == RecursiveAnchor.TRUE;
+        final JsonSchema result = (known != NO_ANCHOR) ? known : found;
+        // The scopes above the outermost anchor found share the known one.
+        JsonSchema anchor = result;
+        for (Evaluator evaluator = parent; evaluator != stop; evaluator = evaluator.getParent()) {
+            if (evaluator instanceof DynamicScope) {
+                ((DynamicScope) evaluator).setRecursiveAnchor(anchor);
+            }
+            if (evaluator == foundAt) {
+                anchor = known;
+            }
+        }
+        return result;
     }
 }
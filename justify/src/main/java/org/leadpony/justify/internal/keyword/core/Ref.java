@@ -112,13 +112,13 @@ public class Ref extends AbstractKeyword implements RefKeyword {
 
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-        JsonSchema schema = findtTargetSchema(parent, this.reference);
+        JsonSchema schema = findTargetSchema(parent);
         return schema.createEvaluator(parent, type);
     }
 
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
-        JsonSchema schema = findtTargetSchema(parent, this.reference);
+        JsonSchema schema = findTargetSchema(parent);
         return schema.createNegatedEvaluator(parent, type);
     }
 
@@ -139,7 +139,14 @@ public class Ref extends AbstractKeyword implements RefKeyword {
         return reference;
     }
 
-    protected JsonSchema findtTargetSchema(Evaluator parent, JsonSchemaReference reference) {
+    /**
+     * Finds the schema to which the evaluation is delegated.
+     *
+     * @param parent the parent evaluator.
+     * @return the target schema.
+     */
+    protected JsonSchema findTargetSchema(Evaluator parent) {
+        // The target was resolved when the schema was read.
         return getTargetSchema();
     }
 }
@@ -16,15 +16,18 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
-import jakarta.json.JsonBuilderFactory;
+import java.util.Collection;
+
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 
-import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.base.json.JsonValueIndex;
+import org.leadpony.justify.internal.base.json.ParserEvents;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
@@ -32,63 +35,90 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 /**
  * The base class of {@link Const} and {@link Enum}.
  *
+ * <p>
+ * The expected values are indexed when the keyword is created. Scalar
+ * instances are tested directly from the parser events, and only arrays and
+ * objects are built as JSON values.
+ * </p>
+ *
  * @author leadpony
  */
 abstract class AbstractEqualityAssertion extends AbstractAssertionKeyword {
 
-    protected AbstractEqualityAssertion(JsonValue json) {
+    private final JsonValueIndex index;
+
+    protected AbstractEqualityAssertion(JsonValue json, Collection<JsonValue> expected) {
         super(json);
+        this.index = JsonValueIndex.of(expected);
     }
 
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-        EvaluatorContext context = parent.getContext();
-        JsonBuilderFactory jsonBuilderFactory = context.getJsonBuilderFactory();
-        JsonInstanceBuilder builder = new JsonInstanceBuilder(jsonBuilderFactory);
-        return new AbstractKeywordBasedEvaluator(parent, this) {
-            @Override
-            public Result evaluate(Event event, int depth) {
-                if (builder.append(event, context.getParser())) {
-                    return Result.PENDING;
-                }
-                JsonValue value = builder.build();
-                if (testValue(value)) {
-                    return Result.TRUE;
-                }
-                ProblemBuilder problemBuilder = newProblemBuilder()
-                        .withParameter("actual", value);
-                getDispatcher().dispatchProblem(createProblem(problemBuilder));
-                return Result.FALSE;
-            }
-        };
+        return new EqualityEvaluator(parent, false);
     }
 
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
-        EvaluatorContext context = parent.getContext();
-        JsonBuilderFactory jsonBuilderFactory = context.getJsonBuilderFactory();
-        JsonInstanceBuilder builder = new JsonInstanceBuilder(jsonBuilderFactory);
-        return new AbstractKeywordBasedEvaluator(parent, this) {
-            @Override
-            public Result evaluate(Event event, int depth) {
-                if (builder.append(event, context.getParser())) {
-                    return Result.PENDING;
+        return new EqualityEvaluator(parent, true);
+    }
+
+    protected abstract Problem createProblem(ProblemBuilder builder);
+
+    protected abstract Problem createNegatedProblem(ProblemBuilder builder);
+
+    /**
+     * An evaluator of this keyword.
+     *
+     * @author leadpony
+     */
+    private final class EqualityEvaluator extends AbstractKeywordBasedEvaluator {
+
+        private final boolean negated;
+        private JsonInstanceBuilder builder;
+
+        EqualityEvaluator(Evaluator parent, boolean negated) {
+            super(parent, AbstractEqualityAssertion.this);
+            this.negated = negated;
+        }
+
+        @Override
+        public Result evaluate(Event event, int depth) {
+            JsonParser parser = getParser();
+            JsonValue value = null;
+            boolean found;
+            if (builder == null && !ParserEvents.isStartOfContainer(event)) {
+                found = index.containsScalar(event, getContext());
+            } else {
+                if (builder == null) {
+                    builder = new JsonInstanceBuilder(getContext().getJsonBuilderFactory());
                 }
-                JsonValue value = builder.build();
-                if (!testValue(value)) {
-                    return Result.TRUE;
+                if (builder.append(event, parser)) {
+                    return Result.PENDING;
                 }
-                ProblemBuilder problemBuilder = newProblemBuilder()
-                        .withParameter("actual", value);
-                getDispatcher().dispatchProblem(createNegatedProblem(problemBuilder));
-                return Result.FALSE;
+                value = builder.build();
+                found = index.contains(value);
             }
-        };
-    }
 
-    protected abstract boolean testValue(JsonValue value);
+            if (found != negated) {
+                return Result.TRUE;
+            }
 
-    protected abstract Problem createProblem(ProblemBuilder builder);
+            if (value == null) {
+                value = buildScalar(event, parser);
+            }
+            ProblemBuilder problemBuilder = newProblemBuilder()
+                    .withParameter("actual", value);
+            Problem problem = negated
+                    ? createNegatedProblem(problemBuilder)
+                    : createProblem(problemBuilder);
+            getDispatcher().dispatchProblem(problem);
+            return Result.FALSE;
+        }
 
-    protected abstract Problem createNegatedProblem(ProblemBuilder builder);
+        private JsonValue buildScalar(Event event, JsonParser parser) {
+            JsonInstanceBuilder scalarBuilder = new JsonInstanceBuilder(getContext().getJsonBuilderFactory());
+            scalarBuilder.append(event, parser);
+            return scalarBuilder.build();
+        }
+    }
 }
@@ -57,10 +57,14 @@ abstract class AbstractNumericAssertion extends AbstractAssertionKeyword {
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
-        BigDecimal value = context.getParser().getBigDecimal();
-        if (testValue(value)) {
+        if (supportsLongValue() && context.hasLongValue()) {
+            if (testValue(context.getLongValue())) {
+                return Evaluator.ALWAYS_TRUE;
+            }
+        } else if (testValue(context.getNumberValue())) {
             return Evaluator.ALWAYS_TRUE;
         }
+        BigDecimal value = context.getNumberValue();
         return new AbstractKeywordBasedEvaluator(parent, this) {
             @Override
             public Result evaluate(Event event, int depth) {
@@ -75,10 +79,14 @@ abstract class AbstractNumericAssertion extends AbstractAssertionKeyword {
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
-        BigDecimal value = context.getParser().getBigDecimal();
-        if (!testValue(value)) {
+        if (supportsLongValue() && context.hasLongValue()) {
+            if (!testValue(context.getLongValue())) {
+                return Evaluator.ALWAYS_TRUE;
+            }
+        } else if (!testValue(context.getNumberValue())) {
             return Evaluator.ALWAYS_TRUE;
         }
+        BigDecimal value = context.getNumberValue();
         return new AbstractKeywordBasedEvaluator(parent, this) {
             @Override
             public Result evaluate(Event event, int depth) {
@@ -90,9 +98,44 @@ abstract class AbstractNumericAssertion extends AbstractAssertionKeyword {
         };
     }
 
+    /**
+     * Checks if this assertion can test the values of {@code long} type.
+     *
+     * @return {@code true} if {@link #testValue(long)} is available.
+     */
+    protected boolean supportsLongValue() {
+        return false;
+    }
+
+    /**
+     * Tests an integral value which fits in {@code long}.
+     *
+     * @param value the value to test.
+     * @return {@code true} if the value valid, {@code false} otherwise.
+     */
+    protected boolean testValue(long value) {
+        return testValue(BigDecimal.valueOf(value));
+    }
+
     protected abstract boolean testValue(BigDecimal value);
 
     protected abstract Problem createProblem(ProblemBuilder builder);
 
     protected abstract Problem createNegatedProblem(ProblemBuilder builder);
+
+    /**
+     * Checks if the given number is represented exactly in {@code long}.
+     *
+     * @param value the value of the keyword.
+     * @return {@code true} if the value is an integer in the range of {@code long}.
+     */
+    protected static boolean isLongValue(BigDecimal value) {
+        if (value.scale() > 0) {
+            value = value.stripTrailingZeros();
+            if (value.scale() > 0) {
+                return false;
+            }
+        }
+        return value.toBigInteger().bitLength() < Long.SIZE;
+    }
 }
@@ -29,6 +29,8 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
 
     private final BigDecimal limit;
+    private final boolean longLimit;
+    private final long longLimitValue;
 
     /**
      * Constructs this assertion.
@@ -38,6 +40,18 @@ abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
     protected AbstractNumericBoundAssertion(JsonValue json, BigDecimal limit) {
         super(json);
         this.limit = limit;
+        this.longLimit = isLongValue(limit);
+        this.longLimitValue = longLimit ? limit.longValue() : 0;
+    }
+
+    @Override
+    protected boolean supportsLongValue() {
+        return longLimit;
+    }
+
+    @Override
+    protected boolean testValue(long value) {
+        return testValue(value, this.longLimitValue);
     }
 
     @Override
@@ -77,6 +91,15 @@ abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
      */
     protected abstract boolean testValue(BigDecimal actual, BigDecimal limit);
 
+    /**
+     * Tests a value against the boundary, both of which are integers.
+     *
+     * @param actual the value to test.
+     * @param limit the limit of the boundary.
+     * @return {@code true} if the value valid, {@code false} otherwise.
+     */
+    protected abstract boolean testValue(long actual, long limit);
+
     protected abstract Message getMessageForTest();
 
     protected abstract Message getMessageForNegatedTest();
@@ -58,10 +58,10 @@ abstract class AbstractStringAssertion extends AbstractAssertionKeyword {
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
-        String value = context.getParser().getString();
-        if (testValue(value)) {
+        if (testValue(context)) {
             return Evaluator.ALWAYS_TRUE;
         }
+        String value = context.getStringValue();
         return new AbstractKeywordBasedEvaluator(parent, this) {
             @Override
             public Result evaluate(Event event, int depth) {
@@ -76,10 +76,10 @@ abstract class AbstractStringAssertion extends AbstractAssertionKeyword {
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
-        String value = context.getParser().getString();
-        if (!testValue(value)) {
+        if (!testValue(context)) {
             return Evaluator.ALWAYS_TRUE;
         }
+        String value = context.getStringValue();
         return new AbstractKeywordBasedEvaluator(parent, this) {
             @Override
             public Result evaluate(Event event, int depth) {
@@ -103,6 +103,16 @@ abstract class AbstractStringAssertion extends AbstractAssertionKeyword {
         builder.withParameter("actual", toActualValue(actual));
     }
 
+    /**
+     * Tests the string at the current event.
+     *
+     * @param context the context of the evaluation.
+     * @return {@code true} if the value valid, {@code false} otherwise.
+     */
+    protected boolean testValue(EvaluatorContext context) {
+        return testValue(context.getStringValue());
+    }
+
     protected abstract boolean testValue(String value);
 
     protected Object toActualValue(String value) {
@@ -16,6 +16,8 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
+import java.util.Collections;
+
 import jakarta.json.JsonValue;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
@@ -40,7 +42,7 @@ public class Const extends AbstractEqualityAssertion {
     public static final KeywordType TYPE = KeywordTypes.mappingJsonValue("const", Const::new);
 
     public Const(JsonValue expected) {
-        super(expected);
+        super(expected, Collections.singleton(expected));
     }
 
     @Override
@@ -48,11 +50,6 @@ public class Const extends AbstractEqualityAssertion {
         return TYPE;
     }
 
-    @Override
-    protected boolean testValue(JsonValue value) {
-        return value.equals(getValueAsJson());
-    }
-
     @Override
     protected Problem createProblem(ProblemBuilder builder) {
         final JsonValue expected = getValueAsJson();
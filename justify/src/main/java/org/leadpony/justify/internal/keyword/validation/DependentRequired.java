@@ -29,6 +29,7 @@ import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.NameIndex;
 import org.leadpony.justify.internal.evaluator.AbstractPropertyDependentEvaluator;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
@@ -140,45 +141,49 @@ public class DependentRequired extends AbstractObjectAssertionKeyword {
     private class NonEmptyDependent extends Dependent {
 
         private final Set<String> required;
+        private final NameIndex requiredIndex;
 
         NonEmptyDependent(String propertyName, Set<String> required) {
             super(propertyName);
             assert !required.isEmpty();
             this.required = required;
+            this.requiredIndex = NameIndex.of(required);
         }
 
         @Override
         Evaluator createEvaluator(Evaluator parent) {
-            return new DependentEvaluator(parent, DependentRequired.this, propertyName, required);
+            return new DependentEvaluator(parent, DependentRequired.this, propertyName,
+                    required, requiredIndex);
         }
 
         @Override
         Evaluator createNegatedEvaluator(Evaluator parent) {
-            return new NegatedDependentEvaluator(parent, DependentRequired.this, propertyName, required);
+            return new NegatedDependentEvaluator(parent, DependentRequired.this, propertyName,
+                    required, requiredIndex);
         }
     }
 
     private abstract static class AbstractDependentEvaluator extends AbstractPropertyDependentEvaluator {
 
         protected final Set<String> required;
-        protected final Set<String> missing;
+        protected final NameIndex.Presence presence;
         protected boolean active;
 
         protected AbstractDependentEvaluator(Evaluator parent, Keyword keyword,
-                String propertyName, Set<String> required) {
+                String propertyName, Set<String> required, NameIndex requiredIndex) {
             super(parent, keyword, propertyName);
             this.required = required;
-            this.missing = new LinkedHashSet<>(required);
+            this.presence = requiredIndex.newPresence();
         }
 
         @Override
         public Result evaluate(Event event, int depth) {
             if (depth == 1 && event == Event.KEY_NAME) {
-                String keyName = getParser().getString();
+                String keyName = getContext().getStringValue();
                 if (keyName.equals(getPropertyName())) {
                     active = true;
                 }
-                missing.remove(keyName);
+                presence.add(keyName);
             } else if (depth == 0 && event == Event.END_OBJECT) {
                 if (active) {
                     return test();
@@ -197,16 +202,16 @@ public class DependentRequired extends AbstractObjectAssertionKeyword {
     public static class DependentEvaluator extends AbstractDependentEvaluator {
 
         public DependentEvaluator(Evaluator parent, Keyword keyword, String propertyName,
-                Set<String> required) {
-            super(parent, keyword, propertyName, required);
+                Set<String> required, NameIndex requiredIndex) {
+            super(parent, keyword, propertyName, required, requiredIndex);
         }
 
         @Override
         protected Result test() {
-            if (missing.isEmpty()) {
+            if (presence.isComplete()) {
                 return Result.TRUE;
             } else {
-                for (String entry : missing) {
+                for (String entry : presence.getMissingNames()) {
                     Problem p = newProblemBuilder()
                             .withMessage(Message.INSTANCE_PROBLEM_DEPENDENCIES)
                             .withParameter("required", entry)
@@ -227,8 +232,8 @@ public class DependentRequired extends AbstractObjectAssertionKeyword {
     public static class NegatedDependentEvaluator extends AbstractDependentEvaluator {
 
         public NegatedDependentEvaluator(Evaluator parent, Keyword keyword,
-                String propertyName, Set<String> required) {
-            super(parent, keyword, propertyName, required);
+                String propertyName, Set<String> required, NameIndex requiredIndex) {
+            super(parent, keyword, propertyName, required, requiredIndex);
         }
 
         @Override
@@ -240,7 +245,7 @@ public class DependentRequired extends AbstractObjectAssertionKeyword {
                         .build();
                 getDispatcher().dispatchProblem(p);
                 return Result.FALSE;
-            } else if (missing.isEmpty()) {
+            } else if (presence.isComplete()) {
                 ProblemBuilder b = newProblemBuilder()
                         .withParameter("dependant", getPropertyName());
                 if (required.size() == 1) {
@@ -273,7 +278,7 @@ public class DependentRequired extends AbstractObjectAssertionKeyword {
         @Override
         public Result evaluate(Event event, int depth) {
             if (depth == 1 && event == Event.KEY_NAME) {
-                String keyName = getParser().getString();
+                String keyName = getContext().getStringValue();
                 if (keyName.equals(getPropertyName())) {
                     return dispatchProblem();
                 }
@@ -75,6 +75,15 @@ public class Draft04Maximum extends Maximum {
         }
     }
 
+    @Override
+    protected boolean testValue(long actual, long limit) {
+        if (this.exclusive) {
+            return actual < limit;
+        } else {
+            return actual <= limit;
+        }
+    }
+
     @Override
     protected Message getMessageForTest() {
         return exclusive
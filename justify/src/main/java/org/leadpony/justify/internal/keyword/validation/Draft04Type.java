@@ -19,7 +19,6 @@ import java.math.BigDecimal;
 import java.util.Set;
 
 import jakarta.json.JsonValue;
-import jakarta.json.stream.JsonParser;
 
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
@@ -53,11 +52,10 @@ public final class Draft04Type {
         if (type != InstanceType.NUMBER) {
             return type;
         }
-        JsonParser parser = context.getParser();
-        if (parser.isIntegralNumber()) {
+        if (context.hasLongValue()) {
             return InstanceType.INTEGER;
         } else {
-            BigDecimal value = parser.getBigDecimal();
+            BigDecimal value = context.getNumberValue();
             if (value.scale() <= 0) {
                 return InstanceType.INTEGER;
             }
@@ -44,7 +44,7 @@ public class Enum extends AbstractEqualityAssertion {
     private final Set<JsonValue> expected;
 
     public Enum(JsonValue json, Set<JsonValue> expected) {
-        super(json);
+        super(json, expected);
         this.expected = expected;
     }
 
@@ -53,16 +53,6 @@ public class Enum extends AbstractEqualityAssertion {
         return TYPE;
     }
 
-    @Override
-    protected boolean testValue(JsonValue value) {
-        for (JsonValue expected : this.expected) {
-            if (value.equals(expected)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     @Override
     protected Problem createProblem(ProblemBuilder builder) {
         return builder.withMessage(Message.INSTANCE_PROBLEM_ENUM)
@@ -53,6 +53,11 @@ public class ExclusiveMaximum extends AbstractNumericBoundAssertion {
         return actual.compareTo(limit) < 0;
     }
 
+    @Override
+    protected boolean testValue(long actual, long limit) {
+        return actual < limit;
+    }
+
     @Override
     protected Message getMessageForTest() {
         return Message.INSTANCE_PROBLEM_EXCLUSIVEMAXIMUM;
@@ -43,10 +43,12 @@ public class MultipleOf extends AbstractNumericAssertion {
     public static final KeywordType TYPE = KeywordTypes.mappingNumber("multipleOf", MultipleOf::new);
 
     private final BigDecimal factor;
+    private final long longFactor;
 
     public MultipleOf(JsonValue json, BigDecimal factor) {
         super(json);
         this.factor = factor;
+        this.longFactor = (factor.signum() != 0 && isLongValue(factor)) ? factor.longValue() : 0;
     }
 
     @Override
@@ -54,6 +56,16 @@ public class MultipleOf extends AbstractNumericAssertion {
         return TYPE;
     }
 
+    @Override
+    protected boolean supportsLongValue() {
+        return longFactor != 0;
+    }
+
+    @Override
+    protected boolean testValue(long value) {
+        return value % longFactor == 0;
+    }
+
     @Override
     protected boolean testValue(BigDecimal value) {
         BigDecimal remainder = value.remainder(factor);
@@ -30,6 +30,7 @@ import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.NameIndex;
 import org.leadpony.justify.internal.evaluator.ShallowEvaluator;
 import org.leadpony.justify.internal.keyword.AbstractObjectAssertionKeyword;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
@@ -48,10 +49,12 @@ public class Required extends AbstractObjectAssertionKeyword {
     public static final KeywordType TYPE = KeywordTypes.mappingStringSet("required", Required::new);
 
     private final Set<String> names;
+    private final NameIndex nameIndex;
 
     public Required(JsonValue json, Set<String> names) {
         super(json);
         this.names = new LinkedHashSet<>(names);
+        this.nameIndex = NameIndex.of(this.names);
     }
 
     @Override
@@ -64,7 +67,7 @@ public class Required extends AbstractObjectAssertionKeyword {
         if (names.isEmpty()) {
             return Evaluator.ALWAYS_TRUE;
         } else {
-            return new ValueTypeEvaluator(parent, this, names);
+            return new ValueTypeEvaluator(parent, this);
         }
     }
 
@@ -73,7 +76,7 @@ public class Required extends AbstractObjectAssertionKeyword {
         if (names.isEmpty()) {
             return Evaluator.alwaysFalse(parent, parent.getSchema());
         } else {
-            return new NegatedValueTypeEvaluator(parent, this, names);
+            return new NegatedValueTypeEvaluator(parent, this);
         }
     }
 
@@ -84,22 +87,21 @@ public class Required extends AbstractObjectAssertionKeyword {
      */
     private final class ValueTypeEvaluator extends ShallowEvaluator {
 
-        private final Set<String> missing;
+        private final NameIndex.Presence presence;
 
-        private ValueTypeEvaluator(Evaluator parent, Keyword keyword, Set<String> required) {
+        private ValueTypeEvaluator(Evaluator parent, Keyword keyword) {
             super(parent, keyword);
-            this.missing = new LinkedHashSet<>(required);
+            this.presence = nameIndex.newPresence();
         }
 
         @Override
         public Result evaluateShallow(Event event, int depth) {
             if (event == Event.KEY_NAME) {
-                missing.remove(getParser().getString());
-                if (missing.isEmpty()) {
+                if (presence.add(getContext().getStringValue()) && presence.isComplete()) {
                     return Result.TRUE;
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (missing.isEmpty()) {
+                if (presence.isComplete()) {
                     return Result.TRUE;
                 } else {
                     return dispatchProblems();
@@ -109,7 +111,7 @@ public class Required extends AbstractObjectAssertionKeyword {
         }
 
         private Result dispatchProblems() {
-            for (String property : missing) {
+            for (String property : presence.getMissingNames()) {
                 Problem p = newProblemBuilder()
                         .withMessage(Message.INSTANCE_PROBLEM_REQUIRED)
                         .withParameter("required", property)
@@ -127,23 +129,21 @@ public class Required extends AbstractObjectAssertionKeyword {
      */
     private final class NegatedValueTypeEvaluator extends ShallowEvaluator {
 
-        private final Set<String> missing;
+        private final NameIndex.Presence presence;
 
-        private NegatedValueTypeEvaluator(Evaluator parent, Keyword keyword,
-                Set<String> names) {
+        private NegatedValueTypeEvaluator(Evaluator parent, Keyword keyword) {
             super(parent, keyword);
-            this.missing = new LinkedHashSet<>(names);
+            this.presence = nameIndex.newPresence();
         }
 
         @Override
         public Result evaluateShallow(Event event, int depth) {
             if (event == Event.KEY_NAME) {
-                missing.remove(getParser().getString());
-                if (missing.isEmpty()) {
+                if (presence.add(getContext().getStringValue()) && presence.isComplete()) {
                     return dispatchProblem();
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (missing.isEmpty()) {
+                if (presence.isComplete()) {
                     return dispatchProblem();
                 } else {
                     return Result.TRUE;
@@ -23,7 +23,6 @@ import java.util.Set;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
-import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
@@ -126,11 +125,10 @@ public abstract class Type extends AbstractAssertionKeyword {
         if (type != InstanceType.NUMBER) {
             return type;
         }
-        JsonParser parser = context.getParser();
-        if (parser.isIntegralNumber()) {
+        if (context.hasLongValue()) {
             return InstanceType.INTEGER;
         } else {
-            BigDecimal value = parser.getBigDecimal().stripTrailingZeros();
+            BigDecimal value = context.getNumberValue().stripTrailingZeros();
             if (value.scale() <= 0) {
                 return InstanceType.INTEGER;
             }
@@ -142,6 +140,20 @@ public abstract class Type extends AbstractAssertionKeyword {
         super(json);
     }
 
+    /**
+     * Checks if an instance of the specified broad type can satisfy this
+     * assertion. A number may turn out to be an integer during the evaluation.
+     *
+     * @param type the broad type of the instance.
+     * @return {@code true} if the instance may be valid, {@code false} if it is
+     *         always invalid.
+     */
+    public abstract boolean mayAccept(InstanceType type);
+
+    private static boolean isNumeric(InstanceType type) {
+        return type == InstanceType.NUMBER || type == InstanceType.INTEGER;
+    }
+
     @Override
     public KeywordType getType() {
         return TYPE;
@@ -161,6 +173,14 @@ public abstract class Type extends AbstractAssertionKeyword {
             this.expectedType = expectedType;
         }
 
+        @Override
+        public boolean mayAccept(InstanceType type) {
+            if (isNumeric(type)) {
+                return isNumeric(expectedType);
+            }
+            return type == expectedType;
+        }
+
         @Override
         public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
             InstanceType narrowerType = toNarrowType(type, parent.getContext());
@@ -225,6 +245,15 @@ public abstract class Type extends AbstractAssertionKeyword {
             this.expectedTypes = new LinkedHashSet<>(types);
         }
 
+        @Override
+        public boolean mayAccept(InstanceType type) {
+            if (isNumeric(type)) {
+                return expectedTypes.contains(InstanceType.NUMBER)
+                        || expectedTypes.contains(InstanceType.INTEGER);
+            }
+            return expectedTypes.contains(type);
+        }
+
         @Override
         public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
             InstanceType narrowerType = toNarrowType(type, parent.getContext());
@@ -16,10 +16,6 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
 
@@ -33,7 +29,7 @@ import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
-import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.base.json.StructuralHasher;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
 import org.leadpony.justify.internal.keyword.AbstractArrayAssertionKeyword;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
@@ -103,20 +99,24 @@ public class UniqueItems extends AbstractArrayAssertionKeyword {
     /**
      * An evaluator which evaluates the items.
      *
+     * <p>
+     * The items are not built as JSON values. Instead, a 128-bit structural
+     * hash is computed for each item while streaming, and two items having the
+     * same hash are considered to be duplicated.
+     * </p>
+     *
      * @author leadpony
      */
     private class UniqueItemsEvaluator extends AbstractKeywordBasedEvaluator {
 
-        private final JsonBuilderFactory builderFactory;
-        private final Map<JsonValue, Integer> values = new HashMap<>();
+        private final StructuralHasher hasher = new StructuralHasher();
+        private final ItemHashTable hashes = new ItemHashTable();
         private boolean duplicated;
         private int firstOccurrenceAt, secondOccurrenceAt;
         private int index;
-        private JsonInstanceBuilder builder;
 
         protected UniqueItemsEvaluator(Evaluator parent, Keyword keyword) {
             super(parent, keyword);
-            this.builderFactory = getContext().getJsonBuilderFactory();
         }
 
         @Override
@@ -131,26 +131,18 @@ public class UniqueItems extends AbstractArrayAssertionKeyword {
             if (hasDuplicatedItems()) {
                 return Result.PENDING;
             }
-            if (builder == null) {
-                builder = new JsonInstanceBuilder(builderFactory);
-            }
-            if (builder.append(event, getParser())) {
-                return Result.PENDING;
-            } else {
-                JsonValue value = builder.build();
-                builder = null;
-                testItemValue(value, index++);
-                return Result.PENDING;
+            if (!hasher.append(event, getParser())) {
+                testItemHash(hasher.getHigh(), hasher.getLow(), index++);
             }
+            return Result.PENDING;
         }
 
-        private void testItemValue(JsonValue value, int index) {
-            if (values.containsKey(value)) {
+        private void testItemHash(long high, long low, int index) {
+            int found = hashes.putIfAbsent(high, low, index);
+            if (found >= 0) {
                 duplicated = true;
-                firstOccurrenceAt = values.get(value);
+                firstOccurrenceAt = found;
                 secondOccurrenceAt = index;
-            } else {
-                values.put(value, index);
             }
         }
 
@@ -197,4 +189,68 @@ public class UniqueItems extends AbstractArrayAssertionKeyword {
             }
         }
     }
+
+    /**
+     * An open addressing hash table which maps the 128-bit hashes of the items
+     * to their indices.
+     *
+     * @author leadpony
+     */
+    private static final class ItemHashTable {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        // Two longs per slot.
+        private long[] hashes = new long[INITIAL_CAPACITY * 2];
+        // The index plus one, or zero for empty slots.
+        private int[] indices = new int[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Puts the index of the item if the hash is not found.
+         *
+         * @param high  the higher 64 bits of the hash.
+         * @param low   the lower 64 bits of the hash.
+         * @param index the index of the item.
+         * @return the index of the item previously put with the same hash, or
+         *         -1 if not found.
+         */
+        int putIfAbsent(long high, long low, int index) {
+            final int mask = indices.length - 1;
+            int slot = (int) (low ^ (low >>> 32)) & mask;
+            while (indices[slot] != 0) {
+                if (hashes[slot * 2] == high && hashes[slot * 2 + 1] == low) {
+                    return indices[slot] - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot * 2] = high;
+            hashes[slot * 2 + 1] = low;
+            indices[slot] = index + 1;
+            if (++size * 2 > indices.length) {
+                rehash();
+            }
+            return -1;
+        }
+
+        private void rehash() {
+            long[] oldHashes = this.hashes;
+            int[] oldIndices = this.indices;
+            this.hashes = new long[oldHashes.length * 2];
+            this.indices = new int[oldIndices.length * 2];
+            final int mask = indices.length - 1;
+            for (int i = 0; i < oldIndices.length; i++) {
+                if (oldIndices[i] != 0) {
+                    long low = oldHashes[i * 2 + 1];
+                    int slot = (int) (low ^ (low >>> 32)) & mask;
+                    while (indices[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    hashes[slot * 2] = oldHashes[i * 2];
+                    hashes[slot * 2 + 1] = low;
+                    indices[slot] = oldIndices[i];
+                }
+            }
+        }
+    }
 }
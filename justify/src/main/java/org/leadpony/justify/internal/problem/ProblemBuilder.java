@@ -40,6 +40,12 @@ import org.leadpony.justify.internal.base.Message;
  */
 public class ProblemBuilder {
 
+    /**
+     * The builder used when the problem to be built will be discarded. This
+     * builder ignores every specification and builds a shared placeholder.
+     */
+    public static final ProblemBuilder DISCARDING = new DiscardingProblemBuilder();
+
     private final JsonLocation location;
     private final String pointer;
     private JsonSchema schema;
@@ -168,6 +174,61 @@ public class ProblemBuilder {
         }
     }
 
+    /**
+     * A builder which builds nothing.
+     *
+     * @author leadpony
+     */
+    private static final class DiscardingProblemBuilder extends ProblemBuilder {
+
+        private final Problem placeholder;
+
+        private DiscardingProblemBuilder() {
+            super(null, null);
+            this.placeholder = new SimpleProblem(this);
+        }
+
+        @Override
+        public ProblemBuilder withKeyword(String keyword) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withSchema(JsonSchema schema) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withResolvability(boolean resolvable) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withMessage(Message message) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withParameter(String name, Object value) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withBranch(ProblemBranch branch) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withBranches(List<ProblemBranch> branches) {
+            return this;
+        }
+
+        @Override
+        public Problem build() {
+            return placeholder;
+        }
+    }
+
     /**
      * A problem without any child problems.
      *
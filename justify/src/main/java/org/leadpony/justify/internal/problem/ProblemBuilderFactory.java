@@ -18,6 +18,7 @@ package org.leadpony.justify.internal.problem;
 
 import jakarta.json.stream.JsonLocation;
 
+import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
 
@@ -34,6 +35,27 @@ public interface ProblemBuilderFactory {
     ProblemBuilderFactory DEFAULT = new ProblemBuilderFactory() {
     };
 
+    /**
+     * Creates a builder of the problem which the specified evaluator will dispatch.
+     * The builder is supplied by the context of the evaluator if the context is
+     * also a factory of this type. If the dispatcher of the evaluator would discard
+     * the problem, {@link ProblemBuilder#DISCARDING} is returned instead.
+     *
+     * @param evaluator the evaluator which will dispatch the problem.
+     * @return the builder of the problem.
+     */
+    static ProblemBuilder newProblemBuilder(Evaluator evaluator) {
+        if (!SelectiveProblemDispatcher.acceptsProblem(evaluator.getDispatcher())) {
+            return ProblemBuilder.DISCARDING;
+        }
+        EvaluatorContext context = evaluator.getContext();
+        ProblemBuilderFactory factory = DEFAULT;
+        if (context instanceof ProblemBuilderFactory) {
+            factory = (ProblemBuilderFactory) context;
+        }
+        return factory.createProblemBuilder(context).withSchema(evaluator.getSchema());
+    }
+
     /**
      * Creates new instance of this builder.
      *
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.problem;
+
+import org.leadpony.justify.api.ProblemDispatcher;
+
+/**
+ * A problem dispatcher which may discard the problems dispatched to it.
+ *
+ * <p>
+ * The evaluators ask the dispatcher before building a problem, and skip the
+ * building if the problem would be discarded.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface SelectiveProblemDispatcher extends ProblemDispatcher {
+
+    /**
+     * Checks if this dispatcher keeps the next problem dispatched to it.
+     *
+     * @return {@code true} if this dispatcher keeps the problem, {@code false}
+     *         if it will discard the problem.
+     */
+    boolean acceptsProblem();
+
+    /**
+     * Checks if the specified dispatcher keeps the next problem dispatched to it.
+     *
+     * @param dispatcher the dispatcher to check.
+     * @return {@code true} if the dispatcher keeps the problem, {@code false} if
+     *         it will discard the problem.
+     */
+    static boolean acceptsProblem(ProblemDispatcher dispatcher) {
+        if (dispatcher == ProblemDispatcher.SILENT) {
+            return false;
+        } else if (dispatcher instanceof SelectiveProblemDispatcher) {
+            return ((SelectiveProblemDispatcher) dispatcher).acceptsProblem();
+        }
+        return true;
+    }
+}
@@ -20,19 +20,24 @@ import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import jakarta.json.JsonException;
 import jakarta.json.JsonReader;
@@ -47,12 +52,17 @@ import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonSchemaReaderFactoryBuilder;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.LineProblemHandler;
+import org.leadpony.justify.api.NonBlockingValidator;
+import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.ProblemHandlerFactory;
 import org.leadpony.justify.api.ProblemPrinterBuilder;
 import org.leadpony.justify.api.ValidationConfig;
+import org.leadpony.justify.api.ValidationResult;
 import org.leadpony.justify.api.keyword.KeywordValueSetLoader;
 import org.leadpony.justify.api.keyword.Vocabulary;
+import org.leadpony.justify.internal.base.MappedInputStream;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.json.JsonProviderDecorator;
 import org.leadpony.justify.internal.base.json.JsonService;
@@ -65,10 +75,14 @@ import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
 import org.leadpony.justify.internal.problem.DefaultProblemPrinterBuilder;
 import org.leadpony.justify.internal.schema.DefaultJsonSchemaBuilderFactory;
 import org.leadpony.justify.internal.schema.SchemaCatalog;
+import org.leadpony.justify.internal.schema.SchemaWarmer;
 import org.leadpony.justify.internal.schema.SchemaSpec;
 import org.leadpony.justify.internal.schema.io.JsonSchemaReaderFactoryImpl;
 import org.leadpony.justify.internal.schema.io.JsonSchemaReaderImpl;
+import org.leadpony.justify.internal.validator.DefaultNonBlockingValidator;
 import org.leadpony.justify.internal.validator.DefaultValidationConfig;
+import org.leadpony.justify.internal.validator.DefaultValidationResult;
+import org.leadpony.justify.internal.validator.JsonLinesValidator;
 import org.leadpony.justify.internal.validator.JsonValidator;
 import org.leadpony.justify.internal.validator.JsonValidatorFactory;
 import org.leadpony.justify.spi.ContentEncodingScheme;
@@ -85,9 +99,9 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
     private final SchemaCatalog schemaCatalog;
     private final Map<String, Object> metaschemaConfig;
     private final JsonSchemaReaderFactory defaultSchemaReaderFactory;
-    private final Map<Class<?>, Set<?>> keywordValuesCache = new HashMap<>();
+    private final ConcurrentMap<Class<?>, Set<?>> keywordValuesCache = new ConcurrentHashMap<>();
 
-    private JsonSchemaBuilderFactory schemaBuilderFactory;
+    private volatile JsonSchemaBuilderFactory schemaBuilderFactory;
 
     /**
      * Constructs this object.
@@ -160,6 +174,22 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return createSchemaReaderFactory().createSchemaReader(parser);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinarySchema(JsonSchema schema, OutputStream out) {
+        createSchemaReaderFactory().writeBinarySchema(schema, out);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonSchema readBinarySchema(InputStream in) {
+        return createSchemaReaderFactory().readBinarySchema(in);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -171,6 +201,15 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return schemaBuilderFactory;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonSchema warmUp(JsonSchema schema) {
+        requireNonNull(schema, "schema");
+        return SchemaWarmer.warmUp(schema);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -256,7 +295,7 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         requireNonNull(schema, "schema");
         requireNonNull(handler, "handler");
         try {
-            InputStream in = Files.newInputStream(path);
+            InputStream in = MappedInputStream.open(path);
             return createParser(in, schema, handler);
         } catch (NoSuchFileException e) {
             throw buildJsonException(e, Message.INSTANCE_PROBLEM_NOT_FOUND, path);
@@ -353,6 +392,81 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return createReader(validatingParser);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationResult validate(InputStream in, JsonSchema schema) {
+        requireNonNull(in, "in");
+        requireNonNull(schema, "schema");
+        return validateAll(getJsonParserFactory().createParser(in), schema);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationResult validate(Reader reader, JsonSchema schema) {
+        requireNonNull(reader, "reader");
+        requireNonNull(schema, "schema");
+        return validateAll(getJsonParserFactory().createParser(reader), schema);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationResult validate(Path path, JsonSchema schema) {
+        requireNonNull(path, "path");
+        requireNonNull(schema, "schema");
+        try (InputStream in = MappedInputStream.open(path)) {
+            return validate(in, schema);
+        } catch (NoSuchFileException e) {
+            throw buildJsonException(e, Message.INSTANCE_PROBLEM_NOT_FOUND, path);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NonBlockingValidator createNonBlockingValidator(JsonSchema schema) {
+        requireNonNull(schema, "schema");
+        return new DefaultNonBlockingValidator(schema, getJsonProvider());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validateLines(InputStream in, JsonSchema schema, Executor executor, LineProblemHandler handler) {
+        requireNonNull(in, "in");
+        requireNonNull(schema, "schema");
+        requireNonNull(executor, "executor");
+        requireNonNull(handler, "handler");
+        new JsonLinesValidator(this, schema, executor, handler).validate(in);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validateLines(Path path, JsonSchema schema, Executor executor, LineProblemHandler handler) {
+        requireNonNull(path, "path");
+        requireNonNull(schema, "schema");
+        requireNonNull(executor, "executor");
+        requireNonNull(handler, "handler");
+        try (InputStream in = MappedInputStream.open(path)) {
+            new JsonLinesValidator(this, schema, executor, handler).validate(in);
+        } catch (NoSuchFileException e) {
+            throw buildJsonException(e, Message.INSTANCE_PROBLEM_NOT_FOUND, path);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -394,21 +508,23 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
 
     @Override
     public <T> Set<T> loadKeywordValueSet(Class<T> type) {
-        if (keywordValuesCache.containsKey(type)) {
-            @SuppressWarnings("unchecked")
-            Set<T> values = (Set<T>) keywordValuesCache.get(type);
-            return values;
-        }
+        // The service loader runs only once for each type.
+        @SuppressWarnings("unchecked")
+        Set<T> values = (Set<T>) keywordValuesCache.computeIfAbsent(type,
+                DefaultJsonValidationService::loadServices);
+        return values;
+    }
+
+    /* */
+
+    private static <T> Set<T> loadServices(Class<T> type) {
         Set<T> values = new HashSet<>();
         for (T value : ServiceLoader.load(type)) {
             values.add(value);
         }
-        keywordValuesCache.put(type, values);
-        return values;
+        return Collections.unmodifiableSet(values);
     }
 
-    /* */
-
     private SchemaCatalog createSchemaCatalog() {
         SchemaCatalog catalog = new SchemaCatalog();
         for (SchemaSpec spec : SchemaSpec.values()) {
@@ -435,7 +551,9 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         JsonParser realParser = jsonProvider.createParser(in);
         PointerAwareJsonParser parser = new DefaultPointerAwareJsonParser(realParser, jsonProvider);
         try (JsonSchemaReader reader = new JsonSchemaReaderImpl(parser, this, spec, this.metaschemaConfig)) {
-            return reader.read();
+            // The metaschema is read only once and shared by all schema readers,
+            // so its discriminators are built here in advance.
+            return SchemaWarmer.warmUp(reader.read());
         }
     }
 
@@ -471,6 +589,22 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
                 .withHandler(handler);
     }
 
+    /**
+     * Validates the whole instance without handing the events to the caller.
+     *
+     * @param parser the real parser, which will not be closed.
+     * @param schema the schema.
+     * @return the result of the validation.
+     */
+    @SuppressWarnings("resource")
+    private ValidationResult validateAll(JsonParser parser, JsonSchema schema) {
+        List<Problem> problems = new ArrayList<>();
+        new JsonValidator(parser, schema, getJsonProvider())
+                .withHandler(problems::addAll)
+                .validateAll();
+        return new DefaultValidationResult(problems);
+    }
+
     private JsonReader createReader(JsonParser parser) {
         return new DefaultJsonReader(parser);
     }
@@ -41,6 +41,7 @@ import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.internal.evaluator.schema.ComplexSchemaBasedEvaluator;
 import org.leadpony.justify.internal.evaluator.schema.SimpleSchemaBasedEvaluator;
+import org.leadpony.justify.internal.keyword.CachingKeyword;
 import org.leadpony.justify.internal.keyword.core.Anchor;
 import org.leadpony.justify.internal.keyword.core.Comment;
 import org.leadpony.justify.internal.keyword.core.Schema;
@@ -61,6 +62,7 @@ public abstract class BasicJsonSchema implements JsonSchema {
     private final URI baseUri;
 
     private Optional<String> anchor;
+    private EvaluationPlan optimizedPlan;
 
     public static JsonSchema of(JsonObject json, Map<String, Keyword> keywords, IdKeyword id) {
         return of(json, keywords, id, null);
@@ -287,6 +289,63 @@ public abstract class BasicJsonSchema implements JsonSchema {
         return hasId() && id().isAbsolute();
     }
 
+    /**
+     * Fills in advance the caches of this schema and its keywords which
+     * otherwise would be filled by the first evaluation.
+     */
+    void warmUp() {
+        getAnchor();
+        for (Keyword keyword : keywordMap.values()) {
+            if (keyword instanceof CachingKeyword) {
+                ((CachingKeyword) keyword).warmUp();
+            }
+        }
+    }
+
+    /**
+     * Returns the keywords to be evaluated for this schema as declared.
+     *
+     * @return the list of the evaluation keywords.
+     */
+    abstract List<EvaluationKeyword> getEvaluationKeywords();
+
+    /**
+     * Replaces the plan of evaluation with the one rewritten by the optimizer.
+     *
+     * @param plan the optimized plan.
+     */
+    void optimize(EvaluationPlan plan) {
+        this.optimizedPlan = plan;
+    }
+
+    /**
+     * Creates an evaluator following the optimized plan if available.
+     *
+     * @param parent the parent evaluator.
+     * @param type   the type of the instance.
+     * @return newly created evaluator, or {@code null} if this schema is not
+     *         optimized.
+     */
+    protected Evaluator createOptimizedEvaluator(Evaluator parent, InstanceType type) {
+        EvaluationPlan plan = this.optimizedPlan;
+        if (plan == null) {
+            return null;
+        }
+        return createEvaluator(plan, parent, type);
+    }
+
+    protected Evaluator createEvaluator(EvaluationPlan plan, Evaluator parent, InstanceType type) {
+        EvaluationKeyword[] keywords = plan.getKeywords(type);
+        switch (keywords.length) {
+        case 0:
+            return Evaluator.ALWAYS_TRUE;
+        case 1:
+            return SimpleSchemaBasedEvaluator.of(keywords[0], parent, this, type);
+        default:
+            return ComplexSchemaBasedEvaluator.of(keywords, parent, this, type);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected <T extends Keyword> T getKeyword(String name) {
         return (T) keywordMap.get(name);
@@ -337,6 +396,11 @@ public abstract class BasicJsonSchema implements JsonSchema {
             super(json, keywords, id, baseUri);
         }
 
+        @Override
+        List<EvaluationKeyword> getEvaluationKeywords() {
+            return Collections.emptyList();
+        }
+
         @Override
         public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
             requireNonNull(type, "type");
@@ -366,9 +430,18 @@ public abstract class BasicJsonSchema implements JsonSchema {
         @Override
         public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
             requireNonNull(type, "type");
+            Evaluator evaluator = createOptimizedEvaluator(parent, type);
+            if (evaluator != null) {
+                return evaluator;
+            }
             return SimpleSchemaBasedEvaluator.of(evaluationKeyword, parent, this, type);
         }
 
+        @Override
+        List<EvaluationKeyword> getEvaluationKeywords() {
+            return Collections.singletonList(evaluationKeyword);
+        }
+
         @Override
         public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
             requireNonNull(type, "type");
@@ -382,17 +455,28 @@ public abstract class BasicJsonSchema implements JsonSchema {
     static final class Many extends BasicJsonSchema {
 
         private final List<EvaluationKeyword> evaluationKeywords;
+        private final EvaluationPlan plan;
 
         Many(JsonObject json, Map<String, Keyword> keywords, IdKeyword id, URI baseUri,
                 List<EvaluationKeyword> evaluationKeywords) {
             super(json, keywords, id, baseUri);
             this.evaluationKeywords = evaluationKeywords;
+            this.plan = EvaluationPlan.of(evaluationKeywords);
         }
 
         @Override
         public Evaluator createEvaluator(Evaluator parenet, InstanceType type) {
             requireNonNull(type, "type");
-            return ComplexSchemaBasedEvaluator.of(evaluationKeywords, parenet, this, type);
+            Evaluator evaluator = createOptimizedEvaluator(parenet, type);
+            if (evaluator != null) {
+                return evaluator;
+            }
+            return createEvaluator(plan, parenet, type);
+        }
+
+        @Override
+        List<EvaluationKeyword> getEvaluationKeywords() {
+            return evaluationKeywords;
         }
 
         @Override
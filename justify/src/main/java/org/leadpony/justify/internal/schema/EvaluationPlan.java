@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.keyword.EvaluationKeyword;
+
+/**
+ * An immutable plan of evaluation, which holds the keywords applicable to each
+ * instance type.
+ *
+ * @author leadpony
+ */
+final class EvaluationPlan {
+
+    private static final EvaluationKeyword[] NO_KEYWORDS = {};
+
+    /*
+     * The keywords applicable to each type, indexed by the ordinal of the type.
+     */
+    private final EvaluationKeyword[][] keywordsByType;
+
+    static EvaluationPlan of(Collection<EvaluationKeyword> keywords) {
+        InstanceType[] types = InstanceType.values();
+        EvaluationKeyword[][] keywordsByType = new EvaluationKeyword[types.length][];
+        for (InstanceType type : types) {
+            List<EvaluationKeyword> applicable = new ArrayList<>();
+            for (EvaluationKeyword keyword : keywords) {
+                if (keyword.supportsType(type)) {
+                    applicable.add(keyword);
+                }
+            }
+            keywordsByType[type.ordinal()] = applicable.isEmpty()
+                    ? NO_KEYWORDS
+                    : applicable.toArray(NO_KEYWORDS);
+        }
+        return new EvaluationPlan(keywordsByType);
+    }
+
+    /**
+     * Creates a plan from the keywords chosen for each type.
+     *
+     * @param mapper the function which returns the keywords for the type.
+     * @return newly created plan.
+     */
+    static EvaluationPlan of(Function<InstanceType, List<EvaluationKeyword>> mapper) {
+        InstanceType[] types = InstanceType.values();
+        EvaluationKeyword[][] keywordsByType = new EvaluationKeyword[types.length][];
+        for (InstanceType type : types) {
+            List<EvaluationKeyword> applicable = mapper.apply(type);
+            keywordsByType[type.ordinal()] = applicable.isEmpty()
+                    ? NO_KEYWORDS
+                    : applicable.toArray(NO_KEYWORDS);
+        }
+        return new EvaluationPlan(keywordsByType);
+    }
+
+    private EvaluationPlan(EvaluationKeyword[][] keywordsByType) {
+        this.keywordsByType = keywordsByType;
+    }
+
+    /**
+     * Returns the keywords applicable to the specified type.
+     *
+     * <p>
+     * The returned array is shared and must not be modified by the caller.
+     * </p>
+     *
+     * @param type the type of the instance.
+     * @return the array of the keywords, which may be empty.
+     */
+    EvaluationKeyword[] getKeywords(InstanceType type) {
+        return keywordsByType[type.ordinal()];
+    }
+}
@@ -16,21 +16,27 @@
 package org.leadpony.justify.internal.schema;
 
 import java.net.URI;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaResolver;
 
 /**
- *  A schema catalog.
+ * A schema catalog.
+ *
+ * <p>
+ * The schemas added as suppliers are loaded lazily on the first resolution and
+ * retained afterwards. This class is safe for use by multiple concurrent
+ * threads.
+ * </p>
  *
  * @author leadpony
  */
 public class SchemaCatalog implements JsonSchemaResolver {
 
-    private final Map<URI, Supplier<JsonSchema>> map = new HashMap<>();
+    private final Map<URI, Supplier<JsonSchema>> map = new ConcurrentHashMap<>();
 
     /**
      * Adds a schema to this catalog.
@@ -43,18 +49,25 @@ public class SchemaCatalog implements JsonSchemaResolver {
         }
     }
 
+    /**
+     * Adds a schema to be loaded lazily to this catalog. The supplier is
+     * invoked at most once.
+     *
+     * @param id     the identifier of the schema.
+     * @param schema the supplier of the schema.
+     */
     public void addSchema(URI id, Supplier<JsonSchema> schema) {
         if (id.isAbsolute()) {
-            map.put(normalizeId(id), schema);
+            map.put(normalizeId(id), new LazySchema(schema));
         }
     }
 
     @Override
     public JsonSchema resolveSchema(URI id) {
         if (id.isAbsolute()) {
-            URI key = normalizeId(id);
-            if (map.containsKey(key)) {
-                return map.get(key).get();
+            Supplier<JsonSchema> supplier = map.get(normalizeId(id));
+            if (supplier != null) {
+                return supplier.get();
             }
         }
         return null;
@@ -67,4 +80,35 @@ public class SchemaCatalog implements JsonSchemaResolver {
             return id;
         }
     }
+
+    /**
+     * A schema which is loaded on the first access.
+     *
+     * @author leadpony
+     */
+    private static final class LazySchema implements Supplier<JsonSchema> {
+
+        private Supplier<JsonSchema> loader;
+        private volatile JsonSchema schema;
+
+        LazySchema(Supplier<JsonSchema> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public JsonSchema get() {
+            JsonSchema result = this.schema;
+            if (result == null) {
+                synchronized (this) {
+                    result = this.schema;
+                    if (result == null) {
+                        result = loader.get();
+                        this.schema = result;
+                        this.loader = null;
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
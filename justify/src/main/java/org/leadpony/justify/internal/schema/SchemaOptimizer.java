@@ -0,0 +1,358 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.EvaluationKeyword;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.RefKeyword;
+import org.leadpony.justify.internal.keyword.applicator.AllOf;
+import org.leadpony.justify.internal.keyword.applicator.AnyOf;
+import org.leadpony.justify.internal.keyword.applicator.OneOf;
+import org.leadpony.justify.internal.keyword.core.RecursiveAnchor;
+import org.leadpony.justify.internal.keyword.validation.Type;
+
+/**
+ * An optimizer which rewrites the plans of evaluation of the schemas in a
+ * schema document without changing the results of validation.
+ *
+ * <p>
+ * The following rewrites are applied to each instance type:
+ * </p>
+ * <ul>
+ * <li>The subschemas of "allOf" are flattened into the parent schema.</li>
+ * <li>The targets of "$ref" consisting only of a few assertions are
+ * inlined.</li>
+ * <li>The subschemas of "allOf" and "anyOf" which are structurally equal are
+ * evaluated only once.</li>
+ * <li>The subschemas of "anyOf" and "oneOf" which never accept the type of the
+ * instance are skipped.</li>
+ * </ul>
+ *
+ * <p>
+ * The keywords themselves are left as they are, therefore the schemas are
+ * serialized as originally written. Negated evaluations are not optimized.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class SchemaOptimizer {
+
+    /*
+     * The maximum number of the keywords in the schema to be inlined.
+     */
+    private static final int MAX_INLINED_KEYWORDS = 8;
+
+    private final Map<JsonSchema, EvaluationPlan> plans = new IdentityHashMap<>();
+    private final Map<JsonSchema, Boolean> selfContained = new IdentityHashMap<>();
+
+    private SchemaOptimizer() {
+    }
+
+    /**
+     * Optimizes the specified schema and all of its descendant schemas. The
+     * schemas referenced from the graph are not modified.
+     *
+     * @param root the root schema of the schema document.
+     * @return the same schema as given.
+     */
+    public static JsonSchema optimize(JsonSchema root) {
+        new SchemaOptimizer().optimizeAll(root);
+        return root;
+    }
+
+    private void optimizeAll(JsonSchema root) {
+        Set<JsonSchema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<JsonSchema> remaining = new ArrayDeque<>();
+        remaining.push(root);
+        while (!remaining.isEmpty()) {
+            JsonSchema schema = remaining.pop();
+            if (!visited.add(schema)) {
+                continue;
+            }
+            if (schema instanceof BasicJsonSchema) {
+                BasicJsonSchema basic = (BasicJsonSchema) schema;
+                EvaluationPlan plan = getPlan(basic);
+                if (plan != null) {
+                    basic.optimize(plan);
+                }
+            }
+            for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+                // The referenced schemas may be shared by other documents.
+                if (keyword.containsSchemas() && !(keyword instanceof RefKeyword)) {
+                    keyword.getSchemasAsStream().forEach(remaining::push);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the optimized plan of the schema.
+     *
+     * @param schema the schema to optimize.
+     * @return the optimized plan, or {@code null} if nothing can be optimized.
+     */
+    private EvaluationPlan getPlan(BasicJsonSchema schema) {
+        if (plans.containsKey(schema)) {
+            return plans.get(schema);
+        }
+        List<EvaluationKeyword> keywords = schema.getEvaluationKeywords();
+        EvaluationPlan plan = null;
+        if (!keywords.isEmpty()) {
+            boolean[] changed = new boolean[1];
+            EvaluationPlan candidate = EvaluationPlan.of(type -> {
+                List<EvaluationKeyword> original = new ArrayList<>();
+                List<EvaluationKeyword> rewritten = new ArrayList<>();
+                for (EvaluationKeyword keyword : keywords) {
+                    if (keyword.supportsType(type)) {
+                        original.add(keyword);
+                        rewrite(keyword, type, rewritten);
+                    }
+                }
+                if (!rewritten.equals(original)) {
+                    changed[0] = true;
+                }
+                return rewritten;
+            });
+            if (changed[0]) {
+                plan = candidate;
+            }
+        }
+        plans.put(schema, plan);
+        return plan;
+    }
+
+    private List<EvaluationKeyword> getKeywords(BasicJsonSchema schema, InstanceType type) {
+        EvaluationPlan plan = getPlan(schema);
+        if (plan != null) {
+            EvaluationKeyword[] keywords = plan.getKeywords(type);
+            List<EvaluationKeyword> result = new ArrayList<>(keywords.length);
+            Collections.addAll(result, keywords);
+            return result;
+        }
+        return schema.getEvaluationKeywords().stream()
+                .filter(keyword -> keyword.supportsType(type))
+                .collect(Collectors.toList());
+    }
+
+    private void rewrite(EvaluationKeyword keyword, InstanceType type, List<EvaluationKeyword> result) {
+        if (keyword instanceof AllOf) {
+            rewriteAllOf((AllOf) keyword, type, result);
+        } else if (keyword instanceof AnyOf || keyword instanceof OneOf) {
+            rewriteAlternatives(keyword, type, result);
+        } else if (keyword instanceof RefKeyword) {
+            rewriteRef((RefKeyword) keyword, type, result);
+        } else {
+            result.add(keyword);
+        }
+    }
+
+    private void rewriteAllOf(AllOf keyword, InstanceType type, List<EvaluationKeyword> result) {
+        List<JsonSchema> subschemas = keyword.getSchemasAsStream().collect(Collectors.toList());
+        List<JsonSchema> remaining = new ArrayList<>();
+        for (JsonSchema subschema : distinct(subschemas)) {
+            if (subschema == JsonSchema.TRUE) {
+                continue;
+            } else if (canFlatten(subschema)) {
+                result.addAll(getKeywords((BasicJsonSchema) subschema, type));
+            } else {
+                remaining.add(subschema);
+            }
+        }
+        if (remaining.size() == subschemas.size()) {
+            result.add(keyword);
+        } else if (!remaining.isEmpty()) {
+            result.add(new AllOf(keyword.getValueAsJson(), remaining));
+        }
+    }
+
+    private void rewriteAlternatives(EvaluationKeyword keyword, InstanceType type,
+            List<EvaluationKeyword> result) {
+        List<JsonSchema> subschemas = keyword.getSchemasAsStream().collect(Collectors.toList());
+        boolean exclusive = keyword instanceof OneOf;
+        // Duplicated subschemas are significant for "oneOf".
+        List<JsonSchema> candidates = new ArrayList<>();
+        for (JsonSchema subschema : exclusive ? subschemas : distinct(subschemas)) {
+            if (mayAccept(subschema, type, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+                candidates.add(subschema);
+            }
+        }
+        if (candidates.isEmpty() || candidates.size() == subschemas.size()) {
+            // The failing evaluation is left as it is to report all problems.
+            result.add(keyword);
+        } else if (candidates.size() == 1) {
+            JsonSchema candidate = candidates.get(0);
+            if (canFlatten(candidate)) {
+                result.addAll(getKeywords((BasicJsonSchema) candidate, type));
+            } else if (candidate != JsonSchema.TRUE) {
+                result.add(new AllOf(keyword.getValueAsJson(), candidates));
+            }
+        } else if (exclusive) {
+            result.add(new OneOf(keyword.getValueAsJson(), candidates));
+        } else {
+            result.add(new AnyOf(keyword.getValueAsJson(), candidates));
+        }
+    }
+
+    private void rewriteRef(RefKeyword keyword, InstanceType type, List<EvaluationKeyword> result) {
+        JsonSchema target = keyword.isDirect() ? keyword.getTargetSchema() : null;
+        if (target == JsonSchema.TRUE) {
+            return;
+        } else if (canInline(target)) {
+            for (EvaluationKeyword inlined : ((BasicJsonSchema) target).getEvaluationKeywords()) {
+                if (inlined.supportsType(type)) {
+                    result.add(inlined);
+                }
+            }
+        } else {
+            result.add((EvaluationKeyword) keyword);
+        }
+    }
+
+    /**
+     * Checks if the keywords of the subschema can be evaluated directly by the
+     * parent schema.
+     *
+     * @param schema the subschema to check.
+     * @return {@code true} if the subschema can be flattened.
+     */
+    private static boolean canFlatten(JsonSchema schema) {
+        // The schemas with these keywords are required in the dynamic scope.
+        return schema instanceof BasicJsonSchema
+                && !schema.hasId()
+                && !RecursiveAnchor.isEnabledIn(schema);
+    }
+
+    /**
+     * Checks if the target of the reference can be inlined into the referencing
+     * schema.
+     *
+     * @param schema the target schema of the reference.
+     * @return {@code true} if the target schema can be inlined.
+     */
+    private static boolean canInline(JsonSchema schema) {
+        if (!(schema instanceof BasicJsonSchema) || RecursiveAnchor.isEnabledIn(schema)) {
+            return false;
+        }
+        List<EvaluationKeyword> keywords = ((BasicJsonSchema) schema).getEvaluationKeywords();
+        if (keywords.size() > MAX_INLINED_KEYWORDS) {
+            return false;
+        }
+        for (EvaluationKeyword keyword : keywords) {
+            if (keyword.containsSchemas() || keyword instanceof RefKeyword) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the schema may accept an instance of the specified type.
+     *
+     * @param schema  the schema to check.
+     * @param type    the broad type of the instance.
+     * @param visited the schemas already checked through references.
+     * @return {@code false} if the schema never accepts the instance.
+     */
+    private static boolean mayAccept(JsonSchema schema, InstanceType type, Set<JsonSchema> visited) {
+        if (schema == JsonSchema.FALSE) {
+            return false;
+        } else if (!(schema instanceof BasicJsonSchema) || !visited.add(schema)) {
+            return true;
+        }
+        for (EvaluationKeyword keyword : ((BasicJsonSchema) schema).getEvaluationKeywords()) {
+            if (keyword instanceof Type) {
+                if (!((Type) keyword).mayAccept(type)) {
+                    return false;
+                }
+            } else if (keyword instanceof RefKeyword) {
+                RefKeyword ref = (RefKeyword) keyword;
+                if (ref.isDirect() && !mayAccept(ref.getTargetSchema(), type, visited)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the subschemas which are identical to or structurally equal to any
+     * of the preceding subschemas.
+     *
+     * @param subschemas the subschemas to filter.
+     * @return the list of distinct subschemas.
+     */
+    private List<JsonSchema> distinct(List<JsonSchema> subschemas) {
+        List<JsonSchema> result = new ArrayList<>();
+        for (JsonSchema subschema : subschemas) {
+            if (!containsEqualSchema(result, subschema)) {
+                result.add(subschema);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsEqualSchema(List<JsonSchema> schemas, JsonSchema schema) {
+        for (JsonSchema other : schemas) {
+            if (other == schema) {
+                return true;
+            }
+            // The schemas with references may resolve them differently.
+            if (isSelfContained(other) && isSelfContained(schema)
+                    && other.toJson().equals(schema.toJson())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the schema contains no references in its subtree.
+     *
+     * @param schema the schema to check.
+     * @return {@code true} if the schema is self-contained.
+     */
+    private boolean isSelfContained(JsonSchema schema) {
+        Boolean cached = selfContained.get(schema);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = true;
+        for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+            if (keyword instanceof RefKeyword) {
+                result = false;
+            } else if (keyword.containsSchemas()) {
+                result = keyword.getSchemasAsStream().allMatch(this::isSelfContained);
+            }
+            if (!result) {
+                break;
+            }
+        }
+        selfContained.put(schema, result);
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.Keyword;
+
+/**
+ * A helper which fills in advance the lazy caches of all schemas in a schema
+ * graph.
+ *
+ * <p>
+ * The schemas are traversed including the targets of the references, and
+ * each schema visited is warmed up only once even if the graph is recursive.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class SchemaWarmer {
+
+    private SchemaWarmer() {
+    }
+
+    /**
+     * Warms up the specified schema and all of its descendant schemas.
+     *
+     * @param root the root schema of the graph.
+     * @return the same schema as given.
+     */
+    public static JsonSchema warmUp(JsonSchema root) {
+        Set<JsonSchema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<JsonSchema> remaining = new ArrayDeque<>();
+        remaining.push(root);
+        while (!remaining.isEmpty()) {
+            JsonSchema schema = remaining.pop();
+            if (!visited.add(schema)) {
+                continue;
+            }
+            if (schema instanceof BasicJsonSchema) {
+                ((BasicJsonSchema) schema).warmUp();
+            }
+            for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+                if (keyword.containsSchemas()) {
+                    keyword.getSchemasAsStream().forEach(remaining::push);
+                }
+            }
+        }
+        return root;
+    }
+}
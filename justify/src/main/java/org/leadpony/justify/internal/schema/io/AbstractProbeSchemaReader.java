@@ -18,6 +18,7 @@ package org.leadpony.justify.internal.schema.io;
 import java.net.URI;
 import java.util.Collections;
 
+import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
@@ -27,21 +28,30 @@ import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.ReplayableJsonParser;
 
 /**
  * A shcema reader which detects the version of JSON Schema specfication
  * automatically.
  *
+ * <p>
+ * The events consumed while searching for "$schema" are recorded and then
+ * replayed to the schema reader for the detected version, which reads the rest
+ * of the input from the same parser. When "$schema" is the first key of the
+ * schema, only three events are recorded.
+ * </p>
+ *
  * @author leadpony
  */
 abstract class AbstractProbeSchemaReader extends AbstractJsonSchemaReader {
 
-    private final JsonParser parser;
+    private final ReplayableJsonParser parser;
     private final SpecVersion defaultSpecVersion;
 
-    protected AbstractProbeSchemaReader(JsonParser parser, SpecVersion defaultSpecVersion) {
+    protected AbstractProbeSchemaReader(JsonParser parser, JsonProvider jsonProvider,
+            SpecVersion defaultSpecVersion) {
         super(Collections.emptyMap());
-        this.parser = parser;
+        this.parser = new ReplayableJsonParser(parser, jsonProvider);
         this.defaultSpecVersion = defaultSpecVersion;
     }
 
@@ -50,7 +60,8 @@ abstract class AbstractProbeSchemaReader extends AbstractJsonSchemaReader {
     @Override
     protected JsonSchema readSchema() {
         SpecVersion version = probe(parser);
-        return createSchemaReader(version).read();
+        parser.replay();
+        return createSchemaReader(parser, version).read();
     }
 
     @Override
@@ -63,7 +74,14 @@ abstract class AbstractProbeSchemaReader extends AbstractJsonSchemaReader {
         parser.close();
     }
 
-    protected abstract JsonSchemaReader createSchemaReader(SpecVersion version);
+    /**
+     * Creates a schema reader for the specified version of specification.
+     *
+     * @param parser  the parser replaying the events consumed by the probe.
+     * @param version the version detected or the default version.
+     * @return newly created schema reader.
+     */
+    protected abstract JsonSchemaReader createSchemaReader(JsonParser parser, SpecVersion version);
 
     private SpecVersion probe(JsonParser parser) {
         SpecVersion version = doProbe(parser);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.leadpony.justify.api.keyword.KeywordType;
+
+/**
+ * The constants of the binary format of schemas.
+ *
+ * <p>
+ * The format consists of the header, the schemas in the order that every
+ * schema appears after its subschemas, the reference to the root schema, and
+ * the CRC-32 checksum of all preceding bytes.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class BinarySchemaFormat {
+
+    /**
+     * The magic number at the beginning, which reads "JSBS".
+     */
+    static final int MAGIC = 0x4A534253;
+
+    /**
+     * The version of this format.
+     */
+    static final int VERSION = 1;
+
+    /* The kinds of keywords */
+
+    static final int UNRECOGNIZED_KEYWORD = 0;
+    static final int KEYWORD = 1;
+    static final int REFERENCE_KEYWORD = 2;
+
+    /* The tags of JSON values */
+
+    static final int NULL = 0;
+    static final int TRUE = 1;
+    static final int FALSE = 2;
+    static final int STRING = 3;
+    static final int INTEGER = 4;
+    static final int DECIMAL = 5;
+    static final int ARRAY = 6;
+    static final int OBJECT = 7;
+    static final int SCHEMA = 8;
+
+    /* The references to schemas */
+
+    static final int FALSE_SCHEMA = 0;
+    static final int TRUE_SCHEMA = 1;
+    static final int EMPTY_SCHEMA = 2;
+    static final int FIRST_SCHEMA = 3;
+
+    private BinarySchemaFormat() {
+    }
+
+    /**
+     * Computes the fingerprint of the keyword types, which changes whenever the
+     * keyword types or the implementation are changed.
+     *
+     * @param keywordTypes the keyword types, mapped by their names.
+     * @return the fingerprint of the keyword types.
+     */
+    static int fingerprint(Map<String, KeywordType> keywordTypes) {
+        CRC32 crc = new CRC32();
+        update(crc, String.valueOf(VERSION));
+        update(crc, BinarySchemaFormat.class.getPackage().getImplementationVersion());
+        for (Map.Entry<String, KeywordType> entry : new TreeMap<>(keywordTypes).entrySet()) {
+            update(crc, entry.getKey());
+            update(crc, entry.getValue().getClass().getName());
+        }
+        return (int) crc.getValue();
+    }
+
+    private static void update(CRC32 crc, String value) {
+        if (value != null) {
+            crc.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        crc.update(0);
+    }
+}
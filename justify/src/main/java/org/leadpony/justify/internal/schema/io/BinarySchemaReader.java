@@ -0,0 +1,382 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema.io;
+
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.ARRAY;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.DECIMAL;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.EMPTY_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.FALSE;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.FALSE_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.FIRST_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.INTEGER;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.KEYWORD;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.NULL;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.OBJECT;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.REFERENCE_KEYWORD;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.STRING;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.TRUE;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.TRUE_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.UNRECOGNIZED_KEYWORD;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.api.keyword.IdKeyword;
+import org.leadpony.justify.api.keyword.InvalidKeywordException;
+import org.leadpony.justify.api.keyword.JsonSchemaReference;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.MappedJsonArray;
+import org.leadpony.justify.internal.base.json.MappedJsonObject;
+import org.leadpony.justify.internal.keyword.UnrecognizedKeyword;
+import org.leadpony.justify.internal.schema.BasicJsonSchema;
+import org.leadpony.justify.internal.schema.SchemaOptimizer;
+
+/**
+ * A reader of schemas in the binary format.
+ *
+ * <p>
+ * The keywords are created by the keyword types found by their names, from
+ * the values already decoded. Neither JSON parsing nor validation against the
+ * metaschema is done, and the references are linked to their targets directly.
+ * </p>
+ *
+ * @author leadpony
+ * @see BinarySchemaFormat
+ */
+final class BinarySchemaReader extends AbstractSubschemaParser {
+
+    private static final int CHECKSUM_LENGTH = 4;
+
+    private final JsonProvider jsonProvider;
+    private final Function<SpecVersion, Map<String, KeywordType>> keywordTypeMaps;
+    private final boolean optimizing;
+
+    private Map<String, KeywordType> keywordTypes;
+    private String idKeywordName;
+    private DataInputStream in;
+
+    private final List<JsonSchema> schemas = new ArrayList<>();
+    private final Map<JsonValue, JsonSchema> schemasByJson = new IdentityHashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final List<DeferredJsonSchemaReference> references = new ArrayList<>();
+    private final List<Integer> targets = new ArrayList<>();
+    private DeferredJsonSchemaReference currentReference;
+
+    /**
+     * Constructs this reader.
+     *
+     * @param jsonProvider    the JSON provider.
+     * @param keywordTypeMaps the function which returns the keyword types of the
+     *                        specified version.
+     * @param optimizing      {@code true} if the schemas read are optimized.
+     */
+    BinarySchemaReader(JsonProvider jsonProvider,
+            Function<SpecVersion, Map<String, KeywordType>> keywordTypeMaps,
+            boolean optimizing) {
+        this.jsonProvider = jsonProvider;
+        this.keywordTypeMaps = keywordTypeMaps;
+        this.optimizing = optimizing;
+    }
+
+    /**
+     * Reads the root schema and all schemas reachable from it.
+     *
+     * @param input the stream from which the schema will be read. This stream is
+     *              not closed by this method.
+     * @return the root schema read.
+     * @throws IOException   if an I/O error occurred.
+     * @throws JsonException if the input is corrupted or written in an
+     *                       incompatible way.
+     */
+    JsonSchema read(InputStream input) throws IOException {
+        byte[] bytes = readAllBytes(input);
+        if (bytes.length < CHECKSUM_LENGTH) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_CORRUPTED);
+        }
+        int length = bytes.length - CHECKSUM_LENGTH;
+        this.in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+        try {
+            readFormat();
+            verifyChecksum(bytes, length);
+            readVersion();
+            int count = readVarInt();
+            for (int i = 0; i < count; i++) {
+                schemas.add(readSchema());
+            }
+            JsonSchema root = readSchemaReference();
+            linkReferences();
+            if (this.optimizing) {
+                SchemaOptimizer.optimize(root);
+            }
+            return root;
+        } catch (EOFException | IndexOutOfBoundsException | IllegalArgumentException | ClassCastException e) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_CORRUPTED);
+        }
+    }
+
+    @Override
+    public JsonSchema parseSubschemaAt(String jsonPointer, JsonValue jsonValue) {
+        JsonSchema schema = schemasByJson.get(jsonValue);
+        if (schema != null) {
+            return schema;
+        }
+        switch (jsonValue.getValueType()) {
+        case TRUE:
+            return JsonSchema.TRUE;
+        case FALSE:
+            return JsonSchema.FALSE;
+        case OBJECT:
+            if (jsonValue.asJsonObject().isEmpty()) {
+                return JsonSchema.EMPTY;
+            }
+            break;
+        default:
+            break;
+        }
+        throw new InvalidKeywordException("Not a schema");
+    }
+
+    @Override
+    public JsonSchemaReference parseSchemaReference(JsonValue jsonValue) {
+        if (currentReference == null) {
+            throw new InvalidKeywordException("Not a reference");
+        }
+        return currentReference;
+    }
+
+    private void readFormat() throws IOException {
+        if (in.readInt() != BinarySchemaFormat.MAGIC
+                || in.readUnsignedShort() != BinarySchemaFormat.VERSION) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_INCOMPATIBLE);
+        }
+    }
+
+    private static void verifyChecksum(byte[] bytes, int length) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        int expected = new DataInputStream(new ByteArrayInputStream(bytes, length, CHECKSUM_LENGTH)).readInt();
+        if ((int) crc.getValue() != expected) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_CORRUPTED);
+        }
+    }
+
+    private void readVersion() throws IOException {
+        SpecVersion version;
+        try {
+            version = SpecVersion.valueOf(readString());
+        } catch (IllegalArgumentException e) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_INCOMPATIBLE);
+        }
+        this.keywordTypes = keywordTypeMaps.apply(version);
+        if (in.readInt() != BinarySchemaFormat.fingerprint(this.keywordTypes)) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_INCOMPATIBLE);
+        }
+        this.idKeywordName = this.keywordTypes.containsKey("$id") ? "$id" : "id";
+    }
+
+    private JsonSchema readSchema() throws IOException {
+        URI baseUri = null;
+        if (in.readBoolean()) {
+            baseUri = URI.create(readString());
+        }
+
+        int count = readVarInt();
+        Map<String, Keyword> keywords = new LinkedHashMap<>();
+        IdKeyword id = null;
+        for (int i = 0; i < count; i++) {
+            Keyword keyword = readKeyword();
+            if (keyword instanceof IdKeyword && keyword.name().equals(this.idKeywordName)) {
+                id = (IdKeyword) keyword;
+            }
+            keywords.put(keyword.name(), keyword);
+        }
+
+        JsonObject json = new MappedJsonObject<>(keywords, Keyword::getValueAsJson);
+        JsonSchema schema = BasicJsonSchema.of(json, keywords, id, baseUri);
+        schemasByJson.put(json, schema);
+        return schema;
+    }
+
+    private Keyword readKeyword() throws IOException {
+        String name = readString();
+        int kind = in.readUnsignedByte();
+        JsonValue value = readValue();
+        switch (kind) {
+        case UNRECOGNIZED_KEYWORD:
+            return new UnrecognizedKeyword(name, value);
+        case KEYWORD:
+            return createKeyword(name, value);
+        case REFERENCE_KEYWORD:
+            URI targetId = URI.create(((JsonString) value).getString());
+            URI resolvedTargetId = URI.create(readString());
+            this.currentReference = DeferredJsonSchemaReference.ofResolved(targetId, resolvedTargetId);
+            this.references.add(this.currentReference);
+            this.targets.add(readVarInt());
+            try {
+                return createKeyword(name, value);
+            } finally {
+                this.currentReference = null;
+            }
+        default:
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_CORRUPTED);
+        }
+    }
+
+    private Keyword createKeyword(String name, JsonValue value) {
+        KeywordType type = keywordTypes.get(name);
+        if (type == null) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_INCOMPATIBLE);
+        }
+        try {
+            return type.createKeyword(value, this);
+        } catch (InvalidKeywordException e) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_INCOMPATIBLE);
+        }
+    }
+
+    private JsonValue readValue() throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+        case NULL:
+            return JsonValue.NULL;
+        case TRUE:
+            return JsonValue.TRUE;
+        case FALSE:
+            return JsonValue.FALSE;
+        case STRING:
+            return jsonProvider.createValue(readString());
+        case INTEGER:
+            long value = readVarLong();
+            return jsonProvider.createValue((value >>> 1) ^ -(value & 1));
+        case DECIMAL:
+            return jsonProvider.createValue(new BigDecimal(readString()));
+        case ARRAY:
+            int size = readVarInt();
+            List<JsonValue> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(readValue());
+            }
+            return new MappedJsonArray<>(items, Function.identity());
+        case OBJECT:
+            int count = readVarInt();
+            Map<String, JsonValue> properties = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = readString();
+                properties.put(name, readValue());
+            }
+            return new MappedJsonObject<>(properties, Function.identity());
+        case SCHEMA:
+            return readSchemaReference().toJson();
+        default:
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_CORRUPTED);
+        }
+    }
+
+    private JsonSchema readSchemaReference() throws IOException {
+        return getSchema(readVarInt());
+    }
+
+    private JsonSchema getSchema(int reference) {
+        switch (reference) {
+        case FALSE_SCHEMA:
+            return JsonSchema.FALSE;
+        case TRUE_SCHEMA:
+            return JsonSchema.TRUE;
+        case EMPTY_SCHEMA:
+            return JsonSchema.EMPTY;
+        default:
+            return schemas.get(reference - FIRST_SCHEMA);
+        }
+    }
+
+    private void linkReferences() {
+        for (int i = 0; i < references.size(); i++) {
+            references.get(i).setReferencedSchema(getSchema(targets.get(i)));
+        }
+    }
+
+    private String readString() throws IOException {
+        int index = readVarInt();
+        if (index > 0) {
+            return strings.get(index - 1);
+        }
+        byte[] bytes = new byte[readVarInt()];
+        in.readFully(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(value);
+        return value;
+    }
+
+    private int readVarInt() throws IOException {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw newJsonException(Message.SCHEMA_PROBLEM_BINARY_CORRUPTED);
+    }
+
+    private static byte[] readAllBytes(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = input.read(buffer)) >= 0) {
+            output.write(buffer, 0, length);
+        }
+        return output.toByteArray();
+    }
+
+    private static JsonException newJsonException(Message message) {
+        return new JsonException(message.format(Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema.io;
+
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.ARRAY;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.DECIMAL;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.EMPTY_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.FALSE;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.FALSE_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.FIRST_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.INTEGER;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.KEYWORD;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.NULL;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.OBJECT;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.REFERENCE_KEYWORD;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.STRING;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.TRUE;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.TRUE_SCHEMA;
+import static org.leadpony.justify.internal.schema.io.BinarySchemaFormat.UNRECOGNIZED_KEYWORD;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.api.keyword.JsonSchemaReference;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.api.keyword.RefKeyword;
+
+/**
+ * A writer of schemas in the binary format.
+ *
+ * <p>
+ * All schemas reachable from the root schema, including the targets of the
+ * references, are written. Each keyword is written as its name and its value,
+ * in which the subschemas are replaced with the references to them.
+ * </p>
+ *
+ * @author leadpony
+ * @see BinarySchemaFormat
+ */
+final class BinarySchemaWriter {
+
+    private final SpecVersion version;
+    private final Map<String, KeywordType> keywordTypes;
+
+    private final Map<JsonSchema, Integer> indices = new IdentityHashMap<>();
+    private final List<JsonSchema> schemas = new ArrayList<>();
+    private final Map<String, Integer> strings = new HashMap<>();
+    private DataOutputStream out;
+
+    /**
+     * Constructs this writer.
+     *
+     * @param version      the version of the specification.
+     * @param keywordTypes the keyword types of the version.
+     */
+    BinarySchemaWriter(SpecVersion version, Map<String, KeywordType> keywordTypes) {
+        this.version = version;
+        this.keywordTypes = keywordTypes;
+    }
+
+    /**
+     * Writes the specified schema and all schemas reachable from it.
+     *
+     * @param root   the root schema to write.
+     * @param output the stream to which the schema will be written. This stream
+     *               is not closed by this method.
+     * @throws IOException if an I/O error occurred.
+     */
+    void write(JsonSchema root, OutputStream output) throws IOException {
+        collectSchemas(root);
+
+        BufferedOutputStream buffered = new BufferedOutputStream(output);
+        CRC32 crc = new CRC32();
+        this.out = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+        writeHeader();
+        writeVarInt(schemas.size());
+        for (JsonSchema schema : schemas) {
+            writeSchema(schema);
+        }
+        writeSchemaReference(root);
+        this.out.flush();
+
+        new DataOutputStream(buffered).writeInt((int) crc.getValue());
+        buffered.flush();
+    }
+
+    /**
+     * Collects all schemas to be written, so that every schema is placed after
+     * its subschemas.
+     *
+     * @param root the root schema.
+     */
+    private void collectSchemas(JsonSchema root) {
+        Deque<JsonSchema> targets = new ArrayDeque<>();
+        collectSchema(root, targets);
+        while (!targets.isEmpty()) {
+            collectSchema(targets.pop(), targets);
+        }
+    }
+
+    private void collectSchema(JsonSchema schema, Deque<JsonSchema> targets) {
+        if (isConstant(schema) || indices.containsKey(schema)) {
+            return;
+        }
+        for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+            if (isReference(keyword)) {
+                targets.push(getTargetSchema((RefKeyword) keyword));
+            } else if (keyword.containsSchemas()) {
+                keyword.getSchemasAsStream().forEach(subschema -> collectSchema(subschema, targets));
+            }
+        }
+        indices.put(schema, schemas.size());
+        schemas.add(schema);
+    }
+
+    private void writeHeader() throws IOException {
+        out.writeInt(BinarySchemaFormat.MAGIC);
+        out.writeShort(BinarySchemaFormat.VERSION);
+        writeString(version.name());
+        out.writeInt(BinarySchemaFormat.fingerprint(keywordTypes));
+    }
+
+    private void writeSchema(JsonSchema schema) throws IOException {
+        URI baseUri = schema.getBaseUri();
+        if (baseUri != null) {
+            out.writeBoolean(true);
+            writeString(baseUri.toString());
+        } else {
+            out.writeBoolean(false);
+        }
+
+        Map<String, Keyword> keywords = schema.getKeywordsAsMap();
+        writeVarInt(keywords.size());
+        for (Keyword keyword : keywords.values()) {
+            writeKeyword(keyword);
+        }
+    }
+
+    private void writeKeyword(Keyword keyword) throws IOException {
+        String name = keyword.name();
+        writeString(name);
+        if (!keyword.isRecognized() || !keywordTypes.containsKey(name)) {
+            out.writeByte(UNRECOGNIZED_KEYWORD);
+            writeValue(keyword.getValueAsJson(), getSubschemas(keyword));
+        } else if (isReference(keyword)) {
+            RefKeyword ref = (RefKeyword) keyword;
+            out.writeByte(REFERENCE_KEYWORD);
+            writeValue(keyword.getValueAsJson(), Collections.emptyMap());
+            writeString(ref.getSchemaReference().getResolvedTargetId().toString());
+            writeSchemaReference(getTargetSchema(ref));
+        } else {
+            out.writeByte(KEYWORD);
+            writeValue(keyword.getValueAsJson(), getSubschemas(keyword));
+        }
+    }
+
+    /**
+     * Returns the subschemas of the keyword, mapped by their JSON
+     * representations.
+     *
+     * @param keyword the keyword containing the subschemas.
+     * @return the subschemas found in the value of the keyword.
+     */
+    private Map<JsonValue, JsonSchema> getSubschemas(Keyword keyword) {
+        if (!keyword.containsSchemas()) {
+            return Collections.emptyMap();
+        }
+        Map<JsonValue, JsonSchema> subschemas = new IdentityHashMap<>();
+        keyword.getSchemasAsStream()
+            .filter(subschema -> !isConstant(subschema))
+            .forEach(subschema -> subschemas.put(subschema.toJson(), subschema));
+        return subschemas;
+    }
+
+    private void writeValue(JsonValue value, Map<JsonValue, JsonSchema> subschemas) throws IOException {
+        JsonSchema subschema = subschemas.get(value);
+        if (subschema != null) {
+            out.writeByte(SCHEMA);
+            writeSchemaReference(subschema);
+            return;
+        }
+
+        switch (value.getValueType()) {
+        case NULL:
+            out.writeByte(NULL);
+            break;
+        case TRUE:
+            out.writeByte(TRUE);
+            break;
+        case FALSE:
+            out.writeByte(FALSE);
+            break;
+        case STRING:
+            out.writeByte(STRING);
+            writeString(((JsonString) value).getString());
+            break;
+        case NUMBER:
+            writeNumber((JsonNumber) value);
+            break;
+        case ARRAY:
+            JsonArray array = value.asJsonArray();
+            out.writeByte(ARRAY);
+            writeVarInt(array.size());
+            for (JsonValue item : array) {
+                writeValue(item, subschemas);
+            }
+            break;
+        case OBJECT:
+            JsonObject object = value.asJsonObject();
+            out.writeByte(OBJECT);
+            writeVarInt(object.size());
+            for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+                writeString(entry.getKey());
+                writeValue(entry.getValue(), subschemas);
+            }
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    private void writeNumber(JsonNumber number) throws IOException {
+        BigDecimal decimal = number.bigDecimalValue();
+        if (decimal.scale() == 0 && decimal.unscaledValue().bitLength() < Long.SIZE) {
+            out.writeByte(INTEGER);
+            long value = decimal.longValue();
+            writeVarLong((value << 1) ^ (value >> (Long.SIZE - 1)));
+        } else {
+            // Keeps the scale of the number as written.
+            out.writeByte(DECIMAL);
+            writeString(decimal.toString());
+        }
+    }
+
+    private void writeSchemaReference(JsonSchema schema) throws IOException {
+        if (schema == JsonSchema.EMPTY) {
+            writeVarInt(EMPTY_SCHEMA);
+        } else if (schema.isBoolean()) {
+            writeVarInt(schema.toJson().getValueType() == ValueType.TRUE ? TRUE_SCHEMA : FALSE_SCHEMA);
+        } else {
+            writeVarInt(FIRST_SCHEMA + indices.get(schema));
+        }
+    }
+
+    /**
+     * Writes a string. A string which was already written is written as the
+     * index of its first occurrence.
+     *
+     * @param value the string to write.
+     * @throws IOException if an I/O error occurred.
+     */
+    private void writeString(String value) throws IOException {
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarInt(index + 1);
+            return;
+        }
+        writeVarInt(0);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        out.write(bytes);
+        strings.put(value, strings.size());
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xffffffffL);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static boolean isConstant(JsonSchema schema) {
+        return schema == JsonSchema.EMPTY || schema.isBoolean();
+    }
+
+    private static boolean isReference(Keyword keyword) {
+        return keyword instanceof RefKeyword;
+    }
+
+    private static JsonSchema getTargetSchema(RefKeyword keyword) {
+        JsonSchemaReference reference = keyword.getSchemaReference();
+        return reference.getTargetSchema();
+    }
+}
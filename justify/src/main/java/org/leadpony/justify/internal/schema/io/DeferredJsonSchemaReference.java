@@ -29,14 +29,33 @@ final class DeferredJsonSchemaReference implements JsonSchemaReference {
     private final URI resolvedTargetId;
     private final String jsonPointer;
 
-    private JsonSchema referencedSchema;
+    /*
+     * Set once when all references are resolved at the end of reading, and
+     * published safely to the validators running on other threads.
+     */
+    private volatile JsonSchema referencedSchema;
 
     DeferredJsonSchemaReference(URI baseUri, URI targetId, String jsonPointer) {
+        this(jsonPointer, targetId, resolveTargetId(baseUri, targetId));
+    }
+
+    private DeferredJsonSchemaReference(String jsonPointer, URI targetId, URI resolvedTargetId) {
         this.targetId = targetId;
-        this.resolvedTargetId = resolveTargetId(baseUri, targetId);
+        this.resolvedTargetId = resolvedTargetId;
         this.jsonPointer = jsonPointer;
     }
 
+    /**
+     * Creates a reference whose target was already resolved.
+     *
+     * @param targetId         the original identifier of the target.
+     * @param resolvedTargetId the resolved identifier of the target.
+     * @return newly created reference.
+     */
+    static DeferredJsonSchemaReference ofResolved(URI targetId, URI resolvedTargetId) {
+        return new DeferredJsonSchemaReference("", targetId, resolvedTargetId);
+    }
+
     @Override
     public URI getTargetId() {
         return targetId;
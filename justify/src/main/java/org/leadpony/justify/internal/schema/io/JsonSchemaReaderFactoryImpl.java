@@ -19,9 +19,10 @@ import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.net.URI;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -29,6 +30,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -44,9 +47,9 @@ import org.leadpony.justify.api.JsonSchemaResolver;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.api.keyword.KeywordValueSetLoader;
+import org.leadpony.justify.internal.base.MappedInputStream;
 import org.leadpony.justify.internal.base.Message;
-import org.leadpony.justify.internal.base.ResettableInputStream;
-import org.leadpony.justify.internal.base.ResettableReader;
+import org.leadpony.justify.internal.base.URIs;
 import org.leadpony.justify.internal.base.json.JsonService;
 import org.leadpony.justify.internal.schema.SchemaCatalog;
 import org.leadpony.justify.internal.schema.SchemaSpec;
@@ -58,7 +61,7 @@ import org.leadpony.justify.internal.schema.SchemaSpec;
  */
 public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
 
-    private final JsonService jsonService;
+    protected final JsonService jsonService;
     protected final JsonParserFactory jsonParserFactory;
     private final KeywordValueSetLoader keywordValuesLoader;
 
@@ -66,6 +69,7 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
     protected final SpecVersion defaultVersion;
     private final JsonSchema metaschema;
     private final Map<String, Object> config;
+    private final ConcurrentMap<SpecVersion, Map<String, KeywordType>> keywordMapCache = new ConcurrentHashMap<>();
 
     public static JsonSchemaReaderFactoryBuilder builder(
             JsonService jsonService,
@@ -113,7 +117,7 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
     public JsonSchemaReader createSchemaReader(Path path) {
         requireNonNull(path, "path");
         try {
-            InputStream in = Files.newInputStream(path);
+            InputStream in = MappedInputStream.open(path);
             return createSchemaReader(in);
         } catch (NoSuchFileException e) {
             throw newJsonException(e, Message.SCHEMA_PROBLEM_NOT_FOUND, path);
@@ -129,6 +133,43 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
         return createSpecificSchemaReader(parser, spec);
     }
 
+    @Override
+    public void writeBinarySchema(JsonSchema schema, OutputStream out) {
+        requireNonNull(schema, "schema");
+        requireNonNull(out, "out");
+        SpecVersion version = selectSpecVersion(schema);
+        BinarySchemaWriter writer = new BinarySchemaWriter(version, getKeywordMap(getSpec(version)));
+        try {
+            writer.write(schema, out);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public JsonSchema readBinarySchema(InputStream in) {
+        requireNonNull(in, "in");
+        BinarySchemaReader reader = new BinarySchemaReader(
+                jsonService.getJsonProvider(),
+                version -> getKeywordMap(getSpec(version)),
+                testOption(JsonSchemaReader.SCHEMA_OPTIMIZATION));
+        try {
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Selects the version of specification with which the schema was read.
+     *
+     * @param schema the schema read by this factory.
+     * @return the version of specification.
+     */
+    protected SpecVersion selectSpecVersion(JsonSchema schema) {
+        return defaultVersion;
+    }
+
     /**
      * Returns the instance of {@link SchemaSpec} for the specified version.
      *
@@ -146,10 +187,23 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
         return catalog.resolveSchema(spec.getVersion().id());
     }
 
+    /**
+     * Returns the keyword types for the specified version of specification.
+     * The map is built only once per version, as the configuration of this
+     * factory never changes.
+     *
+     * @param spec the specification.
+     * @return the map of keyword types, never be {@code null}.
+     */
+    private Map<String, KeywordType> getKeywordMap(SchemaSpec spec) {
+        return keywordMapCache.computeIfAbsent(spec.getVersion(), version -> buildKeywordMap(spec));
+    }
+
     private Map<String, KeywordType> buildKeywordMap(SchemaSpec spec) {
-        return spec.getVocabularies().stream()
+        Map<String, KeywordType> map = spec.getVocabularies().stream()
             .flatMap(v -> v.getKeywordTypes(this.config, this.keywordValuesLoader).stream())
             .collect(Collectors.toMap(KeywordType::name, Function.identity()));
+        return Collections.unmodifiableMap(map);
     }
 
     /**
@@ -164,7 +218,7 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
         if (testOption(JsonSchemaReader.SCHEMA_VALIDATION)) {
             metaschema = getMetaschema(spec);
         }
-        return new JsonSchemaReaderImpl(realParser, jsonService, buildKeywordMap(spec), config, metaschema);
+        return new JsonSchemaReaderImpl(realParser, jsonService, getKeywordMap(spec), config, metaschema);
     }
 
     private static JsonException newJsonException(NoSuchFileException e, Message message, Path path) {
@@ -192,48 +246,41 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
         @Override
         public JsonSchemaReader createSchemaReader(InputStream in) {
             requireNonNull(in, "in");
-            ResettableInputStream probeStream = new ResettableInputStream(in);
-            JsonParser probeParser = jsonParserFactory.createParser(probeStream);
-            return new AbstractProbeSchemaReader(probeParser, defaultVersion) {
-                @Override
-                protected JsonSchemaReader createSchemaReader(SpecVersion version) {
-                    SchemaSpec spec = getSpec(version);
-                    JsonParser realParser = jsonParserFactory.createParser(
-                            probeStream.createResettedStream());
-                    return createSpecificSchemaReader(realParser, spec);
-                }
-            };
+            return createProbeSchemaReader(jsonParserFactory.createParser(in));
         }
 
         @Override
         public JsonSchemaReader createSchemaReader(InputStream in, Charset charset) {
             requireNonNull(in, "in");
             requireNonNull(charset, "charset");
-            ResettableInputStream probeStream = new ResettableInputStream(in);
-            JsonParser probeParser = jsonParserFactory.createParser(probeStream, charset);
-            return new AbstractProbeSchemaReader(probeParser, defaultVersion) {
-                @Override
-                protected JsonSchemaReader createSchemaReader(SpecVersion version) {
-                    SchemaSpec spec = getSpec(version);
-                    JsonParser realParser = jsonParserFactory.createParser(
-                            probeStream.createResettedStream(), charset);
-                    return createSpecificSchemaReader(realParser, spec);
-                }
-            };
+            return createProbeSchemaReader(jsonParserFactory.createParser(in, charset));
         }
 
         @Override
         public JsonSchemaReader createSchemaReader(Reader reader) {
             requireNonNull(reader, "reader");
-            ResettableReader probeReader = new ResettableReader(reader);
-            JsonParser probeParser = jsonParserFactory.createParser(probeReader);
-            return new AbstractProbeSchemaReader(probeParser, defaultVersion) {
+            return createProbeSchemaReader(jsonParserFactory.createParser(reader));
+        }
+
+        @Override
+        protected SpecVersion selectSpecVersion(JsonSchema schema) {
+            URI declared = schema.schema();
+            if (declared != null) {
+                URI id = URIs.removeEmptyFragment(declared);
+                for (SpecVersion version : SpecVersion.values()) {
+                    if (URIs.removeEmptyFragment(version.id()).equals(id)) {
+                        return version;
+                    }
+                }
+            }
+            return defaultVersion;
+        }
+
+        private JsonSchemaReader createProbeSchemaReader(JsonParser probeParser) {
+            return new AbstractProbeSchemaReader(probeParser, jsonService.getJsonProvider(), defaultVersion) {
                 @Override
-                protected JsonSchemaReader createSchemaReader(SpecVersion version) {
-                    SchemaSpec spec = getSpec(version);
-                    JsonParser realParser = jsonParserFactory.createParser(
-                            probeReader.createResettedReader());
-                    return createSpecificSchemaReader(realParser, spec);
+                protected JsonSchemaReader createSchemaReader(JsonParser parser, SpecVersion version) {
+                    return createSpecificSchemaReader(parser, getSpec(version));
                 }
             };
         }
@@ -332,6 +379,18 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
             return this;
         }
 
+        @Override
+        public JsonSchemaReaderFactoryBuilder withSchemaOptimization(boolean enabled) {
+            getProperties().put(JsonSchemaReader.SCHEMA_OPTIMIZATION, enabled);
+            return this;
+        }
+
+        @Override
+        public JsonSchemaReaderFactoryBuilder withSchemaStreaming(boolean enabled) {
+            getProperties().put(JsonSchemaReader.SCHEMA_STREAMING, enabled);
+            return this;
+        }
+
         private Map<String, Object> getProperties() {
             if (this.properties == null) {
                 this.properties = createDefaultProperties();
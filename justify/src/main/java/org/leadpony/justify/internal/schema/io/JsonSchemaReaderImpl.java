@@ -21,7 +21,9 @@ import java.util.Map;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.keyword.KeywordType;
@@ -82,9 +84,13 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader implements Pr
     protected JsonSchema readSchema() {
         JsonSchema schema = null;
         if (this.jsonParser.hasNext()) {
-            this.jsonParser.next();
-            JsonValue jsonValue = this.jsonParser.getValue();
-            schema = parseRootSchema(jsonValue);
+            Event event = this.jsonParser.next();
+            if (getConfig().get(JsonSchemaReader.SCHEMA_STREAMING) == Boolean.TRUE) {
+                schema = createRootSchemaParser().parseRoot(event, this.jsonParser, initialBaseUri);
+            } else {
+                JsonValue jsonValue = this.jsonParser.getValue();
+                schema = parseRootSchema(jsonValue);
+            }
         }
         dispatchProblems();
         return schema;
@@ -110,14 +116,16 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader implements Pr
     /* */
 
     private JsonSchema parseRootSchema(JsonValue jsonValue) {
-        RootJsonSchemaParser schemaParser = new RootJsonSchemaParser(
+        return createRootSchemaParser().parseRoot(jsonValue, initialBaseUri);
+    }
+
+    private RootJsonSchemaParser createRootSchemaParser() {
+        return new RootJsonSchemaParser(
                 this.keywordTypeMap,
                 getResolvers(),
                 this::addProblem,
                 getConfig()
                 );
-
-        return schemaParser.parseRoot(jsonValue, initialBaseUri);
     }
 
     private JsonParser wrapJsonParser(JsonParser realParser, JsonService jsonService,
@@ -19,12 +19,16 @@ import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReader;
@@ -36,13 +40,17 @@ import org.leadpony.justify.api.keyword.InvalidKeywordException;
 import org.leadpony.justify.api.keyword.JsonSchemaReference;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.api.keyword.SubschemaLayout;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.URIs;
 import org.leadpony.justify.internal.base.json.JsonPointers;
+import org.leadpony.justify.internal.base.json.MappedJsonArray;
+import org.leadpony.justify.internal.base.json.MappedJsonObject;
 import org.leadpony.justify.internal.keyword.UnrecognizedKeyword;
 import org.leadpony.justify.internal.keyword.format.InvalidFormatException;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 import org.leadpony.justify.internal.schema.BasicJsonSchema;
+import org.leadpony.justify.internal.schema.SchemaOptimizer;
 
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
@@ -50,6 +58,8 @@ import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 /**
  * A parser of in-memory JSON schema.
@@ -64,6 +74,7 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
 
     private final boolean strictWithKeywords;
     private final boolean strictWithFormats;
+    private final boolean optimizing;
 
     private final KeywordType idKeywordType;
     private final String idKeywordName;
@@ -71,8 +82,20 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     private Scope currentScope;
 
     private final Map<URI, JsonSchema> identifiedSchemas = new HashMap<>();
+    /*
+     * The schemas identified so far, each with the one replaced, in order.
+     */
+    private final List<Map.Entry<URI, JsonSchema>> identificationHistory = new ArrayList<>();
     private final LinkedList<DeferredJsonSchemaReference> references = new LinkedList<>();
     private final List<DeferredJsonSchemaReference> resolvedReferences = new ArrayList<>();
+    private boolean unresolved;
+
+    /*
+     * The subschemas already parsed from the parser events, which are looked up
+     * by their JSON representations while the current keyword is created.
+     */
+    private Map<JsonValue, JsonSchema> parsedSubschemas = Collections.emptyMap();
+    private boolean rebuilding;
 
     RootJsonSchemaParser(
             Map<String, KeywordType> keywordTypeMap,
@@ -87,6 +110,7 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
 
         this.strictWithKeywords = config.get(JsonSchemaReader.STRICT_KEYWORDS) == Boolean.TRUE;
         this.strictWithFormats = config.get(JsonSchemaReader.STRICT_FORMATS) == Boolean.TRUE;
+        this.optimizing = config.get(JsonSchemaReader.SCHEMA_OPTIMIZATION) == Boolean.TRUE;
 
         this.idKeywordType = selectIdKeywordType(keywordTypeMap);
         this.idKeywordName = this.idKeywordType.name();
@@ -100,11 +124,43 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
      * @return parsed schema.
      */
     JsonSchema parseRoot(JsonValue jsonValue, URI baseUri) {
-        JsonSchema schema = parseValueOrNull(jsonValue, baseUri, "");
+        return completeRoot(parseValueOrNull(jsonValue, baseUri, ""), baseUri);
+    }
+
+    /**
+     * Parses the schema at the root of the document directly from the parser
+     * events.
+     *
+     * <p>
+     * The subschemas placed as declared by {@link KeywordType#getSubschemaLayout()}
+     * are built as their events arrive and only the values of the other
+     * keywords, including the unknown ones, are read into memory. The JSON representation of the
+     * schemas built in this way is reconstructed from their keywords on demand.
+     * </p>
+     *
+     * @param event the first event of the document.
+     * @param parser the parser of the document.
+     * @param baseUri the initial base URI.
+     * @return parsed schema.
+     */
+    JsonSchema parseRoot(Event event, JsonParser parser, URI baseUri) {
+        JsonSchema schema = null;
+        if (isSchemaEvent(event)) {
+            schema = parseEvents(event, parser, baseUri, "");
+        } else {
+            parser.getValue();
+        }
+        return completeRoot(schema, baseUri);
+    }
+
+    private JsonSchema completeRoot(JsonSchema schema, URI baseUri) {
         if (schema != null) {
             addRootSchemaAsIdentified(baseUri, schema);
             resolveAllReferences();
             checkInfiniteRecursiveLoop();
+            if (this.optimizing && !this.unresolved) {
+                SchemaOptimizer.optimize(schema);
+            }
         }
         return schema;
     }
@@ -116,6 +172,10 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     public JsonSchema parseSubschemaAt(String jsonPointer, JsonValue jsonValue) {
         requireNonNull(jsonPointer, "jsonPointer");
         requireNonNull(jsonValue, "jsonValue");
+        JsonSchema parsed = this.parsedSubschemas.get(jsonValue);
+        if (parsed != null) {
+            return parsed;
+        }
         String schemaPointer = getAbsolutePointer(jsonPointer);
         JsonSchema schema = parseValueOrNull(jsonValue, getCurrentBaseUri(), schemaPointer);
         if (schema == null) {
@@ -238,16 +298,186 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
 
     private IdKeyword fetchId(JsonObject object) {
         if (object.containsKey(this.idKeywordName)) {
-            JsonValue value = object.get(this.idKeywordName);
-            try {
-                return (IdKeyword) this.idKeywordType.createKeyword(value, this);
-            } catch (InvalidKeywordException e) {
-                return null;
-            }
+            return createIdOrNull(object.get(this.idKeywordName));
         }
         return null;
     }
 
+    private IdKeyword createIdOrNull(JsonValue value) {
+        try {
+            return (IdKeyword) this.idKeywordType.createKeyword(value, this);
+        } catch (InvalidKeywordException e) {
+            return null;
+        }
+    }
+
+    /* Parsing from the parser events */
+
+    private JsonSchema parseEvents(Event event, JsonParser parser, URI baseUri, String jsonPointer) {
+        switch (event) {
+        case VALUE_TRUE:
+            return JsonSchema.TRUE;
+        case VALUE_FALSE:
+            return JsonSchema.FALSE;
+        default:
+            return parseObjectEvents(parser, baseUri, jsonPointer);
+        }
+    }
+
+    private JsonSchema parseObjectEvents(JsonParser parser, URI baseUri, String jsonPointer) {
+        Event event = parser.next();
+        if (event == Event.END_OBJECT) {
+            return JsonSchema.EMPTY;
+        }
+
+        Scope scope = new Scope(this.currentScope, baseUri, jsonPointer);
+        this.currentScope = scope;
+        final int referenceMark = this.references.size();
+        final int identificationMark = this.identificationHistory.size();
+        while (event == Event.KEY_NAME) {
+            String name = parser.getString();
+            Event valueEvent = parser.next();
+            if (name.equals(this.idKeywordName)) {
+                IdKeyword id = createIdOrNull(parser.getValue());
+                if (id != null) {
+                    assignId(scope, id, referenceMark, identificationMark);
+                }
+            } else {
+                scope.setCurrentKeyword(name);
+                scope.addKeyword(parseKeywordEvents(name, valueEvent, parser));
+            }
+            event = parser.next();
+        }
+        endScope();
+
+        JsonObject json = new MappedJsonObject<>(scope.getKeywords(), Keyword::getValueAsJson);
+        return identifySchema(baseUri, scope.buildSchema(json));
+    }
+
+    /**
+     * Assigns the identifier found in the middle of the schema. The keywords
+     * preceding the identifier are created again with the new base URI if they
+     * depend on it.
+     */
+    private void assignId(Scope scope, IdKeyword id, int referenceMark, int identificationMark) {
+        boolean dependent = this.references.size() > referenceMark
+                || this.identificationHistory.size() > identificationMark
+                || scope.getKeywords().values().stream().anyMatch(Keyword::containsSchemas);
+        if (!dependent) {
+            scope.assignId(id);
+            scope.addKeyword(id);
+            return;
+        }
+
+        rollBack(referenceMark, identificationMark);
+        Map<String, Keyword> preceding = scope.removeKeywords();
+        scope.assignId(id);
+        final boolean wasRebuilding = this.rebuilding;
+        this.rebuilding = true;
+        try {
+            for (Keyword keyword : preceding.values()) {
+                String name = keyword.name();
+                scope.setCurrentKeyword(name);
+                scope.addKeyword(createKeyword(name, keyword.getValueAsJson(), scope.getBaseUri()));
+            }
+        } finally {
+            this.rebuilding = wasRebuilding;
+        }
+        scope.addKeyword(id);
+    }
+
+    private void rollBack(int referenceMark, int identificationMark) {
+        while (this.references.size() > referenceMark) {
+            this.references.removeLast();
+        }
+        for (int i = this.identificationHistory.size() - 1; i >= identificationMark; i--) {
+            Map.Entry<URI, JsonSchema> entry = this.identificationHistory.remove(i);
+            if (entry.getValue() != null) {
+                this.identifiedSchemas.put(entry.getKey(), entry.getValue());
+            } else {
+                this.identifiedSchemas.remove(entry.getKey());
+            }
+        }
+    }
+
+    private Keyword parseKeywordEvents(String name, Event event, JsonParser parser) {
+        KeywordType type = keywordTypeMap.get(name);
+        // The values of unknown keywords are read into memory as they are.
+        SubschemaLayout layout = (type != null) ? type.getSubschemaLayout() : SubschemaLayout.NONE;
+        Map<JsonValue, JsonSchema> subschemas = new IdentityHashMap<>();
+        JsonValue value;
+        if (layout.canBeSchema() && isSchemaEvent(event)) {
+            value = parseSubschemaEvents(event, parser, "", subschemas);
+        } else if (layout.canBeArrayOfSchemas() && event == Event.START_ARRAY) {
+            value = parseArrayOfSubschemas(parser, subschemas);
+        } else if (layout.canBeObjectOfSchemas() && event == Event.START_OBJECT) {
+            value = parseObjectOfSubschemas(parser, subschemas);
+        } else {
+            value = parser.getValue();
+        }
+
+        if (type == null) {
+            return createUnrecognizedKeyword(name, value);
+        }
+        this.parsedSubschemas = subschemas;
+        try {
+            return createKeyword(type, value);
+        } finally {
+            this.parsedSubschemas = Collections.emptyMap();
+        }
+    }
+
+    private JsonValue parseSubschemaEvents(Event event, JsonParser parser, String jsonPointer,
+            Map<JsonValue, JsonSchema> subschemas) {
+        JsonSchema schema = parseEvents(event, parser, getCurrentBaseUri(), getAbsolutePointer(jsonPointer));
+        JsonValue json = schema.toJson();
+        subschemas.put(json, schema);
+        return json;
+    }
+
+    private JsonValue parseArrayOfSubschemas(JsonParser parser, Map<JsonValue, JsonSchema> subschemas) {
+        List<JsonValue> items = new ArrayList<>();
+        Event event;
+        while ((event = parser.next()) != Event.END_ARRAY) {
+            if (isSchemaEvent(event)) {
+                String jsonPointer = "/" + items.size();
+                items.add(parseSubschemaEvents(event, parser, jsonPointer, subschemas));
+            } else {
+                items.add(parser.getValue());
+            }
+        }
+        return new MappedJsonArray<>(items, Function.identity());
+    }
+
+    private JsonValue parseObjectOfSubschemas(JsonParser parser, Map<JsonValue, JsonSchema> subschemas) {
+        Map<String, JsonValue> properties = new LinkedHashMap<>();
+        while (parser.next() == Event.KEY_NAME) {
+            String name = parser.getString();
+            Event event = parser.next();
+            if (isSchemaEvent(event)) {
+                String jsonPointer = "/" + JsonPointers.encode(name);
+                properties.put(name, parseSubschemaEvents(event, parser, jsonPointer, subschemas));
+            } else {
+                properties.put(name, parser.getValue());
+            }
+        }
+        return new MappedJsonObject<>(properties, Function.identity());
+    }
+
+    /**
+     * Checks if the value starting with the specified event can be a schema.
+     *
+     * @param event the first event of the value.
+     * @return {@code true} if the value can be a schema.
+     */
+    private static boolean isSchemaEvent(Event event) {
+        return event == Event.START_OBJECT
+                || event == Event.VALUE_TRUE
+                || event == Event.VALUE_FALSE;
+    }
+
+    /* */
+
     private JsonSchema identifySchema(URI baseUri, JsonSchema schema) {
         final URI newBaseUri = updateBaseUri(baseUri, schema);
         if (schema.hasId()) {
@@ -275,7 +505,9 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     }
 
     private void addSchemaAsIdentified(URI id, JsonSchema schema) {
-        this.identifiedSchemas.put(URIs.removeEmptyFragment(id), schema);
+        URI key = URIs.removeEmptyFragment(id);
+        JsonSchema replaced = this.identifiedSchemas.put(key, schema);
+        this.identificationHistory.add(new AbstractMap.SimpleImmutableEntry<>(key, replaced));
     }
 
     private void addRootSchemaAsIdentified(URI baseUri, JsonSchema schema) {
@@ -299,6 +531,7 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
                 reference.setReferencedSchema(schema);
                 this.resolvedReferences.add(reference);
             } else {
+                this.unresolved = true;
                 reportUnresolvedReference(reference);
             }
         }
@@ -363,6 +596,9 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     }
 
     private void reportUnknownKeyword(String name) {
+        if (this.rebuilding) {
+            return;
+        }
         Problem problem = new ProblemBuilder(null, null)
                 .withMessage(Message.SCHEMA_PROBLEM_KEYWORD_UNKNOWN)
                 .withParameter("keyword", name)
@@ -371,6 +607,9 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     }
 
     private void reportUnknownFormat(String attribute) {
+        if (this.rebuilding) {
+            return;
+        }
         Problem problem = new ProblemBuilder(null, null)
                 .withMessage(Message.SCHEMA_PROBLEM_FORMAT_UNKNOWN)
                 .withParameter("attribute", attribute)
@@ -409,10 +648,10 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     private static final class Scope {
 
         private final Scope parent;
-        private final URI baseUri;
+        private URI baseUri;
         private final String jsonPointer;
         private final Map<String, Keyword> keywords = new LinkedHashMap<>();
-        private final IdKeyword id;
+        private IdKeyword id;
 
         private String currentKeyword;
 
@@ -425,12 +664,22 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
 
         Scope(Scope parent, URI baseUri, String jsonPointer, IdKeyword id) {
             this.parent = parent;
-            this.baseUri = baseUri.resolve(id.value());
+            this.baseUri = baseUri;
             this.jsonPointer = jsonPointer;
-            this.id = id;
+            assignId(id);
             addKeyword(id);
         }
 
+        /**
+         * Assigns the identifier of the schema, which changes the base URI.
+         *
+         * @param id the identifier of the schema.
+         */
+        void assignId(IdKeyword id) {
+            this.baseUri = this.baseUri.resolve(id.value());
+            this.id = id;
+        }
+
         Scope getParent() {
             return parent;
         }
@@ -460,6 +709,21 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
             this.keywords.put(keyword.name(), keyword);
         }
 
+        Map<String, Keyword> getKeywords() {
+            return keywords;
+        }
+
+        /**
+         * Removes all keywords added so far.
+         *
+         * @return the keywords removed.
+         */
+        Map<String, Keyword> removeKeywords() {
+            Map<String, Keyword> removed = new LinkedHashMap<>(this.keywords);
+            this.keywords.clear();
+            return removed;
+        }
+
         JsonSchema buildSchema(JsonObject json) {
             return BasicJsonSchema.of(json, this.keywords, this.id, this.baseUri);
         }
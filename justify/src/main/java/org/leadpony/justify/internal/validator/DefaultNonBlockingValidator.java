@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.validator;
+
+import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.spi.JsonProvider;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.NonBlockingValidator;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ValidationResult;
+import org.leadpony.justify.internal.base.json.NonBlockingJsonParser;
+
+/**
+ * The default implementation of {@link NonBlockingValidator}.
+ *
+ * <p>
+ * The events are pulled through a {@link JsonValidator} while each chunk is
+ * scanned, so the events of a whole chunk are never queued, and the states of
+ * the evaluators are retained between the chunks.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class DefaultNonBlockingValidator implements NonBlockingValidator {
+
+    private final NonBlockingJsonParser parser;
+    private final JsonValidator validator;
+    private final List<Problem> problems = new ArrayList<>();
+    private ValidationResult result;
+
+    /**
+     * Constructs this validator.
+     *
+     * @param schema       the JSON schema to apply to the instance.
+     * @param jsonProvider the JSON provider.
+     */
+    public DefaultNonBlockingValidator(JsonSchema schema, JsonProvider jsonProvider) {
+        this.parser = new NonBlockingJsonParser(jsonProvider);
+        this.validator = new JsonValidator(parser, schema, jsonProvider)
+                .withHandler(problems::addAll);
+    }
+
+    @Override
+    public void feed(ByteBuffer chunk) {
+        requireNonNull(chunk, "chunk");
+        if (result != null) {
+            throw new IllegalStateException("The validation was already completed.");
+        }
+        parser.feed(chunk);
+        validateAvailable();
+    }
+
+    @Override
+    public ValidationResult complete() {
+        if (result == null) {
+            parser.end();
+            validateAvailable();
+            result = new DefaultValidationResult(problems);
+        }
+        return result;
+    }
+
+    private void validateAvailable() {
+        while (validator.hasNext()) {
+            validator.next();
+        }
+    }
+}
@@ -86,4 +86,9 @@ public class DefaultValidationConfig extends HashMap<String, Object>
     public ValidationConfig withDefaultValues(boolean usingDefaultValues) {
         return setProperty(DEFAULT_VALUES, usingDefaultValues);
     }
+
+    @Override
+    public ValidationConfig withFailFast(boolean failFast) {
+        return setProperty(FAIL_FAST, failFast);
+    }
 }
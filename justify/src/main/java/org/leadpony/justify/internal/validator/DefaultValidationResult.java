@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.validator;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ValidationResult;
+
+/**
+ * The default implementation of {@link ValidationResult}.
+ *
+ * @author leadpony
+ */
+public final class DefaultValidationResult implements ValidationResult {
+
+    private final List<Problem> problems;
+
+    /**
+     * Constructs this result.
+     *
+     * @param problems the problems found, cannot be {@code null}.
+     */
+    public DefaultValidationResult(List<Problem> problems) {
+        this.problems = Collections.unmodifiableList(problems);
+    }
+
+    @Override
+    public List<Problem> getProblems() {
+        return problems;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : problems.toString();
+    }
+}
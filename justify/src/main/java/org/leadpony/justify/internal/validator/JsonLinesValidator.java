@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.LineProblemHandler;
+import org.leadpony.justify.api.Problem;
+
+/**
+ * A validator of newline-delimited JSON.
+ *
+ * <p>
+ * The lines are read by the calling thread and validated by the given
+ * executor. The results are passed to the handler in the order of the lines.
+ * Blank lines are skipped.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class JsonLinesValidator {
+
+    /*
+     * The maximum number of lines in flight.
+     */
+    private static final int MAX_PENDING_LINES = 1024;
+
+    private final JsonValidationService service;
+    private final JsonSchema schema;
+    private final Executor executor;
+    private final LineProblemHandler handler;
+    private final Deque<CompletableFuture<LineResult>> pending = new ArrayDeque<>();
+
+    public JsonLinesValidator(JsonValidationService service, JsonSchema schema,
+            Executor executor, LineProblemHandler handler) {
+        this.service = service;
+        this.schema = schema;
+        this.executor = executor;
+        this.handler = handler;
+    }
+
+    /**
+     * Validates all lines in the given input stream.
+     *
+     * @param in the input stream encoded in UTF-8, which will not be closed.
+     * @throws JsonException if an I/O error occurred.
+     */
+    public void validate(InputStream in) {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (isBlank(line)) {
+                    continue;
+                }
+                submit(lineNumber, line);
+                while (pending.size() >= MAX_PENDING_LINES) {
+                    complete(pending.removeFirst());
+                }
+            }
+            while (!pending.isEmpty()) {
+                complete(pending.removeFirst());
+            }
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+            pending.clear();
+        }
+    }
+
+    private void submit(long lineNumber, String line) {
+        pending.addLast(CompletableFuture.supplyAsync(
+                () -> validateLine(lineNumber, line), executor));
+    }
+
+    private void complete(CompletableFuture<LineResult> future) {
+        LineResult result;
+        try {
+            result = future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        if (result.exception != null) {
+            handler.handleError(result.lineNumber, result.exception);
+        } else {
+            handler.handleLine(result.lineNumber, result.problems);
+        }
+    }
+
+    private LineResult validateLine(long lineNumber, String line) {
+        List<Problem> problems = new ArrayList<>();
+        try (JsonParser parser = service.createParser(new StringReader(line), schema, problems::addAll)) {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        } catch (JsonException e) {
+            return new LineResult(lineNumber, null, e);
+        }
+        if (problems.isEmpty()) {
+            problems = Collections.emptyList();
+        }
+        return new LineResult(lineNumber, problems, null);
+    }
+
+    private static boolean isBlank(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The result of validating a line.
+     *
+     * @author leadpony
+     */
+    private static final class LineResult {
+
+        final long lineNumber;
+        final List<Problem> problems;
+        final JsonException exception;
+
+        LineResult(long lineNumber, List<Problem> problems, JsonException exception) {
+            this.lineNumber = lineNumber;
+            this.problems = problems;
+            this.exception = exception;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.leadpony.justify.internal.validator;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,8 @@ import jakarta.json.stream.JsonParser;
 
 import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
 import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.evaluator.Evaluators;
+import org.leadpony.justify.internal.problem.SelectiveProblemDispatcher;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
@@ -40,13 +43,30 @@ import org.leadpony.justify.api.ProblemHandler;
  * @author leadpony
  */
 public class JsonValidator extends DefaultPointerAwareJsonParser
-    implements RootEvaluator, ParserEventHandler {
+    implements RootEvaluator, SelectiveProblemDispatcher, ParserEventHandler {
+
+    /*
+     * The maximum number of digits which always fits in a long.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
 
     private final JsonSchema rootSchema;
     private ProblemHandler problemHandler;
     private ParserEventHandler eventHandler;
     private Evaluator evaluator;
     private int depth;
+    private boolean failFast;
+    private boolean failed;
+
+    /*
+     * The values decoded at the current event, shared by all evaluators.
+     */
+    private String stringValue;
+    private int stringLength;
+    private BigDecimal numberValue;
+    private boolean longChecked;
+    private boolean longNumber;
+    private long longValue;
 
     private final List<Problem> currentProblems = new ArrayList<>();
 
@@ -75,10 +95,36 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         return this;
     }
 
+    /**
+     * Specifies whether this parser stops the validation at the first problem.
+     *
+     * @param failFast {@code true} to stop at the first problem.
+     * @return this parser.
+     */
+    public JsonValidator withFailFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    /**
+     * Validates all of the remaining instance without handing the events to
+     * anyone. The contents of arrays and objects which no evaluator needs are
+     * skipped by the underlying parser.
+     */
+    public void validateAll() {
+        while (hasNext()) {
+            Event event = next();
+            if (ParserEvents.isStartOfContainer(event) && canSkipContents()) {
+                skipContents();
+            }
+        }
+    }
+
     /* AbstractJsonParser */
 
     @Override
     protected Event process(Event event) {
+        clearDecodedValues();
         eventHandler.handleParserEvent(event, getParser());
         return event;
     }
@@ -97,11 +143,61 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         return getCurrentParser();
     }
 
+    @Override
+    public String getStringValue() {
+        if (stringValue == null) {
+            stringValue = getParser().getString();
+        }
+        return stringValue;
+    }
+
+    @Override
+    public int getStringLength() {
+        if (stringLength < 0) {
+            String value = getStringValue();
+            stringLength = value.codePointCount(0, value.length());
+        }
+        return stringLength;
+    }
+
+    @Override
+    public BigDecimal getNumberValue() {
+        if (numberValue == null) {
+            numberValue = getParser().getBigDecimal();
+        }
+        return numberValue;
+    }
+
+    @Override
+    public boolean hasLongValue() {
+        if (!longChecked) {
+            longNumber = consistsOfLongDigits(getStringValue());
+            if (longNumber) {
+                longValue = getParser().getLong();
+            }
+            longChecked = true;
+        }
+        return longNumber;
+    }
+
+    @Override
+    public long getLongValue() {
+        if (hasLongValue()) {
+            return longValue;
+        }
+        return getParser().getLong();
+    }
+
     @Override
     public boolean acceptsDefaultValues() {
         return false;
     }
 
+    @Override
+    public boolean failsFast() {
+        return failFast;
+    }
+
     @Override
     public void putDefaultProperties(Map<String, JsonValue> defaultValues) {
         assert false;
@@ -117,9 +213,70 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
     @Override
     public void dispatchProblem(Problem problem) {
         requireNonNull(problem, "problem");
+        if (failFast) {
+            if (failed) {
+                return;
+            }
+            failed = true;
+        }
         this.currentProblems.add(problem);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * In fail-fast mode, only the first problem is kept.
+     * </p>
+     */
+    @Override
+    public boolean acceptsProblem() {
+        return !failed;
+    }
+
+    /**
+     * Checks if the contents of the container which has just started are
+     * needed by the evaluators or not.
+     *
+     * @return {@code true} if the contents can be skipped.
+     */
+    private boolean canSkipContents() {
+        if (evaluator == null) {
+            return true;
+        }
+        // The start event was evaluated before the depth was incremented.
+        return Evaluators.canSkipContents(evaluator, depth - 1);
+    }
+
+    private void clearDecodedValues() {
+        stringValue = null;
+        stringLength = -1;
+        numberValue = null;
+        longChecked = false;
+    }
+
+    /**
+     * Checks if the text of a number consists only of the digits which always
+     * fit in {@code long}.
+     *
+     * @param text the text of the number.
+     * @return {@code true} if the number is an integer in the range of long.
+     */
+    private static boolean consistsOfLongDigits(String text) {
+        int length = text.length();
+        int start = (length > 0 && text.charAt(0) == '-') ? 1 : 0;
+        if (length == start || length - start > MAX_LONG_DIGITS) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Evaluator getRootEvaluator() {
         return this;
     }
@@ -150,7 +307,8 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         if (ParserEvents.isStartOfContainer(event)) {
             ++depth;
         }
-        if (result != Result.PENDING) {
+        // A problem reaching the root means the instance is invalid.
+        if (result != Result.PENDING || failed) {
             evaluator = null;
             this.eventHandler = ParserEventHandler.IDLE;
         }
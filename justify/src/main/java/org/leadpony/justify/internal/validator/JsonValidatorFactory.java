@@ -129,8 +129,13 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
         return value == Boolean.TRUE;
     }
 
+    private boolean failsFast() {
+        Object value = properties.get(ValidationConfig.FAIL_FAST);
+        return value == Boolean.TRUE;
+    }
+
     private JsonValidator createValiator(JsonParser parser) {
-        JsonValidator validator = newValidator(parser);
+        JsonValidator validator = newValidator(parser).withFailFast(failsFast());
         return validator.withHandler(this.handlerFactory.createProblemHandler(validator));
     }
 
@@ -22,13 +22,14 @@ import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.evaluator.schema.AlwaysFalseEvaluator;
+import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
 
 import jakarta.json.stream.JsonParser;
 
 /**
  * @author leadpony
  */
-public interface RootEvaluator extends Evaluator, EvaluatorContext, ProblemDispatcher {
+public interface RootEvaluator extends Evaluator, EvaluatorContext, ProblemDispatcher, ProblemBuilderFactory {
 
     /* As an Evaluator */
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A test class for {@link MappedInputStream}.
+ *
+ * @author leadpony
+ */
+public class MappedInputStreamTest {
+
+    private static final int WINDOW_SIZE = 7;
+
+    @TempDir
+    public Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 10, 100})
+    public void readShouldReadAllBytesAcrossWindows(int bufferSize) throws IOException {
+        byte[] content = createContent(100);
+        Path path = writeFile(content);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = openMapped(path)) {
+            byte[] buffer = new byte[bufferSize];
+            int length;
+            while ((length = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, length);
+            }
+        }
+
+        assertThat(out.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void readShouldReturnEachByteAsUnsigned() throws IOException {
+        byte[] content = createContent(20);
+        Path path = writeFile(content);
+
+        try (InputStream in = openMapped(path)) {
+            for (byte b : content) {
+                assertThat(in.read()).isEqualTo(b & 0xff);
+            }
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void skipShouldSkipAcrossWindows() throws IOException {
+        byte[] content = createContent(30);
+        Path path = writeFile(content);
+
+        try (InputStream in = openMapped(path)) {
+            assertThat(in.read()).isEqualTo(content[0] & 0xff);
+            assertThat(in.skip(10)).isEqualTo(10);
+            assertThat(in.read()).isEqualTo(content[11] & 0xff);
+            assertThat(in.available()).isEqualTo(18);
+            assertThat(in.skip(100)).isEqualTo(18);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void openShouldMapLargeFile() throws IOException {
+        byte[] content = createContent((int) MappedInputStream.MIN_MAPPED_SIZE);
+        Path path = writeFile(content);
+
+        try (InputStream in = MappedInputStream.open(path)) {
+            assertThat(in).isInstanceOf(MappedInputStream.class);
+        }
+    }
+
+    @Test
+    public void openShouldNotMapSmallFile() throws IOException {
+        Path path = writeFile(createContent(10));
+
+        try (InputStream in = MappedInputStream.open(path)) {
+            assertThat(in).isNotInstanceOf(MappedInputStream.class);
+        }
+    }
+
+    @Test
+    public void openShouldThrowNoSuchFileExceptionIfFileDoesNotExist() {
+        Throwable thrown = catchThrowable(() -> {
+            MappedInputStream.open(tempDir.resolve("nonexistent.json"));
+        });
+
+        assertThat(thrown).isInstanceOf(NoSuchFileException.class);
+    }
+
+    private Path writeFile(byte[] content) throws IOException {
+        return Files.write(tempDir.resolve("test.bin"), content);
+    }
+
+    private static InputStream openMapped(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new MappedInputStream(channel, channel.size(), WINDOW_SIZE);
+    }
+
+    private static byte[] createContent(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        return content;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A test class for {@link NameIndex}.
+ *
+ * @author leadpony
+ */
+public class NameIndexTest {
+
+    @Test
+    public void newPresenceShouldReturnAllNamesAsMissing() {
+        NameIndex index = NameIndex.of(Arrays.asList("foo", "bar", "baz"));
+        NameIndex.Presence presence = index.newPresence();
+
+        assertThat(presence.isComplete()).isFalse();
+        assertThat(presence.getMissingNames()).containsExactly("foo", "bar", "baz");
+    }
+
+    @Test
+    public void addShouldIgnoreUnknownAndDuplicateNames() {
+        NameIndex index = NameIndex.of(Arrays.asList("foo", "bar"));
+        NameIndex.Presence presence = index.newPresence();
+
+        assertThat(presence.add("qux")).isFalse();
+        assertThat(presence.add("bar")).isTrue();
+        assertThat(presence.add("bar")).isTrue();
+
+        assertThat(presence.isComplete()).isFalse();
+        assertThat(presence.getMissingNames()).containsExactly("foo");
+
+        presence.add("foo");
+        assertThat(presence.isComplete()).isTrue();
+        assertThat(presence.getMissingNames()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 128, 200})
+    public void presenceShouldTrackAnyNumberOfNames(int size) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            names.add("p" + i);
+        }
+        NameIndex index = NameIndex.of(names);
+        NameIndex.Presence presence = index.newPresence();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 0) {
+                presence.add(names.get(i));
+            } else {
+                expected.add(names.get(i));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(size);
+        assertThat(presence.getMissingNames()).containsExactlyElementsOf(expected);
+        assertThat(presence.isComplete()).isEqualTo(expected.isEmpty());
+
+        expected.forEach(presence::add);
+        assertThat(presence.isComplete()).isTrue();
+    }
+}
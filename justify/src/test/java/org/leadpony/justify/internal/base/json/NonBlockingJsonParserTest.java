@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A test class for {@link NonBlockingJsonParser}.
+ *
+ * @author leadpony
+ */
+public class NonBlockingJsonParserTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{}",
+            "[]",
+            "\"\"",
+            "0",
+            "-0.5e+10",
+            "12345678901234567890",
+            "true",
+            " null ",
+            "{\"a\":1,\"b\":[false,{\"c\":\"d\"}],\"e\":{}}",
+            "[\"\\u00e9\\t\\\"\\\\\\/\", \"\u65e5\u672c\u8a9e\", \"\\ud83d\\ude00\"]",
+            "[1.0, 2E3, -0, 100]\n",
+    })
+    public void nextShouldReturnSameEventsAsBlockingParser(String json) {
+        List<String> expected = new ArrayList<>();
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            while (parser.hasNext()) {
+                expected.add(describe(parser.next(), parser));
+            }
+        }
+
+        List<String> actual = new ArrayList<>();
+        NonBlockingJsonParser parser = new NonBlockingJsonParser(PROVIDER);
+        for (byte b : json.getBytes(StandardCharsets.UTF_8)) {
+            parser.feed(ByteBuffer.wrap(new byte[] {b}));
+            while (parser.hasNext()) {
+                actual.add(describe(parser.next(), parser));
+            }
+        }
+        parser.end();
+        while (parser.hasNext()) {
+            actual.add(describe(parser.next(), parser));
+        }
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "{",
+            "[1,]",
+            "{\"a\" 1}",
+            "{\"a\":1,}",
+            "01",
+            "-",
+            "1.",
+            "1e",
+            "tru",
+            "nul1",
+            "\"abc",
+            "\"\\x\"",
+            "[1] 2",
+    })
+    public void shouldThrowJsonParsingExceptionIfMalformed(String json) {
+        NonBlockingJsonParser parser = new NonBlockingJsonParser(PROVIDER);
+
+        Throwable thrown = catchThrowable(() -> {
+            parser.feed(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+            parser.end();
+        });
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    public void endShouldThrowJsonParsingExceptionIfCharacterIsIncomplete(int length) {
+        NonBlockingJsonParser parser = new NonBlockingJsonParser(PROVIDER);
+        byte[] bytes = "\"\ud83d\ude00\"".getBytes(StandardCharsets.UTF_8);
+        parser.feed(ByteBuffer.wrap(bytes, 0, 1 + length));
+
+        Throwable thrown = catchThrowable(parser::end);
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
+    @Test
+    public void nextShouldScanChunkLazily() {
+        NonBlockingJsonParser parser = new NonBlockingJsonParser(PROVIDER);
+        parser.feed(ByteBuffer.wrap("[1,2,x]".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(parser.next()).isEqualTo(Event.START_ARRAY);
+        assertThat(parser.next()).isEqualTo(Event.VALUE_NUMBER);
+        assertThat(parser.next()).isEqualTo(Event.VALUE_NUMBER);
+
+        Throwable thrown = catchThrowable(parser::hasNext);
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
+    @Test
+    public void feedShouldThrowIllegalStateExceptionIfChunkIsNotConsumed() {
+        NonBlockingJsonParser parser = new NonBlockingJsonParser(PROVIDER);
+        parser.feed(ByteBuffer.wrap("[1,".getBytes(StandardCharsets.UTF_8)));
+        parser.next();
+
+        Throwable thrown = catchThrowable(() -> {
+            parser.feed(ByteBuffer.wrap("2]".getBytes(StandardCharsets.UTF_8)));
+        });
+
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void nextShouldSkipByteOrderMark() {
+        NonBlockingJsonParser parser = new NonBlockingJsonParser(PROVIDER);
+        parser.feed(ByteBuffer.wrap("\ufeff{}".getBytes(StandardCharsets.UTF_8)));
+        parser.end();
+
+        assertThat(parser.next()).isEqualTo(Event.START_OBJECT);
+        assertThat(parser.next()).isEqualTo(Event.END_OBJECT);
+        assertThat(parser.hasNext()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-16", "UTF-16BE", "UTF-16LE", "UTF-32BE", "UTF-32LE"})
+    public void feedShouldThrowJsonParsingExceptionIfNotEncodedInUtf8(String encoding) {
+        NonBlockingJsonParser parser = new NonBlockingJsonParser(PROVIDER);
+        byte[] bytes = "{}".getBytes(Charset.forName(encoding));
+
+        Throwable thrown = catchThrowable(() -> {
+            parser.feed(ByteBuffer.wrap(bytes));
+            parser.end();
+        });
+
+        assertThat(thrown)
+            .isInstanceOf(JsonParsingException.class)
+            .hasMessageContaining("UTF-16");
+    }
+
+    private static String describe(Event event, JsonParser parser) {
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            return event + ":" + parser.getString();
+        case VALUE_NUMBER:
+            return event + ":" + parser.getBigDecimal() + ":" + parser.isIntegralNumber();
+        default:
+            return event.toString();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A test class for {@link ReplayableJsonParser}.
+ *
+ * @author leadpony
+ */
+public class ReplayableJsonParserTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String JSON = "{\"a\":\"foo\",\"b\":[1,2.5,1e2],\n"
+            + "\"c\":{\"d\":true,\"e\":null},\"f\":-12345678901234567890}";
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 7, 18, 21})
+    public void nextShouldReplayRecordedEvents(int recorded) {
+        List<String> expected = describeEvents(createParser(JSON));
+
+        ReplayableJsonParser parser = new ReplayableJsonParser(createParser(JSON), PROVIDER);
+        for (int i = 0; i < recorded && parser.hasNext(); i++) {
+            parser.next();
+        }
+        parser.replay();
+        List<String> actual = describeEvents(parser);
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 5, 21})
+    public void getValueShouldReturnSameValueAsOriginal(int recorded) {
+        JsonValue expected = Json.createReader(new StringReader(JSON)).readValue();
+
+        ReplayableJsonParser parser = new ReplayableJsonParser(createParser(JSON), PROVIDER);
+        for (int i = 0; i < recorded && parser.hasNext(); i++) {
+            parser.next();
+        }
+        parser.replay();
+        parser.next();
+        JsonValue actual = parser.getValue();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(parser.hasNext()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 4, 21})
+    public void skipObjectShouldSkipRecordedAndRemainingEvents(int recorded) {
+        ReplayableJsonParser parser = new ReplayableJsonParser(createParser(JSON), PROVIDER);
+        for (int i = 0; i < recorded && parser.hasNext(); i++) {
+            parser.next();
+        }
+        parser.replay();
+        parser.next();
+        parser.skipObject();
+
+        assertThat(parser.hasNext()).isFalse();
+    }
+
+    private static JsonParser createParser(String json) {
+        return PROVIDER.createParser(new StringReader(json));
+    }
+
+    private static List<String> describeEvents(JsonParser parser) {
+        List<String> events = new ArrayList<>();
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            StringBuilder builder = new StringBuilder(event.name());
+            switch (event) {
+            case KEY_NAME:
+            case VALUE_STRING:
+                builder.append(' ').append(parser.getString());
+                break;
+            case VALUE_NUMBER:
+                builder.append(' ').append(parser.getString())
+                    .append(' ').append(parser.isIntegralNumber())
+                    .append(' ').append(parser.getBigDecimal())
+                    .append(' ').append(parser.getLong())
+                    .append(' ').append(parser.getValue());
+                break;
+            default:
+                break;
+            }
+            JsonLocation location = parser.getLocation();
+            builder.append(" @").append(location.getLineNumber())
+                .append(':').append(location.getColumnNumber())
+                .append(':').append(location.getStreamOffset());
+            events.add(builder.toString());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test class for {@link StructuralHasher}.
+ *
+ * @author leadpony
+ */
+public class StructuralHasherTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "42|42.0",
+        "100|1E+2",
+        "0|-0.0",
+        "1.5|1.50",
+        "12345678901234567890123|1.2345678901234567890123E22",
+        "\"foo\"|\"foo\"",
+        "[1,\"a\",null]|[1.0,\"a\",null]",
+        "{\"a\":1,\"b\":[true]}|{\"b\":[true],\"a\":1}",
+        "{}|{}",
+        "[]|[]",
+    })
+    public void equalValuesShouldHaveSameHash(String first, String second) {
+        long[] firstHash = hash(first);
+        long[] secondHash = hash(second);
+
+        assertThat(secondHash).containsExactly(firstHash);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "42|43",
+        "1|\"1\"",
+        "true|false",
+        "null|false",
+        "0|false",
+        "\"\"|null",
+        "[]|{}",
+        "[1,2]|[2,1]",
+        "[[1],2]|[1,[2]]",
+        "{\"a\":1}|{\"a\":2}",
+        "{\"a\":1}|{\"b\":1}",
+        "{\"a\":1,\"b\":2}|{\"a\":2,\"b\":1}",
+        "[{}]|[[]]",
+        "\"ab\"|\"ba\"",
+    })
+    public void differentValuesShouldHaveDifferentHashes(String first, String second) {
+        long[] firstHash = hash(first);
+        long[] secondHash = hash(second);
+
+        assertThat(secondHash).isNotEqualTo(firstHash);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[1,{\"a\":[2,3]},\"x\",1.0]",
+    })
+    public void hasherShouldBeReusable(String source) {
+        StructuralHasher hasher = new StructuralHasher();
+        long[][] hashes = new long[4][];
+        int index = 0;
+        boolean inItem = false;
+        try (JsonParser parser = Json.createParser(new StringReader(source))) {
+            parser.next();
+            while (parser.hasNext()) {
+                JsonParser.Event event = parser.next();
+                if (!inItem && event == JsonParser.Event.END_ARRAY) {
+                    break;
+                }
+                inItem = hasher.append(event, parser);
+                if (!inItem) {
+                    hashes[index++] = new long[] {hasher.getHigh(), hasher.getLow()};
+                }
+            }
+        }
+
+        assertThat(index).isEqualTo(4);
+        assertThat(hashes[3]).containsExactly(hashes[0]);
+        assertThat(hashes[1]).isEqualTo(hash("{\"a\":[2,3]}"));
+    }
+
+    private static long[] hash(String source) {
+        StructuralHasher hasher = new StructuralHasher();
+        try (JsonParser parser = Json.createParser(new StringReader(source))) {
+            while (parser.hasNext()) {
+                if (!hasher.append(parser.next(), parser)) {
+                    break;
+                }
+            }
+        }
+        return new long[] {hasher.getHigh(), hasher.getLow()};
+    }
+}
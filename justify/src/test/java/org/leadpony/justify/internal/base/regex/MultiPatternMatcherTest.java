@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test class for {@link MultiPatternMatcher}.
+ *
+ * @author leadpony
+ */
+public class MultiPatternMatcherTest {
+
+    private static final String[] PATTERNS = {
+        "^x-",
+        "_id$",
+        "a+b",
+        "colou?r",
+        "^[0-9]+$",
+        "(foo|bar)baz",
+        "ab{2}c",
+        "a|b",
+        "(?i)case",
+        "\\.json",
+        "x😀?y",
+        "",
+    };
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "^x-;x-",
+        "_id$;_id",
+        "a+b;a",
+        "colou?r;colo",
+        "^[0-9]+$;",
+        "(foo|bar)baz;baz",
+        "ab{2}c;a",
+        "a|b;",
+        "(?i)case;",
+        "\\.json;.json",
+        "[a-z]*suffix;suffix",
+        "\\d+px;px",
+        "\\x41BC;",
+    })
+    public void extractRequiredLiteralShouldReturnLiteral(String regex, String expected) {
+        String actual = MultiPatternMatcher.extractRequiredLiteral(Pattern.compile(regex));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "x-name",
+        "user_id",
+        "caab",
+        "color",
+        "colr",
+        "123",
+        "12a",
+        "foobaz",
+        "bazbaz",
+        "abbc",
+        "abc",
+        "CASE",
+        "schema.json",
+        "schema-json",
+        "xy",
+        "x😀y",
+        "''",
+    })
+    public void findShouldFindSamePatternsAsRegex(String input) {
+        List<Pattern> patterns = Stream.of(PATTERNS)
+                .map(Pattern::compile)
+                .collect(Collectors.toList());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patterns.get(i).matcher(input).find()) {
+                expected.add(i);
+            }
+        }
+
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+        List<Integer> actual = new ArrayList<>();
+        boolean found = matcher.find(input, actual::add);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(found).isEqualTo(!expected.isEmpty());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "key10",
+        "key99",
+        "key100",
+        "nokey",
+    })
+    public void findShouldSupportManyPatterns(String input) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            patterns.add(Pattern.compile("^key" + i + "$"));
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patterns.get(i).matcher(input).find()) {
+                expected.add(i);
+            }
+        }
+
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+        List<Integer> actual = new ArrayList<>();
+        matcher.find(input, actual::add);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+}
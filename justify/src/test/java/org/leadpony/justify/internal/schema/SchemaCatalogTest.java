@@ -18,8 +18,15 @@ package org.leadpony.justify.internal.schema;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonValue;
@@ -54,6 +61,60 @@ public class SchemaCatalogTest {
         assertThat(actual).isEqualTo(schema);
     }
 
+    @Test
+    public void resolveSchemaShouldLoadSchemaOnlyOnce() {
+        SchemaCatalog catalog = new SchemaCatalog();
+        URI id = URI.create("http://example.com/root.json");
+        AtomicInteger loads = new AtomicInteger();
+        catalog.addSchema(id, () -> {
+            loads.incrementAndGet();
+            return createSchema(id);
+        });
+
+        JsonSchema first = catalog.resolveSchema(id);
+        JsonSchema second = catalog.resolveSchema(URI.create("http://example.com/root.json#"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolveSchemaShouldLoadSchemaOnlyOnceFromMultipleThreads() throws Exception {
+        SchemaCatalog catalog = new SchemaCatalog();
+        URI id = URI.create("http://example.com/root.json");
+        AtomicInteger loads = new AtomicInteger();
+        catalog.addSchema(id, () -> {
+            loads.incrementAndGet();
+            return createSchema(id);
+        });
+
+        final int tasks = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(tasks);
+        try {
+            List<Callable<JsonSchema>> callables = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                callables.add(() -> catalog.resolveSchema(id));
+            }
+            List<Future<JsonSchema>> futures = executor.invokeAll(callables);
+            JsonSchema expected = futures.get(0).get();
+            for (Future<JsonSchema> future : futures) {
+                assertThat(future.get()).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolveSchemaShouldReturnNullForUnknownId() {
+        SchemaCatalog catalog = new SchemaCatalog();
+
+        JsonSchema actual = catalog.resolveSchema(URI.create("http://example.com/unknown.json"));
+        assertThat(actual).isNull();
+    }
+
     private static JsonSchema createSchema(URI uri) {
         JsonObjectBuilder builder = jsonProvider.createObjectBuilder();
         Map<String, Keyword> keywords = new HashMap<>();
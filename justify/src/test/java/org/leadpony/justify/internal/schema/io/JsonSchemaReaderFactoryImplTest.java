@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.spi.JsonProvider;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.api.keyword.KeywordValueSetLoader;
+import org.leadpony.justify.internal.base.json.JsonService;
+import org.leadpony.justify.internal.schema.SchemaCatalog;
+
+/**
+ * A test class for {@link JsonSchemaReaderFactoryImpl}.
+ *
+ * @author leadpony
+ */
+public class JsonSchemaReaderFactoryImplTest {
+
+    private static final String DRAFT07_SCHEMA =
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"format\":\"email\"}";
+    private static final String DRAFT04_SCHEMA =
+            "{\"$schema\":\"http://json-schema.org/draft-04/schema#\",\"format\":\"email\"}";
+
+    @Test
+    public void createSchemaReaderShouldBuildKeywordTypesOnlyOnce() {
+        CountingLoader loader = new CountingLoader();
+        JsonSchemaReaderFactory factory = createFactory(loader, false);
+
+        readSchema(factory, DRAFT07_SCHEMA);
+        int loads = loader.getLoads();
+        readSchema(factory, DRAFT07_SCHEMA);
+        readSchema(factory, DRAFT07_SCHEMA);
+
+        assertThat(loads).isPositive();
+        assertThat(loader.getLoads()).isEqualTo(loads);
+    }
+
+    @Test
+    public void createSchemaReaderShouldBuildKeywordTypesOncePerVersion() {
+        CountingLoader loader = new CountingLoader();
+        JsonSchemaReaderFactory factory = createFactory(loader, true);
+
+        readSchema(factory, DRAFT07_SCHEMA);
+        int loads = loader.getLoads();
+        readSchema(factory, DRAFT04_SCHEMA);
+        int moreLoads = loader.getLoads();
+        readSchema(factory, DRAFT07_SCHEMA);
+        readSchema(factory, DRAFT04_SCHEMA);
+
+        assertThat(moreLoads).isGreaterThan(loads);
+        assertThat(loader.getLoads()).isEqualTo(moreLoads);
+    }
+
+    private static JsonSchemaReaderFactory createFactory(KeywordValueSetLoader loader, boolean detection) {
+        JsonService jsonService = new JsonService(JsonProvider.provider());
+        return JsonSchemaReaderFactoryImpl.builder(jsonService, loader, new SchemaCatalog())
+                .withDefaultSpecVersion(SpecVersion.DRAFT_07)
+                .withSchemaValidation(false)
+                .withCustomFormatAttributes(true)
+                .withSpecVersionDetection(detection)
+                .build();
+    }
+
+    private static JsonSchema readSchema(JsonSchemaReaderFactory factory, String schema) {
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(schema))) {
+            return reader.read();
+        }
+    }
+
+    /**
+     * A loader which counts the number of loads.
+     *
+     * @author leadpony
+     */
+    private static class CountingLoader implements KeywordValueSetLoader {
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public <T> Set<T> loadKeywordValueSet(Class<T> type) {
+            loads.incrementAndGet();
+            return Collections.emptySet();
+        }
+
+        int getLoads() {
+            return loads.get();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.internal.problem.ProblemBuilder;
+
+/**
+ * A test class for {@link JsonValidator}.
+ *
+ * @author leadpony
+ */
+public class JsonValidatorTest {
+
+    private static final JsonValidationService SERVICE = JsonValidationService.newInstance();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"items\":{\"type\":\"string\"}}|[1,2,3]|3",
+        "{\"properties\":{\"a\":{\"anyOf\":[{\"type\":\"string\"},{\"minimum\":10}]},"
+            + "\"b\":{\"type\":\"string\"}}}|{\"a\":1,\"b\":2}|4",
+        "{\"oneOf\":[{\"type\":\"string\"},{\"type\":\"boolean\"}]}|1|3",
+        "{\"contains\":{\"type\":\"string\"}}|[1,2,3]|4",
+        "{\"not\":{\"type\":\"integer\",\"minimum\":0}}|5|3",
+    })
+    public void validateAllShouldBuildAllProblems(String schema, String instance, int expected) {
+        List<Problem> problems = new ArrayList<>();
+        CountingValidator validator = createValidator(schema, instance);
+        validator.withHandler(problems::addAll);
+
+        validator.validateAll();
+        validator.close();
+
+        assertThat(problems).isNotEmpty();
+        assertThat(validator.getBuilders()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"items\":{\"type\":\"string\"}}|[1,2,3]",
+        "{\"properties\":{\"a\":{\"anyOf\":[{\"type\":\"string\"},{\"minimum\":10}]},"
+            + "\"b\":{\"type\":\"string\"}}}|{\"a\":1,\"b\":2}",
+        "{\"oneOf\":[{\"type\":\"string\"},{\"type\":\"boolean\"}]}|1",
+        "{\"contains\":{\"type\":\"string\"}}|[1,2,3]",
+        "{\"not\":{\"type\":\"integer\",\"minimum\":0}}|5",
+    })
+    public void validateAllShouldBuildFirstProblemOnlyIfFailingFast(String schema, String instance) {
+        List<Problem> problems = new ArrayList<>();
+        CountingValidator validator = createValidator(schema, instance);
+        validator.withHandler(problems::addAll).withFailFast(true);
+
+        validator.validateAll();
+        validator.close();
+
+        assertThat(problems).hasSize(1);
+        assertThat(validator.getBuilders()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"if\":{\"type\":\"string\"},\"then\":{\"minLength\":1}}|1",
+        "{\"if\":{\"minimum\":10},\"else\":{\"type\":\"integer\"}}|1",
+    })
+    public void validateAllShouldNotBuildProblemsFoundByIf(String schema, String instance) {
+        CountingValidator validator = createValidator(schema, instance);
+
+        validator.validateAll();
+        validator.close();
+
+        assertThat(validator.getBuilders()).isZero();
+    }
+
+    private static CountingValidator createValidator(String schema, String instance) {
+        JsonSchema jsonSchema = SERVICE.readSchema(new StringReader(schema));
+        JsonParser parser = Json.createParser(new StringReader(instance));
+        return new CountingValidator(parser, jsonSchema);
+    }
+
+    /**
+     * A validator which counts the problem builders created.
+     *
+     * @author leadpony
+     */
+    private static class CountingValidator extends JsonValidator {
+
+        private int builders;
+
+        CountingValidator(JsonParser parser, JsonSchema schema) {
+            super(parser, schema, JsonProvider.provider());
+        }
+
+        int getBuilders() {
+            return builders;
+        }
+
+        @Override
+        public ProblemBuilder createProblemBuilder(JsonLocation location, String pointer) {
+            ++builders;
+            return super.createProblemBuilder(location, pointer);
+        }
+    }
+}